@@ -0,0 +1,98 @@
+package com.project.itda.benchmark;
+
+import com.project.itda.domain.meeting.entity.Meeting;
+import com.project.itda.domain.meeting.enums.MeetingStatus;
+import com.project.itda.domain.meeting.enums.MeetingTimeSlot;
+import com.project.itda.domain.meeting.repository.MeetingRepository;
+import com.project.itda.domain.user.entity.User;
+import org.springframework.data.domain.PageImpl;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 모임 카탈로그
+ * - 고정 시드 → 실행마다 같은 데이터 (전후 비교 가능)
+ * - 카테고리/세부카테고리/vibe/시간대/비용/좌표 분포는 실제 데이터와 비슷하게 설정
+ */
+public final class SyntheticMeetings {
+
+    public static final String[][] CATEGORIES = {
+            {"스포츠", "러닝", "클라이밍", "배드민턴", "요가"},
+            {"맛집", "한식", "양식", "일식", "분식"},
+            {"카페", "디저트", "브런치", "베이커리"},
+            {"문화예술", "전시", "공연", "영화"},
+            {"스터디", "코딩", "어학", "독서"},
+            {"소셜", "보드게임", "와인", "방탈출"}
+    };
+
+    public static final String[] VIBES = {"활기찬", "여유로운", "힐링", "즐거운", "차분한", "신나는", "진지한"};
+
+    private static final String[] AREAS = {"강남", "홍대", "성수", "잠실", "여의도", "신촌", "건대", "종로"};
+
+    private static final long SEED = 20241L;
+
+    private SyntheticMeetings() {
+    }
+
+    public static List<Meeting> catalog(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        User organizer = User.builder()
+                .userId(1L)
+                .email("bench@itda.com")
+                .username("bench")
+                .build();
+
+        List<Meeting> meetings = new ArrayList<>(size);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < size; i++) {
+            String[] category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String subcategory = category[1 + random.nextInt(category.length - 1)];
+            String area = AREAS[random.nextInt(AREAS.length)];
+            LocalDateTime time = base.plusHours(random.nextInt(24 * 90));
+
+            meetings.add(Meeting.builder()
+                    .meetingId((long) i + 1)
+                    .organizer(organizer)
+                    .title(area + " " + subcategory + " 같이 해요 #" + i)
+                    .description(category[0] + " 좋아하는 분들과 " + subcategory + " 모임입니다. 초보 환영!")
+                    .category(category[0])
+                    .subcategory(subcategory)
+                    .meetingTime(time)
+                    .timeSlot(MeetingTimeSlot.fromHour(time.getHour()))
+                    .locationName(area + "역 " + (random.nextInt(9) + 1) + "번 출구")
+                    .locationAddress("서울특별시 " + area + "로 " + random.nextInt(500))
+                    .latitude(37.45 + random.nextDouble() * 0.2)
+                    .longitude(126.85 + random.nextDouble() * 0.3)
+                    .locationType(random.nextInt(3) == 0 ? Meeting.LocationType.OUTDOOR : Meeting.LocationType.INDOOR)
+                    .vibe(VIBES[random.nextInt(VIBES.length)])
+                    .maxParticipants(4 + random.nextInt(12))
+                    .currentParticipants(1 + random.nextInt(4))
+                    .expectedCost(random.nextInt(10) * 5000)
+                    .status(MeetingStatus.RECRUITING)
+                    .avgRating(3.0 + random.nextDouble() * 2)
+                    .ratingCount(random.nextInt(50))
+                    .build());
+        }
+        return meetings;
+    }
+
+    /**
+     * findByStatus 만 카탈로그를 돌려주는 MeetingRepository (DB 없이 서비스 로직만 측정)
+     */
+    public static MeetingRepository repositoryOf(List<Meeting> catalog) {
+        return (MeetingRepository) Proxy.newProxyInstance(
+                MeetingRepository.class.getClassLoader(),
+                new Class<?>[]{MeetingRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByStatus" -> new PageImpl<>(catalog);
+                    case "toString" -> "SyntheticMeetingRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
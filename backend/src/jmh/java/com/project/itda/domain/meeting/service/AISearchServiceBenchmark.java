@@ -0,0 +1,71 @@
+package com.project.itda.domain.meeting.service;
+
+import com.project.itda.benchmark.SyntheticMeetings;
+import com.project.itda.domain.meeting.dto.request.AISearchRequest;
+import com.project.itda.domain.meeting.dto.response.AISearchResponse;
+import com.project.itda.domain.meeting.entity.Meeting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * AISearchService.searchForAI 소프트 필터 체인 (카탈로그 1k ~ 100k)
+ * - 저장소는 합성 카탈로그를 돌려주는 프록시 → 필터/정렬/DTO 변환 비용만 측정
+ */
+@State(Scope.Benchmark)
+public class AISearchServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int catalogSize;
+
+    private AISearchService service;
+    private AISearchRequest fullChain;
+    private AISearchRequest nearMe;
+    private AISearchRequest categoryOnly;
+
+    @Setup
+    public void setUp() {
+        List<Meeting> catalog = SyntheticMeetings.catalog(catalogSize);
+        service = new AISearchService(SyntheticMeetings.repositoryOf(catalog));
+
+        fullChain = AISearchRequest.builder()
+                .category("스포츠")
+                .subcategory("러닝")
+                .vibe("활기찬")
+                .timeSlot("morning,evening")
+                .maxCost(20000)
+                .locationQuery("강남")
+                .keywords(List.of("초보", "같이"))
+                .build();
+
+        nearMe = AISearchRequest.builder()
+                .category("카페")
+                .locationQuery("집 근처")
+                .userLocation(new AISearchRequest.UserLocation(37.5, 127.0))
+                .radius(5.0)
+                .build();
+
+        categoryOnly = AISearchRequest.builder()
+                .category("맛집")
+                .build();
+    }
+
+    @Benchmark
+    public AISearchResponse fullSoftFilterChain() {
+        return service.searchForAI(fullChain);
+    }
+
+    @Benchmark
+    public AISearchResponse nearMeWithDistanceSort() {
+        return service.searchForAI(nearMe);
+    }
+
+    @Benchmark
+    public AISearchResponse categoryOnly() {
+        return service.searchForAI(categoryOnly);
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.itda.domain.meeting.service;
+
+import com.project.itda.benchmark.SyntheticMeetings;
+import com.project.itda.domain.meeting.dto.request.MeetingSearchRequest;
+import com.project.itda.domain.meeting.entity.Meeting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * MeetingSearchService.applyFilters (위치/날짜/카테고리 검색 후 메모리 필터)
+ */
+@State(Scope.Benchmark)
+public class MeetingSearchFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int catalogSize;
+
+    private MeetingSearchService service;
+    private List<Meeting> catalog;
+    private MeetingSearchRequest attributeFilters;
+    private MeetingSearchRequest keywordTokens;
+
+    @Setup
+    public void setUp() {
+        catalog = SyntheticMeetings.catalog(catalogSize);
+        service = new MeetingSearchService(SyntheticMeetings.repositoryOf(catalog));
+
+        // 필드 순서: keyword, category, subcategory, startDate, endDate, latitude, longitude, radius,
+        //          locationType, vibe, timeSlot, status, page, size, sortBy, sortDirection
+        attributeFilters = new MeetingSearchRequest(
+                null, "스포츠", null, null, null, null, null, null,
+                "indoor", null, "evening", "recruiting", 0, 20, null, null);
+
+        keywordTokens = new MeetingSearchRequest(
+                "성수 브런치 와인", null, null, null, null, null, null, null,
+                null, null, null, null, 0, 20, null, null);
+    }
+
+    @Benchmark
+    public List<Meeting> attributeFilters() {
+        return service.applyFilters(catalog, attributeFilters);
+    }
+
+    @Benchmark
+    public List<Meeting> keywordTokens() {
+        return service.applyFilters(catalog, keywordTokens);
+    }
+}
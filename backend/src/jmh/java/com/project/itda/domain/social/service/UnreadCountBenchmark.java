@@ -0,0 +1,53 @@
+package com.project.itda.domain.social.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * ChatMessageService.getChatMessages 의 안 읽은 수 계산 (메시지 한 페이지 × 참여자)
+ */
+@State(Scope.Benchmark)
+public class UnreadCountBenchmark {
+
+    @Param({"50", "200"})
+    public int pageSize;
+
+    @Param({"4", "30", "300"})
+    public int participants;
+
+    private List<LocalDateTime> lastReadTimes;
+    private List<LocalDateTime> sentTimes;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(3L);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        sentTimes = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            sentTimes.add(base.plusSeconds(i * 30L));
+        }
+
+        lastReadTimes = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            // 10% 는 아직 읽지 않음(null)
+            lastReadTimes.add(random.nextInt(10) == 0 ? null : base.plusSeconds(random.nextInt(pageSize * 30)));
+        }
+    }
+
+    @Benchmark
+    public void page(Blackhole bh) {
+        for (LocalDateTime sentAt : sentTimes) {
+            bh.consume(ChatMessageService.countUnread(lastReadTimes, sentAt));
+        }
+    }
+}
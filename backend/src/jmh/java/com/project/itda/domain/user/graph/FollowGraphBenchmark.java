@@ -0,0 +1,54 @@
+package com.project.itda.domain.user.graph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+
+/**
+ * FollowGraph 조회 - 맞팔 확인 / 모임 참여자와 팔로잉 교집합
+ */
+@State(Scope.Benchmark)
+public class FollowGraphBenchmark {
+
+    private static final int USERS = 100_000;
+
+    @Param({"50", "1000", "5000"})
+    public int followsPerUser;
+
+    private FollowGraph graph;
+    private long[] participants;
+    private long viewer;
+    private long other;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(5L);
+        FollowGraph.Builder builder = FollowGraph.builder();
+        // 소수 사용자만 많은 팔로잉 (나머지는 20명)
+        for (long user = 1; user <= USERS; user++) {
+            int degree = user % 1000 == 0 ? followsPerUser : 20;
+            for (int i = 0; i < degree; i++) {
+                builder.add(user, 1 + random.nextInt(USERS));
+            }
+        }
+        graph = builder.build();
+
+        viewer = 1000;
+        other = graph.following(viewer)[0];
+        participants = random.longs(30, 1, USERS + 1).sorted().distinct().toArray();
+    }
+
+    @Benchmark
+    public boolean isMutual() {
+        return graph.isMutual(viewer, other);
+    }
+
+    @Benchmark
+    public long[] friendsInMeeting() {
+        return graph.intersectFollowing(viewer, participants);
+    }
+}
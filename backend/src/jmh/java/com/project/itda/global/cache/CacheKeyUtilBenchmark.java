@@ -0,0 +1,40 @@
+package com.project.itda.global.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * CacheKeyUtil.matchKey (정렬 + join + SHA-256) - 모임 ID 개수별
+ */
+@State(Scope.Benchmark)
+public class CacheKeyUtilBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int meetingCount;
+
+    private final CacheKeyUtil cacheKeyUtil = new CacheKeyUtil();
+    private List<Long> meetingIds;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11L);
+        meetingIds = new ArrayList<>(meetingCount);
+        for (int i = 0; i < meetingCount; i++) {
+            meetingIds.add(1L + random.nextInt(100_000));
+        }
+        Collections.shuffle(meetingIds, new java.util.Random(11L));
+    }
+
+    @Benchmark
+    public String matchKey() {
+        return cacheKeyUtil.matchKey(42L, meetingIds);
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.itda.global.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonToMapConverter 왕복 (채팅 메시지 metadata - 정산(BILL) 메시지 크기 기준)
+ */
+@State(Scope.Benchmark)
+public class JsonToMapConverterBenchmark {
+
+    private final JsonToMapConverter converter = new JsonToMapConverter();
+    private Map<String, Object> billMetadata;
+    private String billJson;
+
+    @Setup
+    public void setUp() {
+        billMetadata = new LinkedHashMap<>();
+        billMetadata.put("messageId", 123456L);
+        billMetadata.put("totalAmount", 84000);
+        billMetadata.put("perPerson", 21000);
+        billMetadata.put("account", "카카오뱅크 3333-01-1234567");
+        billMetadata.put("participants", List.of(
+                Map.of("userId", 1, "nickname", "러너1", "paid", true),
+                Map.of("userId", 2, "nickname", "러너2", "paid", false),
+                Map.of("userId", 3, "nickname", "러너3", "paid", false),
+                Map.of("userId", 4, "nickname", "러너4", "paid", true)));
+        billJson = converter.convertToDatabaseColumn(billMetadata);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return converter.convertToDatabaseColumn(billMetadata);
+    }
+
+    @Benchmark
+    public Map<String, Object> deserialize() {
+        return converter.convertToEntityAttribute(billJson);
+    }
+
+    @Benchmark
+    public Map<String, Object> roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(billMetadata));
+    }
+}
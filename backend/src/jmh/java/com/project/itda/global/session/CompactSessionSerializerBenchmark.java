@@ -0,0 +1,112 @@
+package com.project.itda.global.session;
+
+import com.project.itda.domain.admin.enums.AdminRole;
+import com.project.itda.domain.auth.dto.SessionUser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 세션 속성 직렬화 - CompactSessionSerializer vs JDK 직렬화 (기존 방식)
+ * - 로그인 세션 전체 속성(메타데이터 Long, SessionUser, enum, 문자열) 기준
+ * - *Save: 전체 속성 직렬화, *Load: 요청 1회분 세션 로드 (전체 속성 역직렬화)
+ * - 보조 지표 payloadBytes: 세션 1개의 직렬화 크기 합 (Save 벤치마크에서 기록)
+ */
+@State(Scope.Benchmark)
+public class CompactSessionSerializerBenchmark {
+
+    private final CompactSessionSerializer compact = new CompactSessionSerializer(getClass().getClassLoader());
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer(getClass().getClassLoader());
+
+    private List<Object> attributes;
+    private List<byte[]> compactPayloads;
+    private List<byte[]> jdkPayloads;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        attributes = new ArrayList<>(sessionAttributes().values());
+        compactPayloads = attributes.stream().map(compact::serialize).toList();
+        jdkPayloads = attributes.stream().map(jdk::serialize).toList();
+    }
+
+    @Benchmark
+    public void compactSave(PayloadSize size, Blackhole blackhole) {
+        size.payloadBytes = save(compact::serialize, blackhole);
+    }
+
+    @Benchmark
+    public void jdkSave(PayloadSize size, Blackhole blackhole) {
+        size.payloadBytes = save(jdk::serialize, blackhole);
+    }
+
+    @Benchmark
+    public void compactLoad(Blackhole blackhole) {
+        for (byte[] payload : compactPayloads) {
+            blackhole.consume(compact.deserialize(payload));
+        }
+    }
+
+    @Benchmark
+    public void jdkLoad(Blackhole blackhole) {
+        for (byte[] payload : jdkPayloads) {
+            blackhole.consume(jdk.deserialize(payload));
+        }
+    }
+
+    private long save(Function<Object, byte[]> writer, Blackhole blackhole) {
+        long bytes = 0;
+        for (Object value : attributes) {
+            byte[] payload = writer.apply(value);
+            bytes += payload.length;
+            blackhole.consume(payload);
+        }
+        return bytes;
+    }
+
+    /**
+     * 일반 로그인 후 세션 구성 (CompactSessionSerializerTest 와 동일)
+     */
+    private static Map<String, Object> sessionAttributes() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("creationTime", 1_700_000_000_000L);
+        attributes.put("lastAccessedTime", 1_700_000_123_000L);
+        attributes.put("maxInactiveInterval", 1800);
+        attributes.put("sessionAttr:userId", 42L);
+        attributes.put("sessionAttr:email", "user42@it-da.cloud");
+        attributes.put("sessionAttr:username", "홍길동");
+        attributes.put("sessionAttr:nickname", "길동이");
+        attributes.put("sessionAttr:user", SessionUser.builder()
+                .userId(42L)
+                .email("user42@it-da.cloud")
+                .username("홍길동")
+                .nickname("길동이")
+                .picture("https://api.it-da.cloud/uploads/profile/42.png")
+                .build());
+        attributes.put("sessionAttr:adminRole", AdminRole.MODERATOR);
+        attributes.put("sessionAttr:verified", Boolean.TRUE);
+        return attributes;
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.itda.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+/**
+ * DistanceCalculator.calculate (Haversine) - 단건 / 1,000건 배치
+ */
+@State(Scope.Benchmark)
+public class DistanceCalculatorBenchmark {
+
+    private static final int POINTS = 1000;
+
+    private final double[] lats = new double[POINTS];
+    private final double[] lons = new double[POINTS];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 37.45 + random.nextDouble() * 0.2;
+            lons[i] = 126.85 + random.nextDouble() * 0.3;
+        }
+    }
+
+    @Benchmark
+    public double single() {
+        return DistanceCalculator.calculate(37.4979, 127.0276, lats[0], lons[0]);
+    }
+
+    @Benchmark
+    public void batchOf1000(Blackhole bh) {
+        for (int i = 0; i < POINTS; i++) {
+            bh.consume(DistanceCalculator.calculate(37.4979, 127.0276, lats[i], lons[i]));
+        }
+    }
+}
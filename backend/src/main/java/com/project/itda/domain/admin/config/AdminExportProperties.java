@@ -0,0 +1,28 @@
+package com.project.itda.domain.admin.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 관리자 목록 내보내기 (CSV / NDJSON 스트리밍) 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "admin.export")
+@Getter
+@Setter
+public class AdminExportProperties {
+
+    /**
+     * 응답 버퍼를 비우는 행 간격 (클라이언트가 바로 받기 시작하고 서버 버퍼는 일정하게 유지)
+     */
+    private int flushEveryRows = 500;
+
+    /**
+     * MVC 비동기 응답 타임아웃 - 전체 내보내기가 이 시간 안에 끝나야 함
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
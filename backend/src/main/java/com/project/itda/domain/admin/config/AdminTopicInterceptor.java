@@ -0,0 +1,59 @@
+package com.project.itda.domain.admin.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /topic/admin/** 접근 제한
+ * - 핸드셰이크 시 HTTP 세션에서 복사한 adminId 가 있어야 구독/발행 허용 (관리자 로그인 세션)
+ * - SUBSCRIBE 뿐 아니라 SEND 등 목적지를 가진 모든 클라이언트 프레임에 적용 (브로커로 직접 발행하는 위조 메시지 차단)
+ * - 패턴 목적지(*, ?, {})는 누구에게도 허용하지 않음
+ *   (SimpleBroker 는 Ant 패턴 구독을 지원 → /topic/** 구독으로 관리자/다른 사용자 토픽 수신 가능)
+ */
+@Slf4j
+@Component
+public class AdminTopicInterceptor implements ChannelInterceptor {
+
+    public static final String ADMIN_TOPIC_PREFIX = "/topic/admin/";
+    public static final String ADMIN_SESSION_ATTRIBUTE = "adminId";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return message;
+        }
+        if (isPattern(destination)) {
+            log.warn("❌ 패턴 목적지 거부: command={}, destination={}, sessionId={}",
+                    accessor.getCommand(), destination, accessor.getSessionId());
+            throw new AccessDeniedException("패턴 목적지는 사용할 수 없습니다");
+        }
+        if (!destination.startsWith(ADMIN_TOPIC_PREFIX)) {
+            return message;
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || attributes.get(ADMIN_SESSION_ATTRIBUTE) == null) {
+            StompCommand command = accessor.getCommand();
+            log.warn("❌ 관리자 토픽 접근 거부: command={}, destination={}, sessionId={}",
+                    command, destination, accessor.getSessionId());
+            throw new AccessDeniedException(command == StompCommand.SUBSCRIBE
+                    ? "관리자만 구독할 수 있습니다"
+                    : "관리자 토픽에는 메시지를 보낼 수 없습니다");
+        }
+        return message;
+    }
+
+    private boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.itda.domain.admin.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 대시보드 집계 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "admin.dashboard")
+@Getter
+@Setter
+public class DashboardStatsProperties {
+
+    /**
+     * DB 기준 재집계 주기 (ms) - 이벤트 누락 / 다른 인스턴스 변경 / 자정 경계 보정
+     */
+    private long refreshIntervalMs = 30_000;
+
+    /**
+     * 일별 스냅샷 저장 시각
+     */
+    private String snapshotCron = "0 1 0 * * *";
+}
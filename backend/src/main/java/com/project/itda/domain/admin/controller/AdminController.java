@@ -3,14 +3,23 @@ package com.project.itda.domain.admin.controller;
 import com.project.itda.domain.admin.dto.request.*;
 import com.project.itda.domain.admin.dto.response.*;
 import com.project.itda.domain.admin.entity.AdminUser;
+import com.project.itda.domain.admin.enums.ExportFormat;
 import com.project.itda.domain.admin.repository.AdminUserRepository;
+import com.project.itda.domain.admin.service.AdminExportService;
 import com.project.itda.domain.admin.service.AdminService;
+import com.project.itda.domain.log.dto.EndpointLatencyStats;
+import com.project.itda.domain.log.service.ApiLatencyService;
+import com.project.itda.global.cache.CacheStatsSnapshot;
+import com.project.itda.global.cache.LayeredCacheManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.project.itda.domain.admin.dto.response.InquiryListResponse;
 import com.project.itda.domain.admin.dto.response.InquiryDetailResponse;
 import com.project.itda.domain.admin.dto.response.AnnouncementResponse;
@@ -20,6 +29,8 @@ import com.project.itda.domain.admin.dto.request.ReportStatusRequest;
 import com.project.itda.domain.admin.dto.response.ReportResponse;
 import com.project.itda.domain.admin.dto.response.ReportListResponse;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,8 +40,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminController {
 
+    private static final DateTimeFormatter EXPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
     private final AdminService adminService;
+    private final AdminExportService adminExportService;
     private final AdminUserRepository adminUserRepository;
+    private final ApiLatencyService apiLatencyService;
+    private final LayeredCacheManager cacheManager;
 
     // ===== 기존 로그인 메서드 (그대로 유지) =====
     @PostMapping("/login")
@@ -135,6 +151,24 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 회원 목록 내보내기 (CSV / NDJSON 스트리밍, 목록과 같은 검색 조건)
+     */
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String search,
+            HttpSession session) {
+
+        Long adminId = (Long) session.getAttribute("adminId");
+        if (adminId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return exportResponse("users", exportFormat, adminExportService.exportUsers(exportFormat, search));
+    }
+
     /**
      * 회원 상세 조회
      */
@@ -193,6 +227,27 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 모임 목록 내보내기 (CSV / NDJSON 스트리밍, 목록과 같은 필터)
+     */
+    @GetMapping("/meetings/export")
+    public ResponseEntity<StreamingResponseBody> exportMeetings(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            HttpSession session) {
+
+        Long adminId = (Long) session.getAttribute("adminId");
+        if (adminId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return exportResponse("meetings", exportFormat,
+                adminExportService.exportMeetings(exportFormat, search, category, status));
+    }
+
     /**
      * 모임 상세 조회
      */
@@ -394,6 +449,24 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 신고 목록 내보내기 (CSV / NDJSON 스트리밍, 목록과 같은 상태 필터)
+     */
+    @GetMapping("/reports/export")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String status,
+            HttpSession session) {
+
+        Long adminId = (Long) session.getAttribute("adminId");
+        if (adminId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return exportResponse("reports", exportFormat, adminExportService.exportReports(exportFormat, status));
+    }
+
     /**
      * 신고 상세 조회
      */
@@ -428,4 +501,87 @@ public class AdminController {
         adminService.updateReportStatus(reportId, request, adminId);
         return ResponseEntity.ok("신고 상태가 변경되었습니다.");
     }
+
+    // ========== API 응답 시간 ==========
+
+    /**
+     * 엔드포인트별 응답 시간 통계 (p50/p95/p99, 에러율)
+     */
+    @GetMapping("/api-latency")
+    public ResponseEntity<List<EndpointLatencyStats>> getApiLatency(
+            @RequestParam(defaultValue = "60") int minutes,
+            HttpSession session) {
+
+        Long adminId = (Long) session.getAttribute("adminId");
+        if (adminId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return ResponseEntity.ok(apiLatencyService.getEndpointStats(now.minusMinutes(minutes), now));
+    }
+
+    /**
+     * 느린 엔드포인트 (p95 기준)
+     */
+    @GetMapping("/api-latency/slow")
+    public ResponseEntity<List<EndpointLatencyStats>> getSlowApis(
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(required = false) Long thresholdMs,
+            @RequestParam(defaultValue = "20") int limit,
+            HttpSession session) {
+
+        Long adminId = (Long) session.getAttribute("adminId");
+        if (adminId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return ResponseEntity.ok(apiLatencyService.getSlowEndpoints(now.minusMinutes(minutes), now, thresholdMs, limit));
+    }
+
+    /**
+     * 에러율 높은 엔드포인트
+     */
+    @GetMapping("/api-latency/errors")
+    public ResponseEntity<List<EndpointLatencyStats>> getErrorProneApis(
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "20") int limit,
+            HttpSession session) {
+
+        Long adminId = (Long) session.getAttribute("adminId");
+        if (adminId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return ResponseEntity.ok(apiLatencyService.getErrorProneEndpoints(now.minusMinutes(minutes), now, limit));
+    }
+
+    // ========== 캐시 ==========
+
+    /**
+     * 캐시별 적중/미스/로딩 시간/항목 수
+     */
+    @GetMapping("/caches/stats")
+    public ResponseEntity<List<CacheStatsSnapshot>> getCacheStats(HttpSession session) {
+        Long adminId = (Long) session.getAttribute("adminId");
+        if (adminId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(cacheManager.getStats());
+    }
+
+    /**
+     * 내보내기 응답 (첨부 파일: {대상}-{yyyyMMdd-HHmmss}.{확장자})
+     */
+    private ResponseEntity<StreamingResponseBody> exportResponse(String target, ExportFormat format,
+                                                                 StreamingResponseBody body) {
+        String filename = target + "-" + LocalDateTime.now().format(EXPORT_FILE_TIME) + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
 }
@@ -1,5 +1,7 @@
 package com.project.itda.domain.admin.dto.response;
 
+import com.project.itda.domain.badge.event.MeetingCreatedEvent;
+import com.project.itda.domain.meeting.repository.RecentMeetingRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,4 +19,24 @@ public class RecentMeetingResponse {
     private String categoryName;
     private Integer currentMembers;
     private LocalDateTime createdAt;
+
+    public static RecentMeetingResponse from(RecentMeetingRow row) {
+        return RecentMeetingResponse.builder()
+                .meetingId(row.getMeetingId())
+                .title(row.getTitle())
+                .categoryName(row.getCategory())
+                .currentMembers(row.getCurrentParticipants())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+
+    public static RecentMeetingResponse from(MeetingCreatedEvent event) {
+        return RecentMeetingResponse.builder()
+                .meetingId(event.getMeetingId())
+                .title(event.getTitle())
+                .categoryName(event.getCategory())
+                .currentMembers(event.getCurrentParticipants())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
 }
\ No newline at end of file
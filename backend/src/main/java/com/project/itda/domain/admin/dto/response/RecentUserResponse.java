@@ -1,5 +1,7 @@
 package com.project.itda.domain.admin.dto.response;
 
+import com.project.itda.domain.user.event.UserRegisteredEvent;
+import com.project.itda.domain.user.repository.RecentUserRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,4 +19,24 @@ public class RecentUserResponse {
     private String email;
     private LocalDateTime createdAt;
     private String status;
+
+    public static RecentUserResponse from(RecentUserRow row) {
+        return RecentUserResponse.builder()
+                .userId(row.getUserId())
+                .username(row.getUsername())
+                .email(row.getEmail())
+                .createdAt(row.getCreatedAt())
+                .status(row.getStatus() != null ? row.getStatus().name() : null)
+                .build();
+    }
+
+    public static RecentUserResponse from(UserRegisteredEvent event) {
+        return RecentUserResponse.builder()
+                .userId(event.getUserId())
+                .username(event.getUsername())
+                .email(event.getEmail())
+                .createdAt(event.getCreatedAt())
+                .status(event.getStatus() != null ? event.getStatus().name() : null)
+                .build();
+    }
 }
\ No newline at end of file
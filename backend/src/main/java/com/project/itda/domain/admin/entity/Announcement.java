@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_category", columnList = "category"),
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_pinned", columnList = "is_pinned"),
-        @Index(name = "idx_published", columnList = "published_at")
+        @Index(name = "idx_published", columnList = "published_at"),
+        @Index(name = "idx_created", columnList = "created_at")
 })
 @Getter
 @Setter
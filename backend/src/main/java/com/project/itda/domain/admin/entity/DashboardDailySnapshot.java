@@ -0,0 +1,45 @@
+package com.project.itda.domain.admin.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 일별 스냅샷 (해당 날짜 0시 기준 누적 수)
+ * - 증가율 기준값 (지난주 대비) 을 COUNT 없이 조회
+ */
+@Entity
+@Table(name = "admin_dashboard_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_snapshot_date", columnNames = "snapshot_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class DashboardDailySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "total_users", nullable = false)
+    private Long totalUsers;
+
+    @Column(name = "total_meetings", nullable = false)
+    private Long totalMeetings;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.itda.domain.admin.enums;
+
+/**
+ * 관리자 대시보드 실시간 카운터
+ */
+public enum DashboardCounter {
+    PENDING_REPORTS,        // 대기중인 신고
+    TODAY_ANNOUNCEMENTS,    // 오늘 작성된 공지사항
+    ACTIVE_MEETINGS,        // 활성 모임 (RECRUITING + FULL)
+    PENDING_INQUIRIES       // 대기중인 1:1 문의
+}
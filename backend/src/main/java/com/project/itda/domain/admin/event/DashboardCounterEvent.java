@@ -0,0 +1,31 @@
+package com.project.itda.domain.admin.event;
+
+import com.project.itda.domain.admin.enums.DashboardCounter;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 대시보드 카운터 증감 이벤트 (커밋 이후 DashboardStatsService 에 반영)
+ */
+@Getter
+public class DashboardCounterEvent extends ApplicationEvent {
+
+    private final DashboardCounter counter;
+    private final long delta;
+
+    public DashboardCounterEvent(DashboardCounter counter, long delta) {
+        super(counter);
+        this.counter = counter;
+        this.delta = delta;
+    }
+
+    /**
+     * 상태 변경 전/후 집계 포함 여부로 이벤트 생성 (변화 없으면 null)
+     */
+    public static DashboardCounterEvent transition(DashboardCounter counter, boolean countedBefore, boolean countedAfter) {
+        if (countedBefore == countedAfter) {
+            return null;
+        }
+        return new DashboardCounterEvent(counter, countedAfter ? 1 : -1);
+    }
+}
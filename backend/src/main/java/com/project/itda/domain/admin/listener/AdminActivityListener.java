@@ -0,0 +1,49 @@
+package com.project.itda.domain.admin.listener;
+
+import com.project.itda.domain.admin.dto.response.RecentMeetingResponse;
+import com.project.itda.domain.admin.dto.response.RecentUserResponse;
+import com.project.itda.domain.badge.event.MeetingCreatedEvent;
+import com.project.itda.domain.user.event.UserRegisteredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 관리자 실시간 활동 스트림 (신규 회원 / 신규 모임)
+ * - 관리자 화면은 처음 한 번만 최근 목록을 조회하고 이후에는 구독으로 갱신 (폴링 없음)
+ * - /topic/admin/** 구독은 AdminTopicInterceptor 가 관리자 세션만 허용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminActivityListener {
+
+    public static final String RECENT_USERS_TOPIC = "/topic/admin/recent-users";
+    public static final String RECENT_MEETINGS_TOPIC = "/topic/admin/recent-meetings";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserRegistered(UserRegisteredEvent event) {
+        try {
+            messagingTemplate.convertAndSend(RECENT_USERS_TOPIC, RecentUserResponse.from(event));
+        } catch (Exception e) {
+            log.warn("⚠️ 관리자 신규 회원 푸시 실패: userId={}, error={}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMeetingCreated(MeetingCreatedEvent event) {
+        try {
+            messagingTemplate.convertAndSend(RECENT_MEETINGS_TOPIC, RecentMeetingResponse.from(event));
+        } catch (Exception e) {
+            log.warn("⚠️ 관리자 신규 모임 푸시 실패: meetingId={}, error={}", event.getMeetingId(), e.getMessage());
+        }
+    }
+}
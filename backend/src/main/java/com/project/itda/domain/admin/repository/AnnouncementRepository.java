@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +39,6 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, Long
     // 고정 공지 조회
     @Query("SELECT a FROM Announcement a JOIN FETCH a.author WHERE a.isPinned = true AND a.status = 'PUBLISHED' ORDER BY a.publishedAt DESC")
     List<Announcement> findPinnedAnnouncements();
-}
\ No newline at end of file
+
+    long countByCreatedAtGreaterThanEqual(LocalDateTime from);
+}
@@ -0,0 +1,16 @@
+package com.project.itda.domain.admin.repository;
+
+import com.project.itda.domain.admin.entity.DashboardDailySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface DashboardDailySnapshotRepository extends JpaRepository<DashboardDailySnapshot, Long> {
+
+    Optional<DashboardDailySnapshot> findBySnapshotDate(LocalDate snapshotDate);
+
+    boolean existsBySnapshotDate(LocalDate snapshotDate);
+}
@@ -0,0 +1,34 @@
+package com.project.itda.domain.admin.repository;
+
+import com.project.itda.domain.admin.enums.ReportStatus;
+import com.project.itda.domain.admin.enums.ReportedType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 신고 내보내기 프로젝션 (처리 관리자 이름은 LEFT JOIN)
+ */
+public interface ReportExportRow {
+
+    Long getReportId();
+
+    Long getReporterId();
+
+    ReportedType getReportedType();
+
+    Long getReportedId();
+
+    String getReason();
+
+    String getDescription();
+
+    ReportStatus getStatus();
+
+    String getAdminNote();
+
+    String getResolvedByName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getResolvedAt();
+}
@@ -3,14 +3,18 @@ package com.project.itda.domain.admin.repository;
 import com.project.itda.domain.admin.entity.Report;
 import com.project.itda.domain.admin.enums.ReportStatus;
 import com.project.itda.domain.admin.enums.ReportedType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
@@ -53,4 +57,23 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
         ORDER BY r.createdAt DESC
     """)
     List<Report> findByReporterIdWithResolver(@Param("reporterId") Long reporterId);
+
+    long countByStatus(ReportStatus status);
+
+    // 관리자 신고 내보내기 (status null 이면 전체, MySQL 행 단위 스트리밍)
+    @Query("""
+        SELECT r.reportId AS reportId, r.reporterId AS reporterId, r.reportedType AS reportedType,
+               r.reportedId AS reportedId, r.reason AS reason, r.description AS description,
+               r.status AS status, r.adminNote AS adminNote, a.name AS resolvedByName,
+               r.createdAt AS createdAt, r.resolvedAt AS resolvedAt
+        FROM Report r
+        LEFT JOIN r.resolvedBy a
+        WHERE (:status IS NULL OR r.status = :status)
+        ORDER BY r.createdAt DESC, r.reportId DESC
+    """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReportExportRow> streamForExport(@Param("status") ReportStatus status);
 }
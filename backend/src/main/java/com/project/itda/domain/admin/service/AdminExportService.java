@@ -0,0 +1,163 @@
+package com.project.itda.domain.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.itda.domain.admin.config.AdminExportProperties;
+import com.project.itda.domain.admin.enums.ExportFormat;
+import com.project.itda.domain.admin.enums.ReportStatus;
+import com.project.itda.domain.admin.repository.ReportExportRow;
+import com.project.itda.domain.admin.repository.ReportRepository;
+import com.project.itda.domain.admin.service.ExportRowWriter.Column;
+import com.project.itda.domain.meeting.enums.MeetingStatus;
+import com.project.itda.domain.meeting.repository.MeetingExportRow;
+import com.project.itda.domain.meeting.repository.MeetingRepository;
+import com.project.itda.domain.user.repository.UserExportRow;
+import com.project.itda.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 목록 내보내기 (회원 / 모임 / 신고)
+ * - 페이징 목록 API 와 같은 필터, COUNT 쿼리 없음
+ * - 전진 전용 커서(MySQL 행 단위 스트리밍)로 읽으며 바로 응답에 기록 → 건수와 무관하게 메모리 일정
+ * - 응답은 MVC 비동기 스레드에서 기록되므로 읽기 전용 트랜잭션을 직접 열어 스트림 수명 동안 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+    private static final List<Column<UserExportRow>> USER_COLUMNS = List.of(
+            Column.of("userId", UserExportRow::getUserId),
+            Column.of("email", UserExportRow::getEmail),
+            Column.of("username", UserExportRow::getUsername),
+            Column.of("nickname", UserExportRow::getNickname),
+            Column.of("phone", UserExportRow::getPhone),
+            Column.of("address", UserExportRow::getAddress),
+            Column.of("status", UserExportRow::getStatus),
+            Column.of("createdAt", UserExportRow::getCreatedAt),
+            Column.of("lastLoginAt", UserExportRow::getLastLoginAt),
+            Column.of("meetingCount", UserExportRow::getMeetingCount),
+            Column.of("rating", UserExportRow::getRating)
+    );
+
+    private static final List<Column<MeetingExportRow>> MEETING_COLUMNS = List.of(
+            Column.of("meetingId", MeetingExportRow::getMeetingId),
+            Column.of("title", MeetingExportRow::getTitle),
+            Column.of("categoryName", MeetingExportRow::getCategory),
+            Column.of("subcategoryName", MeetingExportRow::getSubcategory),
+            Column.of("leaderName", MeetingExportRow::getLeaderName),
+            Column.of("leaderEmail", MeetingExportRow::getLeaderEmail),
+            Column.of("meetingDate", MeetingExportRow::getMeetingTime),
+            Column.of("location", MeetingExportRow::getLocationName),
+            Column.of("maxMembers", MeetingExportRow::getMaxParticipants),
+            Column.of("currentMembers", MeetingExportRow::getCurrentParticipants),
+            Column.of("expectedCost", MeetingExportRow::getExpectedCost),
+            Column.of("status", MeetingExportRow::getStatus),
+            Column.of("createdAt", MeetingExportRow::getCreatedAt),
+            Column.of("avgRating", MeetingExportRow::getAvgRating),
+            Column.of("reviewCount", MeetingExportRow::getReviewCount)
+    );
+
+    private static final List<Column<ReportExportRow>> REPORT_COLUMNS = List.of(
+            Column.of("reportId", ReportExportRow::getReportId),
+            Column.of("reporterId", ReportExportRow::getReporterId),
+            Column.of("reportedType", ReportExportRow::getReportedType),
+            Column.of("reportedId", ReportExportRow::getReportedId),
+            Column.of("reason", ReportExportRow::getReason),
+            Column.of("description", ReportExportRow::getDescription),
+            Column.of("status", ReportExportRow::getStatus),
+            Column.of("adminNote", ReportExportRow::getAdminNote),
+            Column.of("resolvedByName", ReportExportRow::getResolvedByName),
+            Column.of("createdAt", ReportExportRow::getCreatedAt),
+            Column.of("resolvedAt", ReportExportRow::getResolvedAt)
+    );
+
+    private final UserRepository userRepository;
+    private final MeetingRepository meetingRepository;
+    private final ReportRepository reportRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final AdminExportProperties properties;
+
+    /**
+     * 회원 내보내기 (검색어: 이름 또는 이메일 포함)
+     */
+    public StreamingResponseBody exportUsers(ExportFormat format, String search) {
+        String keyword = emptyToNull(search);
+        return out -> export("users", format, USER_COLUMNS, out,
+                () -> userRepository.streamForExport(keyword));
+    }
+
+    /**
+     * 모임 내보내기 (제목 / 카테고리 / 상태)
+     */
+    public StreamingResponseBody exportMeetings(ExportFormat format, String search, String category, String status) {
+        String title = emptyToNull(search);
+        String categoryFilter = emptyToNull(category);
+        // 잘못된 상태값은 응답을 쓰기 전에 400 으로 처리
+        MeetingStatus meetingStatus = status != null && !status.isEmpty() ? MeetingStatus.valueOf(status) : null;
+        return out -> export("meetings", format, MEETING_COLUMNS, out,
+                () -> meetingRepository.streamForExport(title, categoryFilter, meetingStatus));
+    }
+
+    /**
+     * 신고 내보내기 (상태)
+     */
+    public StreamingResponseBody exportReports(ExportFormat format, String status) {
+        ReportStatus reportStatus = status != null && !status.isEmpty() ? ReportStatus.valueOf(status) : null;
+        return out -> export("reports", format, REPORT_COLUMNS, out,
+                () -> reportRepository.streamForExport(reportStatus));
+    }
+
+    private <T> void export(String target, ExportFormat format, List<Column<T>> columns,
+                            OutputStream out, Supplier<Stream<T>> query) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        long start = System.currentTimeMillis();
+        Long rows = tx.execute(status -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<T> stream = query.get()) {
+                ExportRowWriter<T> rowWriter = new ExportRowWriter<>(format, columns, writer, objectMapper);
+                rowWriter.writeHeader();
+
+                int flushEvery = Math.max(1, properties.getFlushEveryRows());
+                long count = 0;
+                Iterator<T> it = stream.iterator();
+                while (it.hasNext()) {
+                    rowWriter.write(it.next());
+                    if (++count % flushEvery == 0) {
+                        rowWriter.flush();
+                    }
+                }
+                rowWriter.flush();
+                return count;
+            } catch (IOException e) {
+                // 대부분 다운로드 중 클라이언트 연결 종료
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("📤 관리자 내보내기 완료: target={}, format={}, rows={}, {}ms",
+                target, format, rows, System.currentTimeMillis() - start);
+    }
+
+    private String emptyToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+}
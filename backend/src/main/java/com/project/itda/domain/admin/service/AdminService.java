@@ -4,17 +4,22 @@ import com.project.itda.domain.admin.dto.request.*;
 import com.project.itda.domain.admin.dto.response.*;
 import com.project.itda.domain.admin.entity.AdminUser;
 import com.project.itda.domain.admin.entity.Report;
+import com.project.itda.domain.admin.enums.DashboardCounter;
+import com.project.itda.domain.admin.event.DashboardCounterEvent;
 import com.project.itda.domain.admin.enums.InquiryStatus;
 import com.project.itda.domain.admin.enums.ReportStatus;
 import com.project.itda.domain.admin.repository.AdminUserRepository;
 import com.project.itda.domain.admin.repository.AnnouncementRepository;
 import com.project.itda.domain.admin.repository.InquiryRepository;
 import com.project.itda.domain.admin.repository.ReportRepository;
+import com.project.itda.domain.meeting.event.MeetingChangedEvent;
 import com.project.itda.domain.meeting.repository.MeetingRepository;
 import com.project.itda.domain.notification.service.NotificationService;
+import com.project.itda.domain.user.event.UserStatusChangedEvent;
 import com.project.itda.domain.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.project.itda.domain.meeting.enums.MeetingStatus;
@@ -41,7 +46,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.Arrays;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -58,7 +62,9 @@ public class AdminService {
     private final UserRepository userRepository;
     private final MeetingRepository meetingRepository;
     private final InquiryRepository inquiryRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final NotificationService notificationService;
+    private final DashboardStatsService dashboardStatsService;
 
 
 
@@ -66,53 +72,19 @@ public class AdminService {
         AdminUser admin = adminUserRepository.findById(adminId)
                 .orElseThrow(() -> new EntityNotFoundException("관리자를 찾을 수 없습니다"));
 
-        // 👇 시간 변수 선언 추가
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime weekAgo = now.minusWeeks(1);
-        LocalDateTime todayStart = now.toLocalDate().atStartOfDay();
-
-
-        // 대기중인 신고 수
-        Long pendingReportsCount = reportRepository.findAllByStatusWithResolver(ReportStatus.PENDING)
-                .stream()
-                .count();
-
-        // 오늘 작성된 공지사항 수
-        Long todayAnnouncementsCount = announcementRepository.findAll()
-                .stream()
-                .filter(a -> a.getCreatedAt().toLocalDate().equals(LocalDate.now()))
-                .count();
-
-        // 활성 모임 수 (RECRUITING + FULL)
-        Long activeMeetingsCount = meetingRepository.countByStatusIn(
-                Arrays.asList(MeetingStatus.RECRUITING, MeetingStatus.FULL)
-        );
-
-        // 대기중인 1:1 문의 수
-        Long pendingInquiriesCount = inquiryRepository.countByStatus(
-                InquiryStatus.PENDING);
-
-
-        Long totalUsersCount = userRepository.count();
-        Long totalMeetingsCount = meetingRepository.count();
-        Long todayJoinedUsersCount = userRepository.countByCreatedAtAfter(todayStart);
-        Long lastWeekUsersCount = userRepository.countByCreatedAtBefore(weekAgo);
-        Long lastWeekMeetingsCount = meetingRepository.countByCreatedAtBefore(weekAgo);
-
-        Double userGrowthRate = calculateGrowthRate(totalUsersCount, lastWeekUsersCount);
-        Double meetingGrowthRate = calculateGrowthRate(totalMeetingsCount, lastWeekMeetingsCount);
-
+        // ✅ 수치는 DashboardStatsService 메모리 값 (이벤트 증감 + 주기적 재집계)
+        DashboardStatsService.Stats stats = dashboardStatsService.current();
 
         AdminDashboardResponse response = AdminDashboardResponse.from(admin);
-        response.setPendingReportsCount(pendingReportsCount);
-        response.setTodayAnnouncementsCount(todayAnnouncementsCount);
-        response.setTotalUsersCount(totalUsersCount);
-        response.setTotalMeetingsCount(totalMeetingsCount);
-        response.setTodayJoinedUsersCount(todayJoinedUsersCount);
-        response.setActiveMeetingsCount(activeMeetingsCount);
-        response.setUserGrowthRate(userGrowthRate);
-        response.setMeetingGrowthRate(meetingGrowthRate);
-        response.setPendingInquiriesCount(pendingInquiriesCount);
+        response.setPendingReportsCount(stats.pendingReports());
+        response.setTodayAnnouncementsCount(stats.todayAnnouncements());
+        response.setTotalUsersCount(stats.totalUsers());
+        response.setTotalMeetingsCount(stats.totalMeetings());
+        response.setTodayJoinedUsersCount(stats.todayJoinedUsers());
+        response.setActiveMeetingsCount(stats.activeMeetings());
+        response.setUserGrowthRate(stats.userGrowthRate());
+        response.setMeetingGrowthRate(stats.meetingGrowthRate());
+        response.setPendingInquiriesCount(stats.pendingInquiries());
 
         return response;
     }
@@ -121,16 +93,8 @@ public class AdminService {
      * 최근 가입 회원 조회
      */
     public List<RecentUserResponse> getRecentUsers(int limit) {
-        return userRepository.findAll().stream()
-                .sorted((u1, u2) -> u2.getCreatedAt().compareTo(u1.getCreatedAt()))
-                .limit(limit)
-                .map(user -> RecentUserResponse.builder()
-                        .userId(user.getUserId())
-                        .username(user.getUsername())
-                        .email(user.getEmail())
-                        .createdAt(user.getCreatedAt())
-                        .status(user.getStatus().name())
-                        .build())
+        return userRepository.findRecentUsers(PageRequest.of(0, limit)).stream()
+                .map(RecentUserResponse::from)
                 .collect(Collectors.toList());
     }
 
@@ -138,27 +102,11 @@ public class AdminService {
      * 최근 생성 모임 조회
      */
     public List<RecentMeetingResponse> getRecentMeetings(int limit) {
-        return meetingRepository.findAll().stream()
-                .sorted((m1, m2) -> m2.getCreatedAt().compareTo(m1.getCreatedAt()))
-                .limit(limit)
-                .map(meeting -> RecentMeetingResponse.builder()
-                        .meetingId(meeting.getMeetingId())
-                        .title(meeting.getTitle())
-                        .categoryName(meeting.getCategory())
-                        .currentMembers(meeting.getCurrentParticipants())
-                        .createdAt(meeting.getCreatedAt())
-                        .build())
+        return meetingRepository.findRecentMeetings(PageRequest.of(0, limit)).stream()
+                .map(RecentMeetingResponse::from)
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 증가율 계산
-     */
-    private Double calculateGrowthRate(Long current, Long previous) {
-        if (previous == null || previous == 0) return 0.0;
-        return ((current - previous) * 100.0) / previous;
-    }
-
     public AdminUser findByEmail(String email) {
         return adminUserRepository.findByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("관리자를 찾을 수 없습니다"));
@@ -215,6 +163,7 @@ public class AdminService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다"));
         user.setStatus(request.getStatus());
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId, request.getStatus()));
     }
 
     /**
@@ -279,8 +228,12 @@ public class AdminService {
     public void updateMeetingStatus(Long meetingId, MeetingStatusRequest request) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new EntityNotFoundException("모임을 찾을 수 없습니다"));
+        boolean wasActive = meeting.getStatus() != null && meeting.getStatus().isActive();
         meeting.updateStatus(request.getStatus());
         meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
+        publishCounterEvent(DashboardCounterEvent.transition(
+                DashboardCounter.ACTIVE_MEETINGS, wasActive, meeting.getStatus() != null && meeting.getStatus().isActive()));
     }
 
     // ========== 문의 관리 메서드 추가 ==========
@@ -328,6 +281,7 @@ public class AdminService {
     public void updateInquiryStatus(Long inquiryId, InquiryStatusRequest request, Long adminId) {
         Inquiry inquiry = inquiryRepository.findById(inquiryId)
                 .orElseThrow(() -> new EntityNotFoundException("문의를 찾을 수 없습니다"));
+        boolean wasPending = inquiry.getStatus() == InquiryStatus.PENDING;
 
         // 답변이 있으면 answer() 메서드 사용
         if (request.getAnswer() != null && !request.getAnswer().isEmpty()) {
@@ -339,6 +293,8 @@ public class AdminService {
         }
 
         inquiryRepository.save(inquiry);
+        publishCounterEvent(DashboardCounterEvent.transition(
+                DashboardCounter.PENDING_INQUIRIES, wasPending, inquiry.getStatus() == InquiryStatus.PENDING));
     }
 
     // ========== 공지사항 관리 메서드 추가 ==========
@@ -404,6 +360,7 @@ public class AdminService {
         announcement.setViewCount(0);
 
         Announcement saved = announcementRepository.save(announcement);
+        publishCounterEvent(new DashboardCounterEvent(DashboardCounter.TODAY_ANNOUNCEMENTS, 1));
         return AnnouncementResponse.from(saved);
     }
 
@@ -445,6 +402,9 @@ public class AdminService {
                 .orElseThrow(() -> new EntityNotFoundException("공지사항을 찾을 수 없습니다"));
 
         announcementRepository.delete(announcement);
+        if (announcement.getCreatedAt() != null && announcement.getCreatedAt().toLocalDate().equals(LocalDate.now())) {
+            publishCounterEvent(new DashboardCounterEvent(DashboardCounter.TODAY_ANNOUNCEMENTS, -1));
+        }
     }
 
     /**
@@ -509,6 +469,9 @@ public class AdminService {
         AdminUser admin = adminUserRepository.findById(adminId)
                 .orElseThrow(() -> new EntityNotFoundException("관리자를 찾을 수 없습니다"));
 
+        publishCounterEvent(DashboardCounterEvent.transition(
+                DashboardCounter.PENDING_REPORTS,
+                report.getStatus() == ReportStatus.PENDING, request.getStatus() == ReportStatus.PENDING));
         report.setStatus(request.getStatus());
         report.setResolvedBy(admin);
         report.setResolvedAt(LocalDateTime.now());
@@ -531,4 +494,10 @@ public class AdminService {
             notificationService.notifyReportResult(reporter, reportId, message);
         }
     }
-}
\ No newline at end of file
+
+    private void publishCounterEvent(DashboardCounterEvent event) {
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
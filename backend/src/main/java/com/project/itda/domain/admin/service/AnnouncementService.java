@@ -5,10 +5,13 @@ import com.project.itda.domain.admin.dto.response.AnnouncementResponse;
 import com.project.itda.domain.admin.entity.AdminUser;
 import com.project.itda.domain.admin.entity.Announcement;
 import com.project.itda.domain.admin.enums.AnnouncementStatus;
+import com.project.itda.domain.admin.enums.DashboardCounter;
+import com.project.itda.domain.admin.event.DashboardCounterEvent;
 import com.project.itda.domain.admin.repository.AdminUserRepository;
 import com.project.itda.domain.admin.repository.AnnouncementRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,7 @@ public class AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
     private final AdminUserRepository adminUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AnnouncementResponse createAnnouncement(Long adminId, AnnouncementCreateRequest request) {
@@ -47,6 +51,7 @@ public class AnnouncementService {
         }
 
         Announcement saved = announcementRepository.save(announcement);
+        eventPublisher.publishEvent(new DashboardCounterEvent(DashboardCounter.TODAY_ANNOUNCEMENTS, 1));
         return AnnouncementResponse.from(saved);
     }
 
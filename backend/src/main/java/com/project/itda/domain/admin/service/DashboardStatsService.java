@@ -0,0 +1,188 @@
+package com.project.itda.domain.admin.service;
+
+import com.project.itda.domain.admin.config.DashboardStatsProperties;
+import com.project.itda.domain.admin.entity.DashboardDailySnapshot;
+import com.project.itda.domain.admin.enums.DashboardCounter;
+import com.project.itda.domain.admin.enums.InquiryStatus;
+import com.project.itda.domain.admin.enums.ReportStatus;
+import com.project.itda.domain.admin.event.DashboardCounterEvent;
+import com.project.itda.domain.admin.repository.AnnouncementRepository;
+import com.project.itda.domain.admin.repository.DashboardDailySnapshotRepository;
+import com.project.itda.domain.admin.repository.InquiryRepository;
+import com.project.itda.domain.admin.repository.ReportRepository;
+import com.project.itda.domain.meeting.enums.MeetingStatus;
+import com.project.itda.domain.meeting.repository.MeetingRepository;
+import com.project.itda.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 관리자 대시보드 집계
+ * - 대기 신고 / 오늘 공지 / 활성 모임 / 대기 문의: 메모리 카운터를 커밋된 이벤트로 증감
+ * - 전체 수 / 오늘 가입 / 증가율: 주기적으로 COUNT 쿼리로 재집계 (카운터도 함께 DB 값으로 보정)
+ * - 증가율 기준값: 일별 스냅샷 (없으면 createdAt 기준 COUNT)
+ * - 대시보드 조회는 메모리 값만 읽음 (쿼리 없음)
+ * - 다른 인스턴스의 변경은 다음 재집계에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    private static final List<MeetingStatus> ACTIVE_MEETING_STATUSES = List.of(MeetingStatus.RECRUITING, MeetingStatus.FULL);
+
+    private final ReportRepository reportRepository;
+    private final AnnouncementRepository announcementRepository;
+    private final InquiryRepository inquiryRepository;
+    private final MeetingRepository meetingRepository;
+    private final UserRepository userRepository;
+    private final DashboardDailySnapshotRepository snapshotRepository;
+    private final DashboardStatsProperties properties;
+
+    private final Map<DashboardCounter, AtomicLong> counters = initCounters();
+
+    private volatile Totals totals;
+    private volatile long lastReadAt;
+
+    /**
+     * 재집계 결과 (불변)
+     */
+    private record Totals(long totalUsers, long totalMeetings, long todayJoinedUsers,
+                          double userGrowthRate, double meetingGrowthRate,
+                          LocalDate countedDate, long refreshedAt) {
+    }
+
+    /**
+     * 대시보드 수치 스냅샷
+     */
+    public record Stats(long pendingReports, long todayAnnouncements, long activeMeetings, long pendingInquiries,
+                        long totalUsers, long totalMeetings, long todayJoinedUsers,
+                        double userGrowthRate, double meetingGrowthRate) {
+    }
+
+    public Stats current() {
+        lastReadAt = System.currentTimeMillis();
+        Totals t = totals;
+        // 첫 조회 / 오래 조회가 없어 재집계를 쉬었던 경우 / 날짜가 바뀐 경우만 동기 재집계
+        if (t == null || isStale(t)) {
+            refresh();
+            t = totals;
+        }
+        return new Stats(
+                count(DashboardCounter.PENDING_REPORTS),
+                count(DashboardCounter.TODAY_ANNOUNCEMENTS),
+                count(DashboardCounter.ACTIVE_MEETINGS),
+                count(DashboardCounter.PENDING_INQUIRIES),
+                t.totalUsers(), t.totalMeetings(), t.todayJoinedUsers(),
+                t.userGrowthRate(), t.meetingGrowthRate()
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCounterChanged(DashboardCounterEvent event) {
+        counters.get(event.getCounter()).updateAndGet(v -> Math.max(0, v + event.getDelta()));
+    }
+
+    /**
+     * 주기적 재집계 (최근 조회가 있을 때만)
+     * - 이벤트가 재집계 도중 도착하면 다음 재집계 전까지 ±1 오차 가능
+     */
+    @Scheduled(fixedDelayString = "${admin.dashboard.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        if (totals != null && System.currentTimeMillis() - lastReadAt > idleThresholdMs()) {
+            return;
+        }
+        refresh();
+    }
+
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        LocalDateTime todayStart = today.atStartOfDay();
+        LocalDateTime weekAgo = now.minusWeeks(1);
+
+        counters.get(DashboardCounter.PENDING_REPORTS).set(reportRepository.countByStatus(ReportStatus.PENDING));
+        counters.get(DashboardCounter.TODAY_ANNOUNCEMENTS).set(announcementRepository.countByCreatedAtGreaterThanEqual(todayStart));
+        counters.get(DashboardCounter.ACTIVE_MEETINGS).set(meetingRepository.countByStatusIn(ACTIVE_MEETING_STATUSES));
+        counters.get(DashboardCounter.PENDING_INQUIRIES).set(inquiryRepository.countByStatus(InquiryStatus.PENDING));
+
+        long totalUsers = userRepository.count();
+        long totalMeetings = meetingRepository.count();
+        long todayJoinedUsers = userRepository.countByCreatedAtAfter(todayStart);
+
+        DashboardDailySnapshot baseline = snapshotRepository.findBySnapshotDate(today.minusWeeks(1)).orElse(null);
+        long lastWeekUsers = baseline != null ? baseline.getTotalUsers() : userRepository.countByCreatedAtBefore(weekAgo);
+        long lastWeekMeetings = baseline != null ? baseline.getTotalMeetings() : meetingRepository.countByCreatedAtBefore(weekAgo);
+
+        totals = new Totals(totalUsers, totalMeetings, todayJoinedUsers,
+                growthRate(totalUsers, lastWeekUsers), growthRate(totalMeetings, lastWeekMeetings),
+                today, System.currentTimeMillis());
+        log.debug("📊 대시보드 재집계: {}ms, baseline={}", System.currentTimeMillis() - start, baseline != null);
+    }
+
+    /**
+     * 일별 스냅샷 (오늘 0시 기준 누적 수)
+     * - 여러 인스턴스가 동시에 실행해도 날짜 unique 제약으로 한 건만 저장
+     */
+    @Scheduled(cron = "${admin.dashboard.snapshot-cron:0 1 0 * * *}")
+    public void takeDailySnapshot() {
+        LocalDate today = LocalDate.now();
+        if (snapshotRepository.existsBySnapshotDate(today)) {
+            return;
+        }
+        LocalDateTime todayStart = today.atStartOfDay();
+
+        DashboardDailySnapshot snapshot = new DashboardDailySnapshot();
+        snapshot.setSnapshotDate(today);
+        snapshot.setTotalUsers(userRepository.countByCreatedAtBefore(todayStart));
+        snapshot.setTotalMeetings(meetingRepository.countByCreatedAtBefore(todayStart));
+        try {
+            snapshotRepository.save(snapshot);
+            log.info("📸 대시보드 일별 스냅샷 저장: date={}, users={}, meetings={}",
+                    today, snapshot.getTotalUsers(), snapshot.getTotalMeetings());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("대시보드 스냅샷 이미 존재: date={}", today);
+        }
+    }
+
+    private boolean isStale(Totals t) {
+        return !t.countedDate().equals(LocalDate.now())
+                || System.currentTimeMillis() - t.refreshedAt() > 2 * properties.getRefreshIntervalMs();
+    }
+
+    private long idleThresholdMs() {
+        return 10 * properties.getRefreshIntervalMs();
+    }
+
+    private long count(DashboardCounter counter) {
+        return counters.get(counter).get();
+    }
+
+    /**
+     * 증가율 계산 (지난주 대비)
+     */
+    private static double growthRate(long current, long previous) {
+        if (previous == 0) return 0.0;
+        return ((current - previous) * 100.0) / previous;
+    }
+
+    private static Map<DashboardCounter, AtomicLong> initCounters() {
+        Map<DashboardCounter, AtomicLong> map = new EnumMap<>(DashboardCounter.class);
+        for (DashboardCounter counter : DashboardCounter.values()) {
+            map.put(counter, new AtomicLong());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.itda.domain.admin.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.itda.domain.admin.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 내보내기 행 직렬화 (CSV / NDJSON)
+ * - 행을 받는 즉시 Writer 로 기록 (전체 목록을 메모리에 모으지 않음)
+ * - CSV: RFC 4180 따옴표 처리 + 엑셀 수식 실행 방지(=, +, -, @ 로 시작하는 문자열 앞에 ')
+ */
+public class ExportRowWriter<T> {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final String CSV_LINE_END = "\r\n";
+
+    private final ExportFormat format;
+    private final List<Column<T>> columns;
+    private final Writer out;
+    private final JsonGenerator json;
+
+    public ExportRowWriter(ExportFormat format, List<Column<T>> columns, Writer out, ObjectMapper objectMapper)
+            throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.out = out;
+        if (format == ExportFormat.NDJSON) {
+            this.json = objectMapper.getFactory().createGenerator(out);
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.json.setRootValueSeparator(null);
+        } else {
+            this.json = null;
+        }
+    }
+
+    /**
+     * CSV 만 헤더 행 기록 (엑셀에서 한글이 깨지지 않도록 BOM 포함)
+     */
+    public void writeHeader() throws IOException {
+        if (format != ExportFormat.CSV) {
+            return;
+        }
+        out.write(UTF8_BOM);
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeCsvValue(columns.get(i).header());
+        }
+        out.write(CSV_LINE_END);
+    }
+
+    public void write(T row) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            json.writeStartObject();
+            for (Column<T> column : columns) {
+                json.writeFieldName(column.header());
+                json.writeObject(column.extractor().apply(row));
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+            return;
+        }
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeCsvValue(columns.get(i).extractor().apply(row));
+        }
+        out.write(CSV_LINE_END);
+    }
+
+    public void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        out.flush();
+    }
+
+    private void writeCsvValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = String.valueOf(value);
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    /**
+     * 내보내기 컬럼 (헤더 이름 = NDJSON 필드 이름)
+     */
+    public record Column<T>(String header, Function<T, Object> extractor) {
+
+        public static <T> Column<T> of(String header, Function<T, Object> extractor) {
+            return new Column<>(header, extractor);
+        }
+    }
+}
@@ -5,12 +5,15 @@ import com.project.itda.domain.admin.dto.request.ReportStatusRequest;
 import com.project.itda.domain.admin.dto.response.ReportResponse;
 import com.project.itda.domain.admin.entity.AdminUser;
 import com.project.itda.domain.admin.entity.Report;
+import com.project.itda.domain.admin.enums.DashboardCounter;
 import com.project.itda.domain.admin.enums.ReportStatus;
 import com.project.itda.domain.admin.enums.ReportedType;
+import com.project.itda.domain.admin.event.DashboardCounterEvent;
 import com.project.itda.domain.admin.repository.AdminUserRepository;
 import com.project.itda.domain.admin.repository.ReportRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,7 @@ public class ReportService {
 
     private final ReportRepository reportRepository;
     private final AdminUserRepository adminUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReportResponse createReport(Long reporterId, ReportCreateRequest request) {
@@ -39,6 +43,7 @@ public class ReportService {
         report.setStatus(ReportStatus.PENDING);
 
         Report saved = reportRepository.save(report);
+        eventPublisher.publishEvent(new DashboardCounterEvent(DashboardCounter.PENDING_REPORTS, 1));
         return ReportResponse.from(saved);
     }
 
@@ -50,6 +55,12 @@ public class ReportService {
         AdminUser admin = adminUserRepository.findById(adminId)
                 .orElseThrow(() -> new EntityNotFoundException("관리자를 찾을 수 없습니다"));
 
+        DashboardCounterEvent counterEvent = DashboardCounterEvent.transition(DashboardCounter.PENDING_REPORTS,
+                report.getStatus() == ReportStatus.PENDING, request.getStatus() == ReportStatus.PENDING);
+        if (counterEvent != null) {
+            eventPublisher.publishEvent(counterEvent);
+        }
+
         report.setStatus(request.getStatus());
         report.setAdminNote(request.getAdminNote());
         report.setResolvedBy(admin);
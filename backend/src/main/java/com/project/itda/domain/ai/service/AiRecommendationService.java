@@ -10,6 +10,7 @@ import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +38,11 @@ public class AiRecommendationService {
      * @return 추천 모임 목록
      */
     @Transactional(readOnly = true)
+    @Cacheable(
+            cacheNames = "aiRecommendations",
+            key = "#userId + ':' + #topN",
+            sync = true
+    )
     public AiRecommendListResponse recommendMeetings(Long userId, Integer topN) {
         long startTime = System.currentTimeMillis();
         log.info("🎯 AI 모임 추천 시작 - userId: {}, topN: {}", userId, topN);
@@ -33,8 +33,9 @@ public class MatchScoreService {
      * AI 매칭률 조회
      */
     @Cacheable(
-            cacheNames = "matchScores",
-            key = "@cacheKeyUtil.matchKey(#userId, #meetingIds)"
+            cacheNames = "matchScore",
+            key = "#userId + ':' + #meetingId",
+            sync = true
     )
     public MatchScoreDTO getMatchScore(Long userId, Long meetingId) {
         Map<String, Object> request = Map.of(
@@ -49,7 +50,8 @@ public class MatchScoreService {
 
     @Cacheable(
             cacheNames = "matchScores",
-            key = "@cacheKeyUtil.matchKey(#userId, #meetingIds)"
+            key = "@cacheKeyUtil.matchKey(#userId, #meetingIds)",
+            sync = true
     )
     public MatchScoresResponse getMatchScores(Long userId, List<Long> meetingIds) {
         if (userId == null) throw new IllegalArgumentException("userId is required");
@@ -145,15 +145,19 @@ public class SatisfactionPredictionService {
                     .meetingParticipantCount(meeting.getCurrentParticipants())
                     .build();
 
-            log.info("📤 FastAPI 요청: {}", request);
+            if (log.isDebugEnabled()) {
+                log.debug("📤 FastAPI 요청: {}", request);
+            }
 
             // 7. ✅ FastAPI POST 호출
             SatisfactionPredictionResponse aiResponse = aiServiceClient.predictSatisfaction(request);
 
-            log.info("📥 FastAPI 응답: success={}, predictedRating={}, reasons={}",
-                    aiResponse.getSuccess(),
-                    aiResponse.getPredictedRating(),
-                    aiResponse.getReasons() != null ? aiResponse.getReasons().size() : 0);
+            if (log.isDebugEnabled() && aiResponse != null) {
+                log.debug("📥 FastAPI 응답: success={}, predictedRating={}, reasons={}",
+                        aiResponse.getSuccess(),
+                        aiResponse.getPredictedRating(),
+                        aiResponse.getReasons() != null ? aiResponse.getReasons().size() : 0);
+            }
 
             if (aiResponse == null || !Boolean.TRUE.equals(aiResponse.getSuccess())) {
                 log.warn("⚠️ AI 만족도 예측 실패 - userId: {}, meetingId: {}", userId, meetingId);
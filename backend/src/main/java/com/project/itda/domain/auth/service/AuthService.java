@@ -3,9 +3,11 @@ package com.project.itda.domain.auth.service;
 import com.project.itda.domain.auth.dto.request.UserSignupRequest;
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.enums.UserStatus;
+import com.project.itda.domain.user.event.UserRegisteredEvent;
 import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,7 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 이메일/비밀번호 인증
@@ -74,6 +77,7 @@ public class AuthService {
                 .build();
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(user));
         log.info("✅ 회원가입 완료 - Email: {}", user.getEmail());
     }
 }
\ No newline at end of file
@@ -2,9 +2,11 @@ package com.project.itda.domain.auth.service;
 
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.enums.UserStatus;
+import com.project.itda.domain.user.event.UserRegisteredEvent;
 import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -21,6 +23,7 @@ import java.util.Map;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -55,8 +58,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         User user = userRepository.findByEmail(email)
                 .map(existingUser -> updateExistingUser(existingUser, nickname, profileImage))
                 .orElseGet(() -> createNewUser(email, nickname, profileImage, provider, providerId));
+        boolean isNew = user.getUserId() == null;
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        if (isNew) {
+            eventPublisher.publishEvent(new UserRegisteredEvent(saved));
+        }
+        return saved;
     }
 
     /**
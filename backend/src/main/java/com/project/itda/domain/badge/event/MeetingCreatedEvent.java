@@ -4,13 +4,29 @@ package com.project.itda.domain.badge.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.time.LocalDateTime;
+
+/**
+ * 모임 생성 이벤트 (주최 배지 / 관리자 실시간 목록)
+ */
 @Getter
 public class MeetingCreatedEvent extends ApplicationEvent {
 
     private final Long organizerId;
+    private final Long meetingId;
+    private final String title;
+    private final String category;
+    private final Integer currentParticipants;
+    private final LocalDateTime createdAt;
 
-    public MeetingCreatedEvent(Long organizerId) {
+    public MeetingCreatedEvent(Long organizerId, Long meetingId, String title, String category,
+                               Integer currentParticipants, LocalDateTime createdAt) {
         super(organizerId);
         this.organizerId = organizerId;
+        this.meetingId = meetingId;
+        this.title = title;
+        this.category = category;
+        this.currentParticipants = currentParticipants;
+        this.createdAt = createdAt;
     }
 }
@@ -0,0 +1,43 @@
+package com.project.itda.domain.badge.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 배지 행 대량 생성 (JDBC 배치)
+ * - IDENTITY 전략은 Hibernate insert 배치가 비활성화되므로 JDBC로 직접 처리
+ * - uk_user_badge 중복은 무시 (동시에 들어온 배지 이벤트가 같은 행을 만들어도 안전)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBadgeBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO user_badges (user_id, badge_id, unlocked, progress, created_at, updated_at)
+            VALUES (?, ?, false, 0, ?, ?)
+            ON DUPLICATE KEY UPDATE user_badge_id = user_badge_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 진행도 0 인 사용자 배지 행을 한 번에 생성 (이미 있는 배지는 건너뜀)
+     */
+    public void insertMissing(Long userId, List<Long> badgeIds, LocalDateTime now) {
+        if (badgeIds.isEmpty()) {
+            return;
+        }
+        Timestamp nowTs = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, badgeIds, badgeIds.size(), (ps, badgeId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, badgeId);
+            ps.setTimestamp(3, nowTs);
+            ps.setTimestamp(4, nowTs);
+        });
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,9 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
 
     Optional<UserBadge> findByUserIdAndBadge_BadgeCode(Long userId, String badgeCode);
 
+    @Query("SELECT ub FROM UserBadge ub JOIN FETCH ub.badge WHERE ub.userId = :userId AND ub.badge.badgeId IN :badgeIds")
+    List<UserBadge> findByUserIdAndBadgeIds(@Param("userId") Long userId, @Param("badgeIds") Collection<Long> badgeIds);
+
     @Query("""
             SELECT ub 
             FROM UserBadge ub 
@@ -8,6 +8,7 @@ import com.project.itda.domain.badge.entity.UserBadge;
 import com.project.itda.domain.badge.enums.BadgeConditionType;
 import com.project.itda.domain.badge.event.BadgeUnlockedEvent;
 import com.project.itda.domain.badge.repository.BadgeRepository;
+import com.project.itda.domain.badge.repository.UserBadgeBulkRepository;
 import com.project.itda.domain.badge.repository.UserBadgeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +16,11 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +29,7 @@ public class BadgeService {
 
     private final BadgeRepository badgeRepository;
     private final UserBadgeRepository userBadgeRepository;
+    private final UserBadgeBulkRepository userBadgeBulkRepository;
     private final List<BadgeCalculator> calculators;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -88,31 +93,7 @@ public class BadgeService {
      */
     @Transactional
     public List<Badge> updateAllBadgeProgress(Long userId) {
-        List<Badge> allBadges = badgeRepository.findAll();
-        List<Badge> newlyUnlocked = new ArrayList<>();
-
-        for (Badge badge : allBadges) {
-            UserBadge userBadge = userBadgeRepository
-                    .findByUserIdAndBadge_BadgeId(userId, badge.getBadgeId())
-                    .orElseGet(() -> userBadgeRepository.save(createUserBadge(userId, badge)));
-
-            if (Boolean.TRUE.equals(userBadge.getUnlocked())) {
-                continue;
-            }
-
-            int currentProgress = calculateProgress(userId, badge);
-            userBadge.updateProgress(currentProgress);
-
-            if (userBadge.canUnlock()) {
-                userBadge.unlock();
-                newlyUnlocked.add(badge);
-                eventPublisher.publishEvent(new BadgeUnlockedEvent(userId, badge));
-            }
-
-            userBadgeRepository.save(userBadge);
-        }
-
-        return newlyUnlocked;
+        return refreshProgress(userId, badgeRepository.findAll());
     }
 
     /**
@@ -120,15 +101,24 @@ public class BadgeService {
      */
     @Transactional
     public List<Badge> updateBadgesByConditionType(Long userId, BadgeConditionType conditionType) {
-        List<Badge> badges = badgeRepository.findByConditionType(conditionType);
+        return refreshProgress(userId, badgeRepository.findByConditionType(conditionType));
+    }
+
+    /**
+     * 배지 목록 진행도 갱신
+     * - 사용자 배지 행은 한 번에 조회, 없는 행은 JDBC 배치로 한 번에 생성
+     * - 진행도 변경은 커밋 시 dirty checking → UPDATE 배치 (hibernate.jdbc.batch_size)
+     */
+    private List<Badge> refreshProgress(Long userId, List<Badge> badges) {
         List<Badge> newlyUnlocked = new ArrayList<>();
+        if (badges.isEmpty()) {
+            return newlyUnlocked;
+        }
 
+        Map<Long, UserBadge> userBadges = loadOrCreateUserBadges(userId, badges);
         for (Badge badge : badges) {
-            UserBadge userBadge = userBadgeRepository
-                    .findByUserIdAndBadge_BadgeId(userId, badge.getBadgeId())
-                    .orElseGet(() -> userBadgeRepository.save(createUserBadge(userId, badge)));
-
-            if (Boolean.TRUE.equals(userBadge.getUnlocked())) {
+            UserBadge userBadge = userBadges.get(badge.getBadgeId());
+            if (userBadge == null || Boolean.TRUE.equals(userBadge.getUnlocked())) {
                 continue;
             }
 
@@ -140,13 +130,30 @@ public class BadgeService {
                 newlyUnlocked.add(badge);
                 eventPublisher.publishEvent(new BadgeUnlockedEvent(userId, badge));
             }
-
-            userBadgeRepository.save(userBadge);
         }
 
         return newlyUnlocked;
     }
 
+    /**
+     * badgeId → 사용자 배지 (없던 행은 생성 후 다시 조회)
+     */
+    private Map<Long, UserBadge> loadOrCreateUserBadges(Long userId, List<Badge> badges) {
+        List<Long> badgeIds = badges.stream().map(Badge::getBadgeId).toList();
+
+        Map<Long, UserBadge> byBadgeId = new HashMap<>();
+        userBadgeRepository.findByUserIdAndBadgeIds(userId, badgeIds)
+                .forEach(ub -> byBadgeId.put(ub.getBadge().getBadgeId(), ub));
+
+        List<Long> missing = badgeIds.stream().filter(id -> !byBadgeId.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            userBadgeBulkRepository.insertMissing(userId, missing, LocalDateTime.now());
+            userBadgeRepository.findByUserIdAndBadgeIds(userId, missing)
+                    .forEach(ub -> byBadgeId.put(ub.getBadge().getBadgeId(), ub));
+        }
+        return byBadgeId;
+    }
+
     private int calculateProgress(Long userId, Badge badge) {
         for (BadgeCalculator calculator : calculators) {
             if (calculator.canHandle(badge)) {
@@ -0,0 +1,48 @@
+package com.project.itda.domain.feed.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 친구 활동 피드 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "feed")
+@Getter
+@Setter
+public class FeedProperties {
+
+    /**
+     * 사용자별 타임라인 최대 항목 수 (오래된 항목부터 제거)
+     */
+    private int timelineMaxSize = 500;
+
+    /**
+     * 작성자별 최근 활동(outbox) 최대 항목 수
+     */
+    private int outboxMaxSize = 100;
+
+    /**
+     * 마지막 기록 이후 타임라인 / outbox 보관 기간
+     */
+    private Duration ttl = Duration.ofDays(30);
+
+    /**
+     * 팔로워가 이 수 이상이면 fan-out 하지 않고 조회 시 outbox 를 병합
+     */
+    private int celebrityFollowerThreshold = 5_000;
+
+    /**
+     * fan-out 시 한 파이프라인에 쓰는 타임라인 수
+     */
+    private int fanOutBatchSize = 1_000;
+
+    /**
+     * 한 페이지 최대 항목 수
+     */
+    private int maxPageSize = 50;
+}
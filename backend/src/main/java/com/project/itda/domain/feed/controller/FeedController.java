@@ -0,0 +1,47 @@
+package com.project.itda.domain.feed.controller;
+
+import com.project.itda.domain.feed.dto.response.FeedPageResponse;
+import com.project.itda.domain.feed.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "피드", description = "친구 활동 피드 API")
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@Slf4j
+public class FeedController {
+
+    private final FeedService feedService;
+
+    /**
+     * 친구 활동 피드 (모임 참가 / 개설 / 후기)
+     */
+    @Operation(summary = "친구 활동 피드", description = "내가 팔로우하는 사용자의 최근 모임 활동 (커서 기반 페이징)")
+    @GetMapping
+    public ResponseEntity<FeedPageResponse> getFeed(
+            @AuthenticationPrincipal Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(feedService.getFeed(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
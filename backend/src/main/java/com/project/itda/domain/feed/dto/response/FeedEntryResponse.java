@@ -0,0 +1,47 @@
+package com.project.itda.domain.feed.dto.response;
+
+import com.project.itda.domain.feed.enums.FeedActivityType;
+import com.project.itda.domain.feed.event.FeedActivityEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 친구 활동 피드 항목 (Redis 타임라인에 JSON 으로 저장되는 값 그대로)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedEntryResponse {
+
+    /**
+     * 활동 식별자 "{type}:{meetingId}:{actorId}" (중복 제거 / 커서 동점 비교)
+     */
+    private String id;
+    private FeedActivityType type;
+    private Long actorId;
+    private String actorName;
+    private String actorProfileImage;
+    private Long meetingId;
+    private String meetingTitle;
+    private Integer rating;
+    private LocalDateTime occurredAt;
+
+    public static FeedEntryResponse from(FeedActivityEvent event) {
+        return FeedEntryResponse.builder()
+                .id(event.getType() + ":" + event.getMeetingId() + ":" + event.getActorId())
+                .type(event.getType())
+                .actorId(event.getActorId())
+                .actorName(event.getActorName())
+                .actorProfileImage(event.getActorProfileImage())
+                .meetingId(event.getMeetingId())
+                .meetingTitle(event.getMeetingTitle())
+                .rating(event.getRating())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
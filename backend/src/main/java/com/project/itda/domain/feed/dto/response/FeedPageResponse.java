@@ -0,0 +1,23 @@
+package com.project.itda.domain.feed.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 친구 활동 피드 페이지 (커서 기반)
+ */
+@Getter
+@AllArgsConstructor
+public class FeedPageResponse {
+
+    private List<FeedEntryResponse> items;
+
+    /**
+     * 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+}
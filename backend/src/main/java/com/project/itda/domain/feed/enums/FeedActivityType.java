@@ -0,0 +1,10 @@
+package com.project.itda.domain.feed.enums;
+
+/**
+ * 친구 활동 피드 항목 종류
+ */
+public enum FeedActivityType {
+    MEETING_JOINED,     // 모임 참가 신청
+    MEETING_CREATED,    // 모임 개설
+    MEETING_REVIEWED    // 모임 후기 작성
+}
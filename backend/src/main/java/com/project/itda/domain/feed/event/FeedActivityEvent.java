@@ -0,0 +1,37 @@
+package com.project.itda.domain.feed.event;
+
+import com.project.itda.domain.feed.enums.FeedActivityType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 친구 활동 피드 이벤트 (모임 참가 / 개설 / 후기)
+ * - 커밋 이후 비동기 fan-out 되므로 엔티티 대신 필요한 값만 보관
+ */
+@Getter
+public class FeedActivityEvent extends ApplicationEvent {
+
+    private final FeedActivityType type;
+    private final Long actorId;
+    private final String actorName;
+    private final String actorProfileImage;
+    private final Long meetingId;
+    private final String meetingTitle;
+    private final Integer rating;
+    private final LocalDateTime occurredAt;
+
+    public FeedActivityEvent(FeedActivityType type, Long actorId, String actorName, String actorProfileImage,
+                             Long meetingId, String meetingTitle, Integer rating) {
+        super(actorId);
+        this.type = type;
+        this.actorId = actorId;
+        this.actorName = actorName;
+        this.actorProfileImage = actorProfileImage;
+        this.meetingId = meetingId;
+        this.meetingTitle = meetingTitle;
+        this.rating = rating;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.itda.domain.feed.listener;
+
+import com.project.itda.domain.feed.dto.response.FeedEntryResponse;
+import com.project.itda.domain.feed.event.FeedActivityEvent;
+import com.project.itda.domain.feed.service.FeedService;
+import com.project.itda.domain.user.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 친구 활동 피드 리스너
+ * - 커밋 이후 비동기 실행 (활동 / 팔로우 응답 시간이 팔로워 수와 무관)
+ * - Redis 장애 시 피드만 누락되고 원래 요청은 영향 없음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedActivityListener {
+
+    private final FeedService feedService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleActivity(FeedActivityEvent event) {
+        try {
+            feedService.publish(FeedEntryResponse.from(event));
+        } catch (Exception e) {
+            log.error("❌ 피드 fan-out 실패: actorId={}, type={}, meetingId={}, error={}",
+                    event.getActorId(), event.getType(), event.getMeetingId(), e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFollowChanged(FollowChangedEvent event) {
+        try {
+            if (event.isFollowed()) {
+                feedService.onFollowed(event.getFollowerId(), event.getFollowingId());
+            } else {
+                feedService.onUnfollowed(event.getFollowerId(), event.getFollowingId());
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 피드 팔로우 반영 실패: {} -> {}, error={}",
+                    event.getFollowerId(), event.getFollowingId(), e.getMessage());
+        }
+    }
+}
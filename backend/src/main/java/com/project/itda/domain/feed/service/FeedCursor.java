@@ -0,0 +1,65 @@
+package com.project.itda.domain.feed.service;
+
+import com.project.itda.domain.feed.dto.response.FeedEntryResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 피드 커서 (마지막으로 내려준 항목의 점수 + id)
+ * - 정렬: 점수(발생 시각 ms) 내림차순, 같은 점수는 id 내림차순
+ * - 클라이언트에는 불투명 문자열(base64url)로 전달
+ */
+public record FeedCursor(long score, String id) {
+
+    /**
+     * 첫 페이지 (모든 항목보다 뒤)
+     */
+    public static final FeedCursor FIRST = new FeedCursor(Long.MAX_VALUE, null);
+
+    public static final Comparator<FeedEntryResponse> ORDER = Comparator
+            .comparingLong(FeedCursor::scoreOf).reversed()
+            .thenComparing(FeedEntryResponse::getId, Comparator.reverseOrder());
+
+    public static long scoreOf(FeedEntryResponse entry) {
+        return entry.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static FeedCursor after(FeedEntryResponse entry) {
+        return new FeedCursor(scoreOf(entry), entry.getId());
+    }
+
+    /**
+     * @return null/빈 값이면 FIRST, 형식 오류면 IllegalArgumentException
+     */
+    public static FeedCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('_');
+            return new FeedCursor(Long.parseLong(raw.substring(0, sep)), raw.substring(sep + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 피드 커서입니다");
+        }
+    }
+
+    public String encode() {
+        String raw = score + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 항목이 이 커서보다 뒤(다음 페이지 쪽)에 있는지
+     */
+    public boolean isBefore(FeedEntryResponse entry) {
+        long entryScore = scoreOf(entry);
+        if (entryScore != score) {
+            return entryScore < score;
+        }
+        return id == null || entry.getId().compareTo(id) < 0;
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.itda.domain.feed.service;
+
+import com.project.itda.domain.feed.config.FeedProperties;
+import com.project.itda.domain.feed.dto.response.FeedEntryResponse;
+import com.project.itda.domain.feed.dto.response.FeedPageResponse;
+import com.project.itda.domain.user.graph.FollowGraphService;
+import com.project.itda.domain.user.repository.FollowerRef;
+import com.project.itda.domain.user.repository.UserFollowRepository;
+import com.project.itda.domain.user.service.FollowRelationResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ✅ 친구 활동 피드
+ * - 쓰기: 작성자 outbox 에 기록 + 팔로워 타임라인에 fan-out (팔로워가 많은 작성자는 fan-out 생략)
+ * - 읽기: 내 타임라인 + 내가 팔로우하는 "팔로워 많은 작성자" outbox 병합, 커서 페이징
+ * - 팔로우 시 상대 outbox backfill, 언팔로우 시 상대 항목 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    private final FeedTimelineStore store;
+    private final FeedProperties properties;
+    private final FollowGraphService followGraphService;
+    private final FollowRelationResolver followRelationResolver;
+    private final UserFollowRepository userFollowRepository;
+
+    // ========== 쓰기 ==========
+
+    public void publish(FeedEntryResponse entry) {
+        Long actorId = entry.getActorId();
+        store.addToOutbox(actorId, entry);
+
+        if (followGraphService.followerCount(actorId) >= properties.getCelebrityFollowerThreshold()) {
+            store.markCelebrity(actorId);
+            log.debug("📰 피드 기록 (조회 시 병합): actorId={}, entry={}", actorId, entry.getId());
+            return;
+        }
+
+        int delivered = fanOut(actorId, entry);
+        log.debug("📰 피드 fan-out: actorId={}, entry={}, timelines={}", actorId, entry.getId(), delivered);
+    }
+
+    private int fanOut(Long actorId, FeedEntryResponse entry) {
+        int batchSize = Math.max(1, properties.getFanOutBatchSize());
+        int delivered = 0;
+
+        long[] followers = followGraphService.followers(actorId);
+        if (followers != null) {
+            for (int from = 0; from < followers.length; from += batchSize) {
+                List<Long> batch = new ArrayList<>(batchSize);
+                for (int i = from; i < Math.min(followers.length, from + batchSize); i++) {
+                    batch.add(followers[i]);
+                }
+                store.addToTimelines(batch, entry);
+                delivered += batch.size();
+            }
+            return delivered;
+        }
+
+        // 그래프 적재 전: follow id keyset 페이징
+        long lastFollowId = 0L;
+        while (true) {
+            List<FollowerRef> page = userFollowRepository.findFollowersAfter(
+                    actorId, lastFollowId, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            store.addToTimelines(page.stream().map(FollowerRef::getFollowerId).toList(), entry);
+            delivered += page.size();
+
+            lastFollowId = page.get(page.size() - 1).getFollowId();
+            if (page.size() < batchSize) {
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    public void onFollowed(Long followerId, Long followingId) {
+        // 팔로워 많은 작성자는 조회 시 outbox 를 병합하므로 복사 불필요
+        if (!store.isCelebrity(followingId)) {
+            store.copyOutbox(followingId, followerId);
+        }
+    }
+
+    public void onUnfollowed(Long followerId, Long followingId) {
+        store.removeActor(followerId, followingId);
+    }
+
+    // ========== 읽기 ==========
+
+    public FeedPageResponse getFeed(Long userId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, properties.getMaxPageSize()));
+        FeedCursor from = FeedCursor.parse(cursor);
+
+        List<String> sources = new ArrayList<>();
+        sources.add(store.timelineKey(userId));
+        Set<Long> celebrities = store.celebrities();
+        if (!celebrities.isEmpty()) {
+            followRelationResolver.followedAmong(userId, celebrities)
+                    .forEach(actorId -> sources.add(store.outboxKey(actorId)));
+        }
+
+        // 소스별로 limit + 1 개씩 읽어 병합 (outbox 와 타임라인에 같은 항목이 있으면 하나만)
+        List<FeedEntryResponse> merged = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String source : sources) {
+            for (FeedEntryResponse entry : store.readBefore(source, from, limit + 1)) {
+                if (seen.add(entry.getId())) {
+                    merged.add(entry);
+                }
+            }
+        }
+        merged.sort(FeedCursor.ORDER);
+
+        boolean hasNext = merged.size() > limit;
+        List<FeedEntryResponse> items = hasNext ? merged.subList(0, limit) : merged;
+        String nextCursor = hasNext ? FeedCursor.after(items.get(items.size() - 1)).encode() : null;
+        return new FeedPageResponse(List.copyOf(items), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,190 @@
+package com.project.itda.domain.feed.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.itda.domain.feed.config.FeedProperties;
+import com.project.itda.domain.feed.dto.response.FeedEntryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 저장소 (Redis sorted set, score = 발생 시각 ms, member = 항목 JSON)
+ * - feed:timeline:{userId}: fan-out 으로 받은 친구 활동 (timelineMaxSize 유지)
+ * - feed:outbox:{actorId}: 작성자 본인의 최근 활동 (팔로워 많은 사용자는 조회 시 병합, 새 팔로워 backfill 용)
+ * - feed:celebrities: outbox 병합 대상 작성자 ID
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineStore {
+
+    private static final String TIMELINE_PREFIX = "feed:timeline:";
+    private static final String OUTBOX_PREFIX = "feed:outbox:";
+    private static final String CELEBRITIES_KEY = "feed:celebrities";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final FeedProperties properties;
+
+    /**
+     * 여러 사용자 타임라인에 항목 추가 (한 파이프라인)
+     */
+    public void addToTimelines(Collection<Long> userIds, FeedEntryResponse entry) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] member = bytes(serialize(entry));
+        double score = FeedCursor.scoreOf(entry);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                append(connection, bytes(timelineKey(userId)), score, member, properties.getTimelineMaxSize());
+            }
+            return null;
+        });
+    }
+
+    public void addToOutbox(Long actorId, FeedEntryResponse entry) {
+        byte[] member = bytes(serialize(entry));
+        double score = FeedCursor.scoreOf(entry);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            append(connection, bytes(outboxKey(actorId)), score, member, properties.getOutboxMaxSize());
+            return null;
+        });
+    }
+
+    public void markCelebrity(Long actorId) {
+        redisTemplate.opsForSet().add(CELEBRITIES_KEY, String.valueOf(actorId));
+    }
+
+    public boolean isCelebrity(Long actorId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITIES_KEY, String.valueOf(actorId)));
+    }
+
+    public Set<Long> celebrities() {
+        Set<String> members = redisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 커서 이후 항목을 정렬 순서대로 최대 count 개
+     * - 같은 점수 항목은 커서 id 와 비교해 이미 내려준 항목 제외
+     */
+    public List<FeedEntryResponse> readBefore(String key, FeedCursor cursor, int count) {
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        double max = cursor.score() == Long.MAX_VALUE ? Double.POSITIVE_INFINITY : cursor.score();
+        List<FeedEntryResponse> result = new ArrayList<>(count);
+        long offset = 0;
+
+        while (result.size() < count) {
+            Set<ZSetOperations.TypedTuple<String>> page =
+                    zSet.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, offset, count);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : page) {
+                FeedEntryResponse entry = deserialize(tuple.getValue());
+                if (entry != null && cursor.isBefore(entry) && result.size() < count) {
+                    result.add(entry);
+                }
+            }
+            if (page.size() < count) {
+                break;
+            }
+            offset += page.size();
+        }
+        result.sort(FeedCursor.ORDER);
+        return result;
+    }
+
+    /**
+     * 언팔로우한 작성자의 항목을 타임라인에서 제거
+     */
+    public void removeActor(Long userId, Long actorId) {
+        String key = timelineKey(userId);
+        Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+        Object[] stale = members.stream()
+                .filter(member -> {
+                    FeedEntryResponse entry = deserialize(member);
+                    return entry == null || Objects.equals(entry.getActorId(), actorId);
+                })
+                .toArray();
+        if (stale.length > 0) {
+            redisTemplate.opsForZSet().remove(key, stale);
+        }
+    }
+
+    /**
+     * 작성자 outbox 의 최근 항목을 새 팔로워 타임라인에 복사
+     */
+    public void copyOutbox(Long actorId, Long userId) {
+        Set<ZSetOperations.TypedTuple<String>> recent =
+                redisTemplate.opsForZSet().rangeWithScores(outboxKey(actorId), 0, -1);
+        if (recent == null || recent.isEmpty()) {
+            return;
+        }
+        byte[] key = bytes(timelineKey(userId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ZSetOperations.TypedTuple<String> tuple : recent) {
+                append(connection, key, tuple.getScore(), bytes(tuple.getValue()), properties.getTimelineMaxSize());
+            }
+            return null;
+        });
+    }
+
+    public String timelineKey(Long userId) {
+        return TIMELINE_PREFIX + userId;
+    }
+
+    public String outboxKey(Long actorId) {
+        return OUTBOX_PREFIX + actorId;
+    }
+
+    private void append(RedisConnection connection, byte[] key, double score, byte[] member, int maxSize) {
+        connection.zSetCommands().zAdd(key, score, member);
+        connection.zSetCommands().zRemRange(key, 0, -(Math.max(1, maxSize) + 1L));
+        connection.keyCommands().expire(key, properties.getTtl().toSeconds());
+    }
+
+    private String serialize(FeedEntryResponse entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("피드 항목 직렬화 실패: " + entry.getId(), e);
+        }
+    }
+
+    private FeedEntryResponse deserialize(String member) {
+        if (member == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(member, FeedEntryResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 피드 항목 역직렬화 실패 (무시): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
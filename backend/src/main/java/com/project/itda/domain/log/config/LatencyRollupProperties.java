@@ -0,0 +1,41 @@
+package com.project.itda.domain.log.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 응답 시간 집계 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "log.latency")
+@Getter
+@Setter
+public class LatencyRollupProperties {
+
+    /**
+     * 분 단위 구간당 최대 엔드포인트 수 (초과 시 OTHER 로 합산)
+     */
+    private int maxEndpointsPerWindow = 300;
+
+    /**
+     * 분 단위 집계 보관 기간 (시간)
+     */
+    private int minuteRetentionHours = 48;
+
+    /**
+     * 시간 단위 집계 보관 기간 (일)
+     */
+    private int hourRetentionDays = 90;
+
+    /**
+     * 느린 API 기준 (p95, ms)
+     */
+    private long slowThresholdMillis = 1000;
+
+    /**
+     * 보관 기간 지난 행 삭제 배치 크기
+     */
+    private int deleteBatchSize = 5000;
+}
@@ -0,0 +1,46 @@
+package com.project.itda.domain.log.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * API/활동 로그 비동기 저장 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "log.pipeline")
+@Getter
+@Setter
+public class LogPipelineProperties {
+
+    /**
+     * 로그 종류별 링 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    private int bufferCapacity = 8192;
+
+    /**
+     * JDBC 배치 insert 크기
+     */
+    private int batchSize = 200;
+
+    /**
+     * 버퍼 비우기 주기 (ms)
+     */
+    private long flushIntervalMillis = 1000;
+
+    /**
+     * API 로그 샘플링 비율 (0.0 ~ 1.0, 에러 응답은 항상 저장)
+     */
+    private double apiSampleRate = 1.0;
+
+    /**
+     * 활동 로그 샘플링 비율 (0.0 ~ 1.0)
+     */
+    private double activitySampleRate = 1.0;
+
+    /**
+     * 요청/응답 본문 최대 저장 길이 (0 이면 본문 저장 안 함)
+     */
+    private int maxBodyLength = 2000;
+}
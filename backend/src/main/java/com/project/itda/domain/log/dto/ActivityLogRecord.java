@@ -0,0 +1,23 @@
+package com.project.itda.domain.log.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동 로그 레코드 (버퍼 적재용, FK 는 ID만 보유)
+ */
+@Getter
+@Builder
+public class ActivityLogRecord {
+
+    private Long userId;
+    private String activityType;
+    private String pageUrl;
+    private String referrer;
+    private String userAgent;
+    private String ipAddress;
+    private String sessionId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.project.itda.domain.log.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * API 로그 레코드 (버퍼 적재용, FK 는 ID만 보유)
+ */
+@Getter
+@Builder
+public class ApiLogRecord {
+
+    private String endpoint;
+    private String method;
+    private Long userId;
+    private int statusCode;
+    private Integer responseTimeMs;
+    private String requestBody;
+    private String responseBody;
+    private String errorMessage;
+    private String ipAddress;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.project.itda.domain.log.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 엔드포인트별 응답 시간/에러율 통계 (관리자 조회용)
+ */
+@Getter
+@Builder
+public class EndpointLatencyStats {
+
+    private String endpoint;
+    private String method;
+    private long requestCount;
+    private long clientErrorCount;
+    private long serverErrorCount;
+    private double errorRate;        // (4xx + 5xx) / 전체
+    private double serverErrorRate;  // 5xx / 전체
+    private double avgMillis;
+    private long p50Millis;
+    private long p95Millis;
+    private long p99Millis;
+    private long maxMillis;
+}
@@ -0,0 +1,25 @@
+package com.project.itda.domain.log.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답 시간 집계 행 (api_latency_rollup 저장/조회용)
+ */
+@Getter
+@Builder
+public class LatencyRollupRecord {
+
+    private int bucketMinutes;
+    private LocalDateTime windowStart;
+    private String endpoint;
+    private String method;
+    private long requestCount;
+    private long clientErrorCount;
+    private long serverErrorCount;
+    private long totalMillis;
+    private long maxMillis;
+    private byte[] histogram;
+}
@@ -0,0 +1,66 @@
+package com.project.itda.domain.log.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * API 응답 시간 집계 (엔드포인트 × 시간 구간)
+ * - bucket_minutes = 1 : 인스턴스별 분 단위 집계 (JDBC 배치 insert)
+ * - bucket_minutes = 60 : 분 단위 행을 병합한 시간 단위 집계
+ * - histogram 은 LatencyHistogram 직렬화 값 (조회 시 병합해 백분위 계산)
+ * - 시간 단위 행은 compacted = true 로 유니크 제약 적용 (분 단위 행은 NULL → 인스턴스별 중복 허용)
+ */
+@Entity
+@Table(name = "api_latency_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_latency_rollup_compacted",
+                columnNames = {"bucket_minutes", "window_start", "endpoint", "method", "compacted"})
+}, indexes = {
+        @Index(name = "idx_latency_rollup_window", columnList = "bucket_minutes, window_start")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ApiLatencyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "bucket_minutes", nullable = false)
+    private Integer bucketMinutes;
+
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+
+    @Column(nullable = false, length = 200)
+    private String endpoint;
+
+    @Column(nullable = false, length = 10)
+    private String method;
+
+    @Column(name = "request_count", nullable = false)
+    private Long requestCount;
+
+    @Column(name = "client_error_count", nullable = false)
+    private Long clientErrorCount;
+
+    @Column(name = "server_error_count", nullable = false)
+    private Long serverErrorCount;
+
+    @Column(name = "total_millis", nullable = false)
+    private Long totalMillis;
+
+    @Column(name = "max_millis", nullable = false)
+    private Long maxMillis;
+
+    @Column(name = "histogram", columnDefinition = "VARBINARY(2048)")
+    private byte[] histogram;
+
+    // 병합된 시간 단위 행만 true (여러 인스턴스가 동시에 병합해도 한 행만 저장)
+    @Column(name = "compacted")
+    private Boolean compacted;
+}
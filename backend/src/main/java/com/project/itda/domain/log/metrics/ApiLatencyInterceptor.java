@@ -0,0 +1,46 @@
+package com.project.itda.domain.log.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * API 요청 응답 시간 측정 → ApiLatencyRecorder
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiLatencyInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ApiLatencyInterceptor.class.getName() + ".start";
+    private static final String UNMAPPED_ENDPOINT = "UNMAPPED";
+
+    private final ApiLatencyRecorder latencyRecorder;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(start instanceof Long startNanos)) {
+            return;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : UNMAPPED_ENDPOINT;
+
+        int status = response.getStatus();
+        if (ex != null && status < 500) {
+            status = 500;
+        }
+        latencyRecorder.record(endpoint, request.getMethod(), status, elapsedMillis);
+    }
+}
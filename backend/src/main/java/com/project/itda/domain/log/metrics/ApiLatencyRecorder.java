@@ -0,0 +1,127 @@
+package com.project.itda.domain.log.metrics;
+
+import com.project.itda.domain.log.config.LatencyRollupProperties;
+import com.project.itda.domain.log.dto.LatencyRollupRecord;
+import com.project.itda.domain.log.repository.LatencyRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 엔드포인트별 응답 시간 기록기 (인스턴스 내 분 단위 집계)
+ * - 요청 스레드는 (분, 엔드포인트, 메서드) 구간의 히스토그램에 기록만 함
+ * - 분이 끝나면 구간을 떼어내 api_latency_rollup 에 배치 insert
+ * - 엔드포인트는 URL 패턴 기준 (경로 변수로 인한 카디널리티 폭증 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiLatencyRecorder {
+
+    public static final String OTHER_ENDPOINT = "OTHER";
+    private static final int MINUTE_BUCKET = 1;
+
+    private final LatencyRollupRepository rollupRepository;
+    private final LatencyRollupProperties properties;
+
+    private final Map<WindowKey, EndpointWindow> windows = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, String method, int statusCode, long elapsedMillis) {
+        long minute = System.currentTimeMillis() / 60_000;
+        WindowKey key = new WindowKey(minute, endpoint, method);
+
+        EndpointWindow window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= properties.getMaxEndpointsPerWindow()) {
+                key = new WindowKey(minute, OTHER_ENDPOINT, method);
+            }
+            window = windows.computeIfAbsent(key, k -> new EndpointWindow());
+        }
+        window.record(statusCode, elapsedMillis);
+    }
+
+    /**
+     * 끝난 분 구간 저장 (매분 5초)
+     */
+    @Scheduled(cron = "5 * * * * *")
+    public void flushCompletedWindows() {
+        flush(System.currentTimeMillis() / 60_000);
+    }
+
+    @PreDestroy
+    void flushAll() {
+        flush(Long.MAX_VALUE);
+    }
+
+    private void flush(long beforeMinute) {
+        List<LatencyRollupRecord> records = new ArrayList<>();
+        for (WindowKey key : windows.keySet()) {
+            if (key.minute() >= beforeMinute) {
+                continue;
+            }
+            EndpointWindow window = windows.remove(key);
+            if (window != null && window.histogram.getTotalCount() > 0) {
+                records.add(window.toRecord(key));
+            }
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try {
+            rollupRepository.insertAll(records);
+            log.debug("⏱️ 응답 시간 집계 저장: {}건", records.size());
+        } catch (Exception e) {
+            log.warn("⚠️ 응답 시간 집계 저장 실패: size={}, error={}", records.size(), e.getMessage());
+        }
+    }
+
+    private record WindowKey(long minute, String endpoint, String method) {
+
+        LocalDateTime windowStart() {
+            return LocalDateTime.ofInstant(Instant.ofEpochSecond(minute * 60), ZoneId.systemDefault());
+        }
+    }
+
+    private static class EndpointWindow {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+
+        void record(int statusCode, long elapsedMillis) {
+            histogram.record(elapsedMillis);
+            if (statusCode >= 500) {
+                serverErrors.increment();
+            } else if (statusCode >= 400) {
+                clientErrors.increment();
+            }
+        }
+
+        LatencyRollupRecord toRecord(WindowKey key) {
+            return LatencyRollupRecord.builder()
+                    .bucketMinutes(MINUTE_BUCKET)
+                    .windowStart(key.windowStart())
+                    .endpoint(key.endpoint())
+                    .method(key.method())
+                    .requestCount(histogram.getTotalCount())
+                    .clientErrorCount(clientErrors.sum())
+                    .serverErrorCount(serverErrors.sum())
+                    .totalMillis(histogram.getTotalMillis())
+                    .maxMillis(histogram.getMaxMillis())
+                    .histogram(histogram.encode())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.project.itda.domain.log.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 응답 시간(ms) 로그-선형 히스토그램 (HDR 방식)
+ * - 0~31ms 는 1ms 단위, 그 이상은 2의 거듭제곱 구간마다 16칸 (상대 오차 약 6%)
+ * - 최대 65,535ms 까지 기록 (초과 값은 마지막 칸)
+ * - 기록은 lock-free, 저장 시에는 0이 아닌 칸만 (index, varint count) 로 직렬화
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+    private static final int MAX_EXPONENT = 15;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    static final int BUCKET_COUNT =
+            LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private volatile long maxMillis;
+
+    public void record(long millis) {
+        long value = Math.max(0, Math.min(millis, MAX_VALUE));
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalMillis.add(value);
+        updateMax(value);
+    }
+
+    /**
+     * 다른 히스토그램 누적 (조회 시 분 단위 → 구간 전체 병합)
+     */
+    public void merge(byte[] encoded, long count, long sumMillis, long max) {
+        if (encoded != null) {
+            decodeInto(encoded);
+        }
+        totalCount.add(count);
+        totalMillis.add(sumMillis);
+        updateMax(max);
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.getTotalCount());
+        totalMillis.add(other.getTotalMillis());
+        updateMax(other.getMaxMillis());
+    }
+
+    /**
+     * 백분위 값 (해당 칸의 상한, 최대값을 넘지 않음)
+     */
+    public long percentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxMillis);
+            }
+        }
+        return maxMillis;
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalMillis() {
+        return totalMillis.sum();
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+
+    public double getMeanMillis() {
+        long count = getTotalCount();
+        return count == 0 ? 0.0 : (double) getTotalMillis() / count;
+    }
+
+    /**
+     * 희소 직렬화: [index(1byte), count(varint)] 반복
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count == 0) {
+                continue;
+            }
+            out.write(i);
+            long remaining = count;
+            while ((remaining & ~0x7FL) != 0) {
+                out.write((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            out.write((int) remaining);
+        }
+        return out.toByteArray();
+    }
+
+    private void decodeInto(byte[] encoded) {
+        int pos = 0;
+        while (pos < encoded.length) {
+            int index = encoded[pos++] & 0xFF;
+            long count = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[pos++];
+                count |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            if (index < BUCKET_COUNT) {
+                counts.addAndGet(index, count);
+            }
+        }
+    }
+
+    private void updateMax(long value) {
+        if (value <= maxMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (value > maxMillis) {
+                maxMillis = value;
+            }
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = offset / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        int subBucket = offset % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,162 @@
+package com.project.itda.domain.log.pipeline;
+
+import com.project.itda.domain.log.config.LogPipelineProperties;
+import com.project.itda.domain.log.dto.ActivityLogRecord;
+import com.project.itda.domain.log.dto.ApiLogRecord;
+import com.project.itda.domain.log.repository.LogBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * ✅ API/활동 로그 비동기 배치 저장
+ * - 요청 스레드는 링 버퍼에 넣기만 함 (가득 차면 버리고 카운트)
+ * - 전용 스레드가 주기적으로 버퍼를 비우며 JDBC 배치 insert
+ * - 샘플링 / 본문 길이 제한 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    private static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+    private final LogBatchRepository logBatchRepository;
+    private final LogPipelineProperties properties;
+
+    private LogRingBuffer<ApiLogRecord> apiBuffer;
+    private LogRingBuffer<ActivityLogRecord> activityBuffer;
+    private ScheduledExecutorService drainer;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @PostConstruct
+    void start() {
+        apiBuffer = new LogRingBuffer<>(properties.getBufferCapacity());
+        activityBuffer = new LogRingBuffer<>(properties.getBufferCapacity());
+
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-log-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(this::drainSafely,
+                properties.getFlushIntervalMillis(), properties.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        drainer.shutdown();
+        drainer.awaitTermination(5, TimeUnit.SECONDS);
+        drainSafely();
+    }
+
+    /**
+     * API 로그 적재 (비차단)
+     */
+    public void submit(ApiLogRecord record) {
+        boolean error = record.getStatusCode() >= 400
+                || record.getErrorMessage() != null;
+        if (!error && !sampled(properties.getApiSampleRate())) {
+            sampledOut.increment();
+            return;
+        }
+        enqueue(apiBuffer, record);
+    }
+
+    /**
+     * 활동 로그 적재 (비차단)
+     */
+    public void submit(ActivityLogRecord record) {
+        if (!sampled(properties.getActivitySampleRate())) {
+            sampledOut.increment();
+            return;
+        }
+        enqueue(activityBuffer, record);
+    }
+
+    /**
+     * 본문 길이 제한
+     */
+    public String truncateBody(String body) {
+        int max = properties.getMaxBodyLength();
+        if (body == null || max <= 0) {
+            return null;
+        }
+        return truncate(body, max);
+    }
+
+    public String truncate(String value, int max) {
+        if (value == null || value.length() <= max) {
+            return value;
+        }
+        if (max <= TRUNCATED_SUFFIX.length()) {
+            return value.substring(0, max);
+        }
+        return value.substring(0, max - TRUNCATED_SUFFIX.length()) + TRUNCATED_SUFFIX;
+    }
+
+    /**
+     * 파이프라인 통계
+     */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("accepted", accepted.sum());
+        stats.put("sampledOut", sampledOut.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("written", written.sum());
+        stats.put("failed", failed.sum());
+        stats.put("pendingApi", (long) apiBuffer.size());
+        stats.put("pendingActivity", (long) activityBuffer.size());
+        return stats;
+    }
+
+    private <T> void enqueue(LogRingBuffer<T> buffer, T record) {
+        if (buffer.offer(record)) {
+            accepted.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private boolean sampled(double rate) {
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private void drainSafely() {
+        drain(apiBuffer, logBatchRepository::insertApiLogs);
+        drain(activityBuffer, logBatchRepository::insertActivityLogs);
+    }
+
+    private <T> void drain(LogRingBuffer<T> buffer, Consumer<List<T>> writer) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<T> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                writer.accept(batch);
+                written.add(batch.size());
+            } catch (Exception e) {
+                failed.add(batch.size());
+                log.warn("⚠️ 로그 배치 저장 실패: size={}, error={}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+}
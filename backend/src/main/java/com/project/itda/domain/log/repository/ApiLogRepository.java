@@ -1,8 +1,8 @@
 package com.project.itda.domain.log.repository;
 
 import com.project.itda.domain.log.entity.ApiLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -25,10 +25,6 @@ public interface ApiLogRepository extends JpaRepository<ApiLog, Long> {
 
     List<ApiLog> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
-    List<ApiLog> findByStatusCodeGreaterThanEqual(Integer statusCode);
-
-    List<ApiLog> findByResponseTimeMsGreaterThan(Integer threshold);
-
-    @Query("SELECT AVG(a.responseTimeMs) FROM ApiLog a WHERE a.endpoint = :endpoint")
-    Double getAverageResponseTime(String endpoint);
+    // 응답 시간/느린 API 통계는 api_latency_rollup 사용 (ApiLatencyService)
+    List<ApiLog> findByStatusCodeGreaterThanEqualOrderByApiLogIdDesc(Integer statusCode, Pageable pageable);
 }
\ No newline at end of file
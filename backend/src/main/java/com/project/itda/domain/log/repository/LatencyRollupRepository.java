@@ -0,0 +1,108 @@
+package com.project.itda.domain.log.repository;
+
+import com.project.itda.domain.log.dto.LatencyRollupRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * api_latency_rollup JDBC 접근
+ * - 집계 행은 배치 insert, 조회는 행 단위 스트리밍 (엔티티 목록을 만들지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LatencyRollupRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO api_latency_rollup (
+                bucket_minutes, window_start, endpoint, method, request_count,
+                client_error_count, server_error_count, total_millis, max_millis, histogram
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_COMPACTED_SQL = """
+            INSERT INTO api_latency_rollup (
+                bucket_minutes, window_start, endpoint, method, request_count,
+                client_error_count, server_error_count, total_millis, max_millis, histogram, compacted
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true)
+            ON DUPLICATE KEY UPDATE rollup_id = rollup_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<LatencyRollupRecord> records) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), this::bind);
+    }
+
+    /**
+     * 병합된 시간 단위 행 저장
+     * - uk_latency_rollup_compacted 기반 멱등 insert (다른 인스턴스가 먼저 저장한 행은 유지)
+     */
+    public void insertCompacted(List<LatencyRollupRecord> records) {
+        jdbcTemplate.batchUpdate(INSERT_COMPACTED_SQL, records, records.size(), this::bind);
+    }
+
+    /**
+     * [from, to) 구간 집계 행을 하나씩 전달
+     */
+    public void forEachInRange(int bucketMinutes, LocalDateTime from, LocalDateTime to,
+                               Consumer<LatencyRollupRecord> consumer) {
+        jdbcTemplate.query("""
+                SELECT window_start, endpoint, method, request_count, client_error_count,
+                       server_error_count, total_millis, max_millis, histogram
+                FROM api_latency_rollup
+                WHERE bucket_minutes = ? AND window_start >= ? AND window_start < ?
+                """, (RowCallbackHandler) rs -> {
+            consumer.accept(LatencyRollupRecord.builder()
+                    .bucketMinutes(bucketMinutes)
+                    .windowStart(rs.getTimestamp("window_start").toLocalDateTime())
+                    .endpoint(rs.getString("endpoint"))
+                    .method(rs.getString("method"))
+                    .requestCount(rs.getLong("request_count"))
+                    .clientErrorCount(rs.getLong("client_error_count"))
+                    .serverErrorCount(rs.getLong("server_error_count"))
+                    .totalMillis(rs.getLong("total_millis"))
+                    .maxMillis(rs.getLong("max_millis"))
+                    .histogram(rs.getBytes("histogram"))
+                    .build());
+        }, bucketMinutes, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public boolean existsWindow(int bucketMinutes, LocalDateTime windowStart) {
+        List<Integer> found = jdbcTemplate.queryForList("""
+                SELECT 1 FROM api_latency_rollup
+                WHERE bucket_minutes = ? AND window_start = ?
+                LIMIT 1
+                """, Integer.class, bucketMinutes, Timestamp.valueOf(windowStart));
+        return !found.isEmpty();
+    }
+
+    public int deleteOlderThan(int bucketMinutes, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM api_latency_rollup
+                WHERE bucket_minutes = ? AND window_start < ?
+                LIMIT ?
+                """, bucketMinutes, Timestamp.valueOf(cutoff), limit);
+    }
+
+    private void bind(PreparedStatement ps, LatencyRollupRecord r) throws SQLException {
+        ps.setInt(1, r.getBucketMinutes());
+        ps.setTimestamp(2, Timestamp.valueOf(r.getWindowStart()));
+        ps.setString(3, r.getEndpoint());
+        ps.setString(4, r.getMethod());
+        ps.setLong(5, r.getRequestCount());
+        ps.setLong(6, r.getClientErrorCount());
+        ps.setLong(7, r.getServerErrorCount());
+        ps.setLong(8, r.getTotalMillis());
+        ps.setLong(9, r.getMaxMillis());
+        ps.setBytes(10, r.getHistogram());
+    }
+}
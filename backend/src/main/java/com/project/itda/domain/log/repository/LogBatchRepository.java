@@ -0,0 +1,78 @@
+package com.project.itda.domain.log.repository;
+
+import com.project.itda.domain.log.dto.ActivityLogRecord;
+import com.project.itda.domain.log.dto.ApiLogRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * API/활동 로그 JDBC 배치 insert
+ * - user_id 는 FK 값만 기록 (User 조회 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertApiLogs(List<ApiLogRecord> records) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO api_logs (
+                    endpoint, method, user_id, status_code, response_time_ms,
+                    request_body, response_body, error_message, ip_address, created_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, records, records.size(), (ps, r) -> {
+            ps.setString(1, r.getEndpoint());
+            ps.setString(2, r.getMethod());
+            setNullableLong(ps, 3, r.getUserId());
+            ps.setInt(4, r.getStatusCode());
+            setNullableInt(ps, 5, r.getResponseTimeMs());
+            ps.setString(6, r.getRequestBody());
+            ps.setString(7, r.getResponseBody());
+            ps.setString(8, r.getErrorMessage());
+            ps.setString(9, r.getIpAddress());
+            ps.setTimestamp(10, Timestamp.valueOf(r.getCreatedAt()));
+        });
+    }
+
+    public void insertActivityLogs(List<ActivityLogRecord> records) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_activity_logs (
+                    user_id, activity_type, page_url, referrer, user_agent,
+                    ip_address, session_id, created_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, records, records.size(), (ps, r) -> {
+            setNullableLong(ps, 1, r.getUserId());
+            ps.setString(2, r.getActivityType());
+            ps.setString(3, r.getPageUrl());
+            ps.setString(4, r.getReferrer());
+            ps.setString(5, r.getUserAgent());
+            ps.setString(6, r.getIpAddress());
+            ps.setString(7, r.getSessionId());
+            ps.setTimestamp(8, Timestamp.valueOf(r.getCreatedAt()));
+        });
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+}
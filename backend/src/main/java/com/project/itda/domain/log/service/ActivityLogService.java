@@ -1,15 +1,16 @@
 package com.project.itda.domain.log.service;
 
+import com.project.itda.domain.log.dto.ActivityLogRecord;
 import com.project.itda.domain.log.entity.UserActivityLog;
+import com.project.itda.domain.log.pipeline.AuditLogWriter;
 import com.project.itda.domain.log.repository.UserActivityLogRepository;
-import com.project.itda.domain.user.entity.User;
-import com.project.itda.domain.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -18,24 +19,25 @@ import java.util.List;
 public class ActivityLogService {
 
     private final UserActivityLogRepository activityLogRepository;
-    private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    @Transactional
+    /**
+     * 활동 로그 적재 (비동기 배치 저장, 요청 스레드 비차단)
+     */
     public void log(Long userId, String activityType, String pageUrl, HttpServletRequest request) {
-        User user = userId != null ? userRepository.findById(userId).orElse(null) : null;
-
-        UserActivityLog activityLog = UserActivityLog.builder()
-                .user(user)
+        ActivityLogRecord record = ActivityLogRecord.builder()
+                .userId(userId)
                 .activityType(activityType)
-                .pageUrl(pageUrl)
-                .referrer(request.getHeader("Referer"))
-                .userAgent(request.getHeader("User-Agent"))
-                .ipAddress(getClientIp(request))
+                .pageUrl(auditLogWriter.truncate(pageUrl, 500))
+                .referrer(auditLogWriter.truncate(request.getHeader("Referer"), 500))
+                .userAgent(auditLogWriter.truncate(request.getHeader("User-Agent"), 500))
+                .ipAddress(auditLogWriter.truncate(getClientIp(request), 50))
                 .sessionId(request.getSession(false) != null ?
                         request.getSession(false).getId() : null)
+                .createdAt(LocalDateTime.now())
                 .build();
 
-        activityLogRepository.save(activityLog);
+        auditLogWriter.submit(record);
         log.debug("Activity logged: userId={}, type={}, page={}", userId, activityType, pageUrl);
     }
 
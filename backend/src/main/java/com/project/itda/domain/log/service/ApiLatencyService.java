@@ -0,0 +1,218 @@
+package com.project.itda.domain.log.service;
+
+import com.project.itda.domain.log.config.LatencyRollupProperties;
+import com.project.itda.domain.log.dto.EndpointLatencyStats;
+import com.project.itda.domain.log.dto.LatencyRollupRecord;
+import com.project.itda.domain.log.metrics.LatencyHistogram;
+import com.project.itda.domain.log.repository.LatencyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ API 응답 시간 집계 조회/관리
+ * - 조회는 api_latency_rollup 만 사용 (api_logs 스캔 없음)
+ * - 최근 구간은 분 단위, 오래된 구간은 시간 단위 집계를 병합해 백분위 계산
+ * - 매시 10분: 직전 시간 분 단위 집계 → 시간 단위 집계로 병합, 보관 기간 지난 행 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiLatencyService {
+
+    private static final int MINUTE_BUCKET = 1;
+    private static final int HOUR_BUCKET = 60;
+    private static final Duration MINUTE_ONLY_RANGE = Duration.ofHours(6);
+    private static final int COMPACT_CATCH_UP_HOURS = 3;
+
+    private final LatencyRollupRepository rollupRepository;
+    private final LatencyRollupProperties properties;
+
+    /**
+     * 엔드포인트별 p50/p95/p99, 에러율 (p95 내림차순)
+     */
+    public List<EndpointLatencyStats> getEndpointStats(LocalDateTime from, LocalDateTime to) {
+        List<EndpointLatencyStats> stats = new ArrayList<>();
+        aggregate(from, to).forEach((key, aggregate) -> stats.add(aggregate.toStats(key)));
+        stats.sort(Comparator.comparingLong(EndpointLatencyStats::getP95Millis).reversed());
+        return stats;
+    }
+
+    /**
+     * 느린 엔드포인트 (p95 >= 기준값)
+     */
+    public List<EndpointLatencyStats> getSlowEndpoints(LocalDateTime from, LocalDateTime to,
+                                                       Long thresholdMillis, int limit) {
+        long threshold = thresholdMillis != null ? thresholdMillis : properties.getSlowThresholdMillis();
+        return getEndpointStats(from, to).stream()
+                .filter(stat -> stat.getP95Millis() >= threshold)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 에러율 높은 엔드포인트 (에러율 내림차순)
+     */
+    public List<EndpointLatencyStats> getErrorProneEndpoints(LocalDateTime from, LocalDateTime to, int limit) {
+        return getEndpointStats(from, to).stream()
+                .filter(stat -> stat.getClientErrorCount() + stat.getServerErrorCount() > 0)
+                .sorted(Comparator.comparingDouble(EndpointLatencyStats::getErrorRate).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 엔드포인트 평균 응답 시간 (ms, 기록 없으면 null)
+     */
+    public Double getAverageResponseTime(String endpoint, LocalDateTime from, LocalDateTime to) {
+        long count = 0;
+        long totalMillis = 0;
+        for (Map.Entry<EndpointKey, Aggregate> entry : aggregate(from, to).entrySet()) {
+            if (entry.getKey().endpoint().equals(endpoint)) {
+                count += entry.getValue().histogram.getTotalCount();
+                totalMillis += entry.getValue().histogram.getTotalMillis();
+            }
+        }
+        return count == 0 ? null : (double) totalMillis / count;
+    }
+
+    /**
+     * 시간 단위 병합 + 보관 기간 정리 (매시 10분)
+     */
+    @Scheduled(cron = "0 10 * * * *")
+    public void compactAndPurge() {
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        for (int i = COMPACT_CATCH_UP_HOURS; i >= 1; i--) {
+            compactHour(currentHour.minusHours(i));
+        }
+
+        int minuteDeleted = purge(MINUTE_BUCKET, LocalDateTime.now().minusHours(properties.getMinuteRetentionHours()));
+        int hourDeleted = purge(HOUR_BUCKET, LocalDateTime.now().minusDays(properties.getHourRetentionDays()));
+        if (minuteDeleted + hourDeleted > 0) {
+            log.info("🧹 응답 시간 집계 정리: 분 단위 {}건, 시간 단위 {}건", minuteDeleted, hourDeleted);
+        }
+    }
+
+    private void compactHour(LocalDateTime hourStart) {
+        // 이미 병합된 시간은 건너뜀 (동시 병합은 insertCompacted 의 유니크 제약으로 한 번만 저장)
+        if (rollupRepository.existsWindow(HOUR_BUCKET, hourStart)) {
+            return;
+        }
+
+        Map<EndpointKey, Aggregate> aggregates = new HashMap<>();
+        rollupRepository.forEachInRange(MINUTE_BUCKET, hourStart, hourStart.plusHours(1),
+                row -> accumulate(aggregates, row));
+        if (aggregates.isEmpty()) {
+            return;
+        }
+
+        List<LatencyRollupRecord> records = new ArrayList<>(aggregates.size());
+        aggregates.forEach((key, aggregate) -> records.add(aggregate.toRecord(key, hourStart)));
+        rollupRepository.insertCompacted(records);
+        log.debug("⏱️ 응답 시간 시간 단위 병합: hour={}, endpoints={}", hourStart, records.size());
+    }
+
+    private int purge(int bucketMinutes, LocalDateTime cutoff) {
+        int batchSize = Math.max(1, properties.getDeleteBatchSize());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = rollupRepository.deleteOlderThan(bucketMinutes, cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    /**
+     * 조회 구간 병합
+     * - 짧고 최근 구간: 분 단위만
+     * - 그 외: 병합 완료된 시간까지는 시간 단위, 이후는 분 단위
+     */
+    private Map<EndpointKey, Aggregate> aggregate(LocalDateTime from, LocalDateTime to) {
+        Map<EndpointKey, Aggregate> aggregates = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minuteRetained = now.minusHours(properties.getMinuteRetentionHours());
+
+        if (!from.isBefore(minuteRetained) && Duration.between(from, to).compareTo(MINUTE_ONLY_RANGE) <= 0) {
+            rollupRepository.forEachInRange(MINUTE_BUCKET, from, to, row -> accumulate(aggregates, row));
+            return aggregates;
+        }
+
+        // 매시 10분 병합 → 15분 여유를 두고 병합 완료 경계 계산
+        LocalDateTime compactedUntil = now.minusMinutes(15).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime hourEnd = to.isBefore(compactedUntil) ? to : compactedUntil;
+        LocalDateTime hourFrom = from.truncatedTo(ChronoUnit.HOURS);
+        if (hourFrom.isBefore(hourEnd)) {
+            rollupRepository.forEachInRange(HOUR_BUCKET, hourFrom, hourEnd, row -> accumulate(aggregates, row));
+        }
+        LocalDateTime minuteFrom = from.isAfter(compactedUntil) ? from : compactedUntil;
+        if (minuteFrom.isBefore(to)) {
+            rollupRepository.forEachInRange(MINUTE_BUCKET, minuteFrom, to, row -> accumulate(aggregates, row));
+        }
+        return aggregates;
+    }
+
+    private void accumulate(Map<EndpointKey, Aggregate> aggregates, LatencyRollupRecord row) {
+        aggregates.computeIfAbsent(new EndpointKey(row.getEndpoint(), row.getMethod()), k -> new Aggregate())
+                .add(row);
+    }
+
+    private record EndpointKey(String endpoint, String method) {
+    }
+
+    private static class Aggregate {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long clientErrors;
+        private long serverErrors;
+
+        void add(LatencyRollupRecord row) {
+            histogram.merge(row.getHistogram(), row.getRequestCount(), row.getTotalMillis(), row.getMaxMillis());
+            clientErrors += row.getClientErrorCount();
+            serverErrors += row.getServerErrorCount();
+        }
+
+        EndpointLatencyStats toStats(EndpointKey key) {
+            long count = histogram.getTotalCount();
+            return EndpointLatencyStats.builder()
+                    .endpoint(key.endpoint())
+                    .method(key.method())
+                    .requestCount(count)
+                    .clientErrorCount(clientErrors)
+                    .serverErrorCount(serverErrors)
+                    .errorRate(count == 0 ? 0.0 : (double) (clientErrors + serverErrors) / count)
+                    .serverErrorRate(count == 0 ? 0.0 : (double) serverErrors / count)
+                    .avgMillis(histogram.getMeanMillis())
+                    .p50Millis(histogram.percentile(50))
+                    .p95Millis(histogram.percentile(95))
+                    .p99Millis(histogram.percentile(99))
+                    .maxMillis(histogram.getMaxMillis())
+                    .build();
+        }
+
+        LatencyRollupRecord toRecord(EndpointKey key, LocalDateTime hourStart) {
+            return LatencyRollupRecord.builder()
+                    .bucketMinutes(HOUR_BUCKET)
+                    .windowStart(hourStart)
+                    .endpoint(key.endpoint())
+                    .method(key.method())
+                    .requestCount(histogram.getTotalCount())
+                    .clientErrorCount(clientErrors)
+                    .serverErrorCount(serverErrors)
+                    .totalMillis(histogram.getTotalMillis())
+                    .maxMillis(histogram.getMaxMillis())
+                    .histogram(histogram.encode())
+                    .build();
+        }
+    }
+}
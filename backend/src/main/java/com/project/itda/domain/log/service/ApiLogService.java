@@ -1,15 +1,18 @@
 package com.project.itda.domain.log.service;
 
+import com.project.itda.domain.log.dto.ApiLogRecord;
+import com.project.itda.domain.log.dto.EndpointLatencyStats;
 import com.project.itda.domain.log.entity.ApiLog;
+import com.project.itda.domain.log.pipeline.AuditLogWriter;
 import com.project.itda.domain.log.repository.ApiLogRepository;
-import com.project.itda.domain.user.entity.User;
-import com.project.itda.domain.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -17,30 +20,37 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ApiLogService {
 
+    /**
+     * 응답 상태를 알 수 없을 때 기록하는 값 (api_logs.status_code 는 NOT NULL)
+     */
+    public static final int UNKNOWN_STATUS = 0;
+
     private final ApiLogRepository apiLogRepository;
-    private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final ApiLatencyService apiLatencyService;
 
-    @Transactional
+    /**
+     * API 로그 적재 (비동기 배치 저장, 요청 스레드 비차단)
+     */
     public void log(String endpoint, String method, Long userId,
                     Integer statusCode, Integer responseTimeMs,
                     String requestBody, String responseBody,
                     String errorMessage, HttpServletRequest request) {
 
-        User user = userId != null ? userRepository.findById(userId).orElse(null) : null;
-
-        ApiLog apiLog = ApiLog.builder()
-                .endpoint(endpoint)
+        ApiLogRecord record = ApiLogRecord.builder()
+                .endpoint(auditLogWriter.truncate(endpoint, 200))
                 .method(method)
-                .user(user)
-                .statusCode(statusCode)
+                .userId(userId)
+                .statusCode(statusCode != null ? statusCode : UNKNOWN_STATUS)
                 .responseTimeMs(responseTimeMs)
-                .requestBody(requestBody)
-                .responseBody(responseBody)
+                .requestBody(auditLogWriter.truncateBody(requestBody))
+                .responseBody(auditLogWriter.truncateBody(responseBody))
                 .errorMessage(errorMessage)
-                .ipAddress(getClientIp(request))
+                .ipAddress(auditLogWriter.truncate(getClientIp(request), 50))
+                .createdAt(LocalDateTime.now())
                 .build();
 
-        apiLogRepository.save(apiLog);
+        auditLogWriter.submit(record);
         log.debug("API logged: {} {} - status={}, time={}ms", method, endpoint, statusCode, responseTimeMs);
     }
 
@@ -49,19 +59,28 @@ public class ApiLogService {
         return apiLogRepository.findByEndpoint(endpoint);
     }
 
+    /**
+     * 최근 에러 로그 (최신순, 개수 제한)
+     */
     @Transactional(readOnly = true)
-    public List<ApiLog> getErrorLogs() {
-        return apiLogRepository.findByStatusCodeGreaterThanEqual(400);
+    public List<ApiLog> getRecentErrorLogs(int size) {
+        return apiLogRepository.findByStatusCodeGreaterThanEqualOrderByApiLogIdDesc(400, PageRequest.of(0, size));
     }
 
-    @Transactional(readOnly = true)
-    public List<ApiLog> getSlowApis(int threshold) {
-        return apiLogRepository.findByResponseTimeMsGreaterThan(threshold);
+    /**
+     * 느린 API (최근 1시간 p95 기준, 응답 시간 집계 사용)
+     */
+    public List<EndpointLatencyStats> getSlowApis(long thresholdMillis) {
+        LocalDateTime now = LocalDateTime.now();
+        return apiLatencyService.getSlowEndpoints(now.minusHours(1), now, thresholdMillis, 50);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 엔드포인트 평균 응답 시간 (최근 24시간, 응답 시간 집계 사용)
+     */
     public Double getAverageResponseTime(String endpoint) {
-        return apiLogRepository.getAverageResponseTime(endpoint);
+        LocalDateTime now = LocalDateTime.now();
+        return apiLatencyService.getAverageResponseTime(endpoint, now.minusDays(1), now);
     }
 
     @Transactional(readOnly = true)
@@ -10,19 +10,16 @@ import com.project.itda.domain.meeting.service.MeetingService;
 import com.project.itda.domain.participation.service.ParticipationService;
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.repository.UserRepository;
+import com.project.itda.global.security.AuthenticatedUser;
+import com.project.itda.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -45,7 +42,7 @@ public class MeetingController {
     private final UserRepository userRepository;
 
     /**
-     * ✅ 모임 생성 (SecurityContext 사용)
+     * ✅ 모임 생성 (@CurrentUser 사용)
      */
     @Operation(
             summary = "모임 생성",
@@ -53,42 +50,13 @@ public class MeetingController {
     )
     @PostMapping
     public ResponseEntity<MeetingResponse> createMeeting(
-            HttpServletRequest request,
+            @CurrentUser AuthenticatedUser currentUser,
             @Valid @RequestBody MeetingCreateRequest requestDto
     ) {
-        log.info("==================== 모임 생성 요청 ====================");
-
-        // ✅ SecurityContext에서 인증 정보 가져오기
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            log.error("❌ SecurityContext에 인증 정보 없음");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        // ✅ Principal에서 userId 추출 (이제 Long 타입으로 저장됨)
-        Object principal = authentication.getPrincipal();
-        log.info("Principal 타입: {}, 값: {}", principal.getClass().getSimpleName(), principal);
-
-        Long userId;
-        try {
-            userId = (Long) principal;  // ✅ Long으로 캐스팅
-            log.info("✅ 인증된 사용자 ID: {}", userId);
-        } catch (ClassCastException e) {
-            log.error("❌ Principal 타입 오류: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        // ✅ 세션 디버깅 (선택 사항)
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            log.info("세션 ID: {}", session.getId());
-            log.info("세션이 새로 생성됨?: {}", session.isNew());
-        }
-
-        // ✅ 사용자 조회 및 모임 생성
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        log.info("📍 POST /api/meetings - userId: {}", currentUser.getUserId());
+
+        // ✅ 인증 필터에서 존재 확인된 사용자 → 프록시 참조 (추가 조회 없음)
+        User user = userRepository.getReferenceById(currentUser.getUserId());
 
         MeetingResponse response = meetingService.createMeeting(user, requestDto);
 
@@ -153,15 +121,14 @@ public class MeetingController {
     )
     @PutMapping("/{meetingId}")
     public ResponseEntity<MeetingResponse> updateMeeting(
-            @AuthenticationPrincipal Long userId,
+            @CurrentUser AuthenticatedUser currentUser,
             @Parameter(description = "모임 ID", required = true)
             @PathVariable Long meetingId,
             @Valid @RequestBody MeetingUpdateRequest request
     ) {
-        log.info("📍 PUT /api/meetings/{} - userId: {}", meetingId, userId);
+        log.info("📍 PUT /api/meetings/{} - userId: {}", meetingId, currentUser.getUserId());
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(currentUser.getUserId());
 
         MeetingResponse response = meetingService.updateMeeting(user, meetingId, request);
 
@@ -177,14 +144,13 @@ public class MeetingController {
     )
     @DeleteMapping("/{meetingId}")
     public ResponseEntity<Void> deleteMeeting(
-            @AuthenticationPrincipal Long userId,
+            @CurrentUser AuthenticatedUser currentUser,
             @Parameter(description = "모임 ID", required = true)
             @PathVariable Long meetingId
     ) {
-        log.info("📍 DELETE /api/meetings/{} - userId: {}", meetingId, userId);
+        log.info("📍 DELETE /api/meetings/{} - userId: {}", meetingId, currentUser.getUserId());
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(currentUser.getUserId());
 
         meetingService.deleteMeeting(user, meetingId);
 
@@ -196,12 +162,11 @@ public class MeetingController {
      */
     @PostMapping("/{meetingId}/image")
     public ResponseEntity<String> uploadMeetingImage(
-            @AuthenticationPrincipal Long userId,
+            @CurrentUser AuthenticatedUser currentUser,
             @PathVariable Long meetingId,
             @RequestParam("image") MultipartFile image
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(currentUser.getUserId());
 
         String imageUrl = meetingService.uploadMeetingImage(user, meetingId, image);
 
@@ -218,14 +183,13 @@ public class MeetingController {
     )
     @PostMapping("/{meetingId}/complete")
     public ResponseEntity<Map<String, Object>> completeMeeting(
-            @AuthenticationPrincipal Long userId,
+            @CurrentUser AuthenticatedUser currentUser,
             @Parameter(description = "모임 ID", required = true)
             @PathVariable Long meetingId
     ) {
-        log.info("📍 POST /api/meetings/{}/complete - userId: {}", meetingId, userId);
+        log.info("📍 POST /api/meetings/{}/complete - userId: {}", meetingId, currentUser.getUserId());
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(currentUser.getUserId());
 
         int completedCount = participationService.completeMeeting(user, meetingId);
 
@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_subcategory", columnList = "subcategory"),
                 @Index(name = "idx_meeting_time", columnList = "meeting_time"),
                 @Index(name = "idx_status", columnList = "status"),
-                @Index(name = "idx_location", columnList = "latitude,longitude")
+                @Index(name = "idx_location", columnList = "latitude,longitude"),
+                @Index(name = "idx_created_at", columnList = "created_at")
         }
 )
 @Getter
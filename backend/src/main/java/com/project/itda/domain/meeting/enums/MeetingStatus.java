@@ -39,4 +39,11 @@ public enum MeetingStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 활성 모임 여부 (모집 중 / 정원 마감)
+     */
+    public boolean isActive() {
+        return this == RECRUITING || this == FULL;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.project.itda.domain.meeting.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 모임 검색 결과에 영향을 주는 변경 이벤트 (생성 / 수정 / 삭제 / 참여 승인·취소 / 완료 / 상태 변경)
+ */
+@Getter
+public class MeetingChangedEvent extends ApplicationEvent {
+
+    private final Long meetingId;
+
+    public MeetingChangedEvent(Long meetingId) {
+        super(meetingId);
+        this.meetingId = meetingId;
+    }
+}
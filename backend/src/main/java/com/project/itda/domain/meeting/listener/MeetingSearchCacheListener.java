@@ -0,0 +1,39 @@
+package com.project.itda.domain.meeting.listener;
+
+import com.project.itda.domain.meeting.event.MeetingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 검색 캐시 무효화
+ * - 커밋 이후에 비움 (커밋 전 비우면 동시 검색이 변경 전 데이터를 다시 캐시할 수 있음)
+ * - 롤백된 변경은 무효화하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingSearchCacheListener {
+
+    public static final String MEETING_SEARCH_CACHE = "meetingSearch";
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMeetingChanged(MeetingChangedEvent event) {
+        Cache cache = cacheManager.getCache(MEETING_SEARCH_CACHE);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.clear();
+            log.debug("🔄 모임 검색 캐시 비움: meetingId={}", event.getMeetingId());
+        } catch (Exception e) {
+            log.warn("⚠️ 모임 검색 캐시 비우기 실패: meetingId={}, error={}", event.getMeetingId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.itda.domain.meeting.repository;
+
+import com.project.itda.domain.meeting.enums.MeetingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 모임 내보내기 프로젝션 (모임장 이름/이메일은 JOIN 으로 함께 조회)
+ */
+public interface MeetingExportRow {
+
+    Long getMeetingId();
+
+    String getTitle();
+
+    String getCategory();
+
+    String getSubcategory();
+
+    String getLeaderName();
+
+    String getLeaderEmail();
+
+    LocalDateTime getMeetingTime();
+
+    String getLocationName();
+
+    Integer getMaxParticipants();
+
+    Integer getCurrentParticipants();
+
+    Integer getExpectedCost();
+
+    MeetingStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    Double getAvgRating();
+
+    Integer getReviewCount();
+}
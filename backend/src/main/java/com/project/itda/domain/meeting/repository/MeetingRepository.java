@@ -2,11 +2,14 @@ package com.project.itda.domain.meeting.repository;
 
 import com.project.itda.domain.meeting.entity.Meeting;
 import com.project.itda.domain.meeting.enums.MeetingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.project.itda.domain.meeting.enums.MeetingStatus;
@@ -14,6 +17,7 @@ import com.project.itda.domain.meeting.enums.MeetingStatus;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 모임 레포지토리
@@ -182,6 +186,12 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     Long countByStatusIn(List<MeetingStatus> statuses);
 
+    // 최근 생성 모임 top-N (created_at 인덱스)
+    @Query("SELECT m.meetingId AS meetingId, m.title AS title, m.category AS category, " +
+            "m.currentParticipants AS currentParticipants, m.createdAt AS createdAt " +
+            "FROM Meeting m ORDER BY m.createdAt DESC, m.meetingId DESC")
+    List<RecentMeetingRow> findRecentMeetings(Pageable pageable);
+
     /**
      * 검색 + 필터 조합
      */
@@ -435,4 +445,30 @@ Page<Meeting> findByTitleContainingAndCategoryAndStatusWithOrganizer(
      */
     @Query("SELECT COALESCE(AVG(m.avgRating), 0.0) FROM Meeting m WHERE m.deletedAt IS NULL AND m.avgRating IS NOT NULL")
     Double avgAllRating();
+
+    /**
+     * ✅ 관리자 모임 내보내기 (목록 API 와 같은 필터, null 이면 조건 제외, MySQL 행 단위 스트리밍)
+     */
+    @Query("""
+            SELECT m.meetingId AS meetingId, m.title AS title, m.category AS category,
+                   m.subcategory AS subcategory, o.username AS leaderName, o.email AS leaderEmail,
+                   m.meetingTime AS meetingTime, m.locationName AS locationName,
+                   m.maxParticipants AS maxParticipants, m.currentParticipants AS currentParticipants,
+                   m.expectedCost AS expectedCost, m.status AS status, m.createdAt AS createdAt,
+                   m.avgRating AS avgRating, m.reviewCount AS reviewCount
+            FROM Meeting m
+            JOIN m.organizer o
+            WHERE m.deletedAt IS NULL
+              AND (:title IS NULL OR m.title LIKE CONCAT('%', :title, '%'))
+              AND (:category IS NULL OR m.category = :category)
+              AND (:status IS NULL OR m.status = :status)
+            ORDER BY m.createdAt DESC, m.meetingId DESC
+           """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MeetingExportRow> streamForExport(@Param("title") String title,
+                                             @Param("category") String category,
+                                             @Param("status") MeetingStatus status);
 }
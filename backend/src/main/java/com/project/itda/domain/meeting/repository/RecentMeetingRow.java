@@ -0,0 +1,19 @@
+package com.project.itda.domain.meeting.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 생성 모임 프로젝션 (관리자 대시보드, 엔티티 로딩 없음)
+ */
+public interface RecentMeetingRow {
+
+    Long getMeetingId();
+
+    String getTitle();
+
+    String getCategory();
+
+    Integer getCurrentParticipants();
+
+    LocalDateTime getCreatedAt();
+}
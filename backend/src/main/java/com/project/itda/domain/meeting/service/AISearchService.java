@@ -50,7 +50,7 @@ public class AISearchService {
                             m.getLocationType().name().equalsIgnoreCase(lt))
                     .toList();
 
-            log.info("✅ [locationType={}] 하드 필터: {} -> {}",
+            log.debug("✅ [locationType={}] 하드 필터: {} -> {}",
                     lt, base.size(), meetings.size());
 
             if (meetings.isEmpty()) {
@@ -82,10 +82,10 @@ public class AISearchService {
                     .toList();
 
             if (!filtered.isEmpty()) {
-                log.info("✅ [subcategory={}] 적용: {} -> {}", sub, meetings.size(), filtered.size());
+                log.debug("✅ [subcategory={}] 적용: {} -> {}", sub, meetings.size(), filtered.size());
                 meetings = filtered;
             } else {
-                log.info("⚠️ [subcategory={}] 결과 0개 → 스킵", sub);
+                log.debug("⚠️ [subcategory={}] 결과 0개 → 스킵", sub);
             }
         }
 
@@ -116,7 +116,7 @@ public class AISearchService {
             // ✅✅✅ 여기 추가! vibe 필터 직후 카테고리별로 섞기
             if (!meetings.isEmpty()) {
                 meetings = shuffleByCategory(meetings);
-                log.info("🎨 [CATEGORY_SHUFFLE] vibe 필터 후 카테고리별로 섞음: {}개", meetings.size());
+                log.debug("🎨 [CATEGORY_SHUFFLE] vibe 필터 후 카테고리별로 섞음: {}개", meetings.size());
             }
         }
 
@@ -191,13 +191,13 @@ public class AISearchService {
                 .collect(Collectors.toList());
 
         // ✅ 디버깅: 상위 5개 ID 출력
-        log.info("🔝 Spring 최종 상위 5개 ID: {}",
-                meetingDTOs.stream()
-                        .limit(5)
-                        .map(AIMeetingDTO::getMeetingId)
-                        .collect(Collectors.toList()));
-
-        log.info("✅ AI 검색 완료: {}개 모임 반환", meetingDTOs.size());
+        if (log.isDebugEnabled()) {
+            log.debug("🔝 Spring 최종 상위 5개 ID: {}",
+                    meetingDTOs.stream()
+                            .limit(5)
+                            .map(AIMeetingDTO::getMeetingId)
+                            .collect(Collectors.toList()));
+        }
 
         log.info("✅ AI 검색 완료: {}개 모임 반환", meetingDTOs.size());
 
@@ -265,19 +265,19 @@ public class AISearchService {
         List<Meeting> filtered = current.stream().filter(predicate).toList();
 
         if (filtered.isEmpty()) {
-            log.info("⚠️ [{}] 결과 0개 → 스킵 (원본 {} 유지)", label, current.size());
+            log.debug("⚠️ [{}] 결과 0개 → 스킵 (원본 {} 유지)", label, current.size());
             return current;
         }
 
         int dynamicMin = Math.min(minCandidates, Math.max(5, (int)Math.ceil(current.size() * 0.4)));
 
         if (filtered.size() < dynamicMin) {
-            log.info("⚠️ [{}] 결과 {}개(<{}) → 스킵 (원본 {} 유지)",
+            log.debug("⚠️ [{}] 결과 {}개(<{}) → 스킵 (원본 {} 유지)",
                     label, filtered.size(), dynamicMin, current.size());
             return current;
         }
 
-        log.info("✅ [{}] 적용: {} -> {}", label, current.size(), filtered.size());
+        log.debug("✅ [{}] 적용: {} -> {}", label, current.size(), filtered.size());
         return filtered;
     }
 
@@ -312,10 +312,10 @@ public class AISearchService {
                     .toList();
 
             if (!filtered.isEmpty() && filtered.size() >= Math.min(MIN_CANDIDATES, meetings.size())) {
-                log.info("✅ [radius<={}km] 적용: {} -> {}", r, meetings.size(), filtered.size());
+                log.debug("✅ [radius<={}km] 적용: {} -> {}", r, meetings.size(), filtered.size());
                 meetings = filtered;
             } else {
-                log.info("⚠️ [radius<={}km] 결과 {}개 → 스킵 (원본 {} 유지)",
+                log.debug("⚠️ [radius<={}km] 결과 {}개 → 스킵 (원본 {} 유지)",
                         r, filtered.size(), meetings.size());
             }
         }
@@ -454,13 +454,15 @@ public class AISearchService {
             }
         }
 
-        log.info("🎨 [INTERLEAVE] 카테고리 분포: {}",
-                byCategory.entrySet().stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                e -> e.getValue().size()
-                        ))
-        );
+        if (log.isDebugEnabled()) {
+            log.debug("🎨 [INTERLEAVE] 카테고리 분포: {}",
+                    byCategory.entrySet().stream()
+                            .collect(Collectors.toMap(
+                                    Map.Entry::getKey,
+                                    e -> e.getValue().size()
+                            ))
+            );
+        }
 
         return interleaved;
     }
@@ -498,13 +500,15 @@ public class AISearchService {
             }
         }
 
-        log.info("🎨 [SHUFFLE] 카테고리 분포: {}",
-                byCategory.entrySet().stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                e -> e.getValue().size()
-                        ))
-        );
+        if (log.isDebugEnabled()) {
+            log.debug("🎨 [SHUFFLE] 카테고리 분포: {}",
+                    byCategory.entrySet().stream()
+                            .collect(Collectors.toMap(
+                                    Map.Entry::getKey,
+                                    e -> e.getValue().size()
+                            ))
+            );
+        }
 
         return shuffled;
     }
@@ -5,9 +5,11 @@ import com.project.itda.domain.meeting.dto.response.MeetingResponse;
 import com.project.itda.domain.meeting.dto.response.MeetingSearchResponse;
 import com.project.itda.domain.meeting.entity.Meeting;
 import com.project.itda.domain.meeting.enums.MeetingStatus;
+import com.project.itda.domain.meeting.listener.MeetingSearchCacheListener;
 import com.project.itda.domain.meeting.repository.MeetingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,7 +35,13 @@ public class MeetingSearchService {
 
     /**
      * 모임 검색 (종합)
+     * - 같은 조건 검색은 2단계 캐시 (동시 미스는 한 번만 조회)
      */
+    @Cacheable(
+            cacheNames = MeetingSearchCacheListener.MEETING_SEARCH_CACHE,
+            key = "@cacheKeyUtil.searchKey(#request)",
+            sync = true
+    )
     public MeetingSearchResponse searchMeetings(MeetingSearchRequest request) {
         log.info("🔍 모임 검색 - keyword: {}, category: {}",
                 request.getKeyword(), request.getCategory());
@@ -152,9 +160,9 @@ public class MeetingSearchService {
     }
 
     /**
-     * 필터 적용
+     * 필터 적용 (JMH 벤치마크에서 직접 호출 → package-private)
      */
-    private List<Meeting> applyFilters(List<Meeting> meetings, MeetingSearchRequest request) {
+    List<Meeting> applyFilters(List<Meeting> meetings, MeetingSearchRequest request) {
         return meetings.stream()
                 .filter(m -> request.getCategory() == null || m.getCategory().equals(request.getCategory()))
                 .filter(m -> request.getSubcategory() == null || m.getSubcategory().equals(request.getSubcategory()))
@@ -1,7 +1,11 @@
 // src/main/java/com/project/itda/domain/meeting/service/MeetingService.java
 package com.project.itda.domain.meeting.service;
 
+import com.project.itda.domain.admin.enums.DashboardCounter;
+import com.project.itda.domain.admin.event.DashboardCounterEvent;
 import com.project.itda.domain.badge.event.MeetingCreatedEvent;
+import com.project.itda.domain.feed.enums.FeedActivityType;
+import com.project.itda.domain.feed.event.FeedActivityEvent;
 import com.project.itda.domain.meeting.dto.request.LocationUpdateRequest;
 import com.project.itda.domain.meeting.dto.request.MeetingCreateRequest;
 import com.project.itda.domain.meeting.dto.request.MeetingLocationUpdateDto;
@@ -11,6 +15,7 @@ import com.project.itda.domain.meeting.dto.response.MeetingResponse;
 import com.project.itda.domain.meeting.entity.Meeting;
 import com.project.itda.domain.meeting.enums.MeetingStatus;
 import com.project.itda.domain.meeting.enums.MeetingTimeSlot;
+import com.project.itda.domain.meeting.event.MeetingChangedEvent;
 import com.project.itda.domain.meeting.repository.MeetingRepository;
 import com.project.itda.domain.notification.service.PushNotificationService;
 import com.project.itda.domain.participation.dto.response.ParticipantDto;
@@ -132,8 +137,19 @@ public class MeetingService {
                 savedMeeting.getMeetingId(), chatRoom.getId());
 
         // ⭐ 배지 이벤트 발행! (모임 생성 시 주최 배지 체크)
-        eventPublisher.publishEvent(new MeetingCreatedEvent(user.getUserId()));
+        eventPublisher.publishEvent(new MeetingCreatedEvent(user.getUserId(),
+                savedMeeting.getMeetingId(), savedMeeting.getTitle(), savedMeeting.getCategory(),
+                savedMeeting.getCurrentParticipants(), savedMeeting.getCreatedAt()));
         log.info("🏅 모임 생성 배지 이벤트 발행: organizerId={}", user.getUserId());
+        eventPublisher.publishEvent(new DashboardCounterEvent(DashboardCounter.ACTIVE_MEETINGS, 1));
+        eventPublisher.publishEvent(new MeetingChangedEvent(savedMeeting.getMeetingId()));
+
+        // ✅ 친구 활동 피드 (공개 모임만)
+        if (Boolean.TRUE.equals(savedMeeting.getIsPublic())) {
+            eventPublisher.publishEvent(new FeedActivityEvent(FeedActivityType.MEETING_CREATED,
+                    user.getUserId(), user.getUsername(), user.getProfileImageUrl(),
+                    savedMeeting.getMeetingId(), savedMeeting.getTitle(), null));
+        }
 
         return toMeetingResponse(savedMeeting);
     }
@@ -214,6 +230,7 @@ public class MeetingService {
         );
 
         log.info("✅ 모임 수정 완료 - meetingId: {}", meetingId);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
 
         notifyMeetingUpdatedToParticipants(meetingId, "info", null);
 
@@ -233,7 +250,13 @@ public class MeetingService {
             throw new IllegalStateException("주최자만 모임을 삭제할 수 있습니다");
         }
 
+        boolean wasActive = meeting.getStatus() != null && meeting.getStatus().isActive();
         meeting.delete();
+        if (wasActive) {
+            eventPublisher.publishEvent(new DashboardCounterEvent(DashboardCounter.ACTIVE_MEETINGS, -1));
+        }
+
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
 
         log.info("✅ 모임 삭제 완료 - meetingId: {}", meetingId);
     }
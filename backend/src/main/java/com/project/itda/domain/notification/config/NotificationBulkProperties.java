@@ -0,0 +1,31 @@
+package com.project.itda.domain.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 알림 발송 설정 (리마인더, 후기 요청 등)
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.bulk")
+@Getter
+@Setter
+public class NotificationBulkProperties {
+
+    /**
+     * 수신자 조회 페이지 크기
+     */
+    private int pageSize = 1000;
+
+    /**
+     * JDBC 배치 insert 크기
+     */
+    private int batchSize = 500;
+
+    /**
+     * 초당 STOMP 푸시 상한
+     */
+    private int pushRatePerSecond = 500;
+}
@@ -0,0 +1,44 @@
+package com.project.itda.domain.notification.config;
+
+import com.project.itda.domain.notification.enums.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 오래된 알림 삭제 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.retention")
+@Getter
+@Setter
+public class NotificationRetentionProperties {
+
+    /**
+     * 기본 보관 기간 (일)
+     */
+    private int defaultDays = 30;
+
+    /**
+     * 타입별 보관 기간 (일) - 미지정 타입은 defaultDays
+     */
+    private Map<NotificationType, Integer> days = new EnumMap<>(NotificationType.class);
+
+    /**
+     * 배치당 삭제 건수
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 배치 사이 대기 시간 (ms)
+     */
+    private long pauseMillis = 200;
+
+    public int retentionDaysOf(NotificationType type) {
+        return days.getOrDefault(type, defaultDays);
+    }
+}
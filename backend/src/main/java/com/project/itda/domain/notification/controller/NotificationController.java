@@ -6,6 +6,7 @@ import com.project.itda.domain.notification.entity.Notification;
 import com.project.itda.domain.notification.enums.NotificationType;
 import com.project.itda.domain.notification.repository.NotificationRepository;
 import com.project.itda.domain.notification.service.NotificationService;
+import com.project.itda.domain.notification.service.UnreadNotificationCounter;
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
     private final UserRepository userRepository;
 
     /**
@@ -149,6 +151,7 @@ public class NotificationController {
                 .build();
 
         notification = notificationRepository.save(notification);
+        unreadCounter.evict(userId);
 
         log.info("✅ 테스트 알림 생성 완료: id={}", notification.getNotificationId());
 
@@ -178,6 +181,7 @@ public class NotificationController {
         );
 
         notificationRepository.saveAll(notifications);
+        unreadCounter.evict(userId);
 
         int count = notifications.size();
         log.info("✅ 테스트 알림 일괄 생성 완료: {}개", count);
@@ -0,0 +1,104 @@
+package com.project.itda.domain.notification.dto;
+
+import com.project.itda.domain.notification.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장 전 알림 (대량 발송 시 메모리에서 조립 후 배치 insert)
+ * - 수신자는 ID만 보유 (User 엔티티 로딩 없음)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class NotificationDraft {
+
+    private Long receiverId;
+    private NotificationType notificationType;
+    private String title;
+    private String content;
+    private String linkUrl;
+    private Long relatedId;
+    private Long senderId;
+    private String senderName;
+    private String senderProfileImage;
+    private String dedupKey;
+
+    /**
+     * 새 팔로워 (수신자-팔로워 쌍당 1회)
+     */
+    public static NotificationDraft newFollower(Long receiverId, Long followerId, String followerName, String followerProfileImage) {
+        return NotificationDraft.builder()
+                .receiverId(receiverId)
+                .notificationType(NotificationType.FOLLOW)
+                .title(followerName + "님이 회원님을 팔로우합니다")
+                .content("👤 새로운 팔로워가 생겼습니다.")
+                .linkUrl("/profile/id/" + followerId)
+                .senderId(followerId)
+                .senderName(followerName)
+                .senderProfileImage(followerProfileImage)
+                .dedupKey(NotificationType.FOLLOW.name() + ":" + receiverId + ":" + followerId)
+                .build();
+    }
+
+    /**
+     * 모임 리마인더 (D-1, D-day)
+     */
+    public static NotificationDraft meetingReminder(Long receiverId, Long meetingId, String meetingTitle, String reminderType) {
+        String title;
+        String content;
+
+        if ("D-1".equals(reminderType)) {
+            title = "내일 '" + meetingTitle + "' 모임이 있습니다!";
+            content = "📅 내일 모임에 참여하는 것을 잊지 마세요!";
+        } else if ("D-day".equals(reminderType)) {
+            title = "오늘 '" + meetingTitle + "' 모임입니다!";
+            content = "🎉 오늘 모임을 즐겨주세요!";
+        } else {
+            title = "'" + meetingTitle + "' 모임 알림";
+            content = "📅 모임 일정을 확인해주세요.";
+        }
+
+        return NotificationDraft.builder()
+                .receiverId(receiverId)
+                .notificationType(NotificationType.MEETING_REMINDER)
+                .title(title)
+                .content(content)
+                .linkUrl("/meetings/" + meetingId)
+                .relatedId(meetingId)
+                .build();
+    }
+
+    /**
+     * 팔로우한 사람의 모임 참가
+     */
+    public static NotificationDraft followerMeetingJoin(Long receiverId, Long followedUserId, String followedUsername,
+                                                        String followedProfileImage, Long meetingId, String meetingTitle) {
+        return NotificationDraft.builder()
+                .receiverId(receiverId)
+                .notificationType(NotificationType.MEETING_FOLLOW)
+                .title(followedUsername + "님이 새 모임에 참가했습니다")
+                .content("💡 " + meetingTitle + " 모임에 참가했습니다.")
+                .linkUrl("/meetings/" + meetingId)
+                .relatedId(meetingId)
+                .senderId(followedUserId)
+                .senderName(followedUsername)
+                .senderProfileImage(followedProfileImage)
+                .build();
+    }
+
+    /**
+     * 후기 작성 요청
+     */
+    public static NotificationDraft reviewRequest(Long receiverId, Long meetingId, String meetingTitle) {
+        return NotificationDraft.builder()
+                .receiverId(receiverId)
+                .notificationType(NotificationType.REVIEW_REQUEST)
+                .title("'" + meetingTitle + "' 모임은 어떠셨나요?")
+                .content("⭐ 후기를 작성해주세요!")
+                .linkUrl("/meeting/" + meetingId + "/review")
+                .relatedId(meetingId)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.itda.domain.notification.dto.response;
 
+import com.project.itda.domain.notification.dto.NotificationDraft;
 import com.project.itda.domain.notification.entity.Notification;
 import com.project.itda.domain.notification.enums.NotificationType;
 import lombok.*;
@@ -47,6 +48,27 @@ public class NotificationResponse {
                 .build();
     }
 
+    /**
+     * 배치 insert 된 알림 → 응답 변환 (엔티티 로딩 없이)
+     */
+    public static NotificationResponse of(Long notificationId, NotificationDraft draft, LocalDateTime sentAt) {
+        return NotificationResponse.builder()
+                .notificationId(notificationId)
+                .userId(draft.getReceiverId())
+                .notificationType(draft.getNotificationType())
+                .title(draft.getTitle())
+                .content(draft.getContent())
+                .linkUrl(draft.getLinkUrl())
+                .relatedId(draft.getRelatedId())
+                .senderId(draft.getSenderId())
+                .senderName(draft.getSenderName())
+                .senderProfileImage(draft.getSenderProfileImage())
+                .isRead(false)
+                .sentAt(sentAt)
+                .timeAgo(formatTimeAgo(sentAt))
+                .build();
+    }
+
     private static String formatTimeAgo(LocalDateTime dateTime) {
         if (dateTime == null) return "";
 
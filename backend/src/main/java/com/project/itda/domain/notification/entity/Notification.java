@@ -9,11 +9,15 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications", indexes = {
+@Table(name = "notifications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_dedup", columnNames = {"dedup_key"})
+}, indexes = {
         @Index(name = "idx_notification_user", columnList = "user_id"),
         @Index(name = "idx_notification_type", columnList = "notification_type"),
         @Index(name = "idx_notification_is_read", columnList = "is_read"),
-        @Index(name = "idx_notification_sent", columnList = "sent_at")
+        @Index(name = "idx_notification_sent", columnList = "sent_at"),
+        @Index(name = "idx_notification_user_read", columnList = "user_id, is_read"),
+        @Index(name = "idx_notification_type_sent", columnList = "notification_type, sent_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -60,6 +64,10 @@ public class Notification {
     @Column(name = "sender_profile_image", length = 500)
     private String senderProfileImage;
 
+    // 중복 방지 키 (같은 키의 알림은 한 번만 저장, null 이면 중복 허용)
+    @Column(name = "dedup_key", length = 191)
+    private String dedupKey;
+
     @Column(name = "is_read")
     @Builder.Default
     private Boolean isRead = false;
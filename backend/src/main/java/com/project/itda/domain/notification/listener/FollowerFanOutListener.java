@@ -0,0 +1,33 @@
+package com.project.itda.domain.notification.listener;
+
+import com.project.itda.domain.notification.service.FollowerFanOutService;
+import com.project.itda.domain.participation.event.MeetingJoinedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팔로워 알림 fan-out 리스너
+ * - 참가 신청 트랜잭션 커밋 이후 비동기 실행 (신청 응답 시간이 팔로워 수와 무관)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowerFanOutListener {
+
+    private final FollowerFanOutService followerFanOutService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMeetingJoined(MeetingJoinedEvent event) {
+        try {
+            followerFanOutService.fanOutMeetingJoin(event);
+        } catch (Exception e) {
+            log.error("❌ 팔로워 알림 fan-out 실패: participantId={}, meetingId={}, error={}",
+                    event.getParticipantId(), event.getMeetingId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.itda.domain.notification.repository;
+
+import com.project.itda.domain.notification.dto.NotificationDraft;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 알림 대량 insert (JDBC 배치)
+ * - IDENTITY 전략은 Hibernate 배치가 비활성화되므로 JDBC로 직접 처리
+ * - rewriteBatchedStatements=true 설정 시 multi-row INSERT 로 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (
+                user_id, notification_type, title, content, link_url,
+                related_id, sender_id, sender_name, sender_profile_image,
+                is_read, sent_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?)
+            """;
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO notifications (
+                user_id, notification_type, title, content, link_url,
+                related_id, sender_id, sender_name, sender_profile_image,
+                dedup_key, is_read, sent_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?)
+            ON DUPLICATE KEY UPDATE notification_id = notification_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * dedup_key 유니크 제약 기반 멱등 insert
+     * - 이미 같은 키가 있으면 저장하지 않고 empty 반환
+     * - INSERT IGNORE 대신 ON DUPLICATE KEY 사용 (유니크 충돌 외 오류/경고는 그대로 예외 처리)
+     * - 중복 시 영향 행 수는 드라이버 설정(useAffectedRows)에 따라 0/1 → 생성 키 유무로 판단
+     */
+    @Transactional
+    public Optional<Long> insertIfAbsent(NotificationDraft draft, LocalDateTime sentAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_IF_ABSENT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, draft.getReceiverId());
+            ps.setString(2, draft.getNotificationType().name());
+            ps.setString(3, draft.getTitle());
+            ps.setString(4, draft.getContent());
+            ps.setString(5, draft.getLinkUrl());
+            setNullableLong(ps, 6, draft.getRelatedId());
+            setNullableLong(ps, 7, draft.getSenderId());
+            ps.setString(8, draft.getSenderName());
+            ps.setString(9, draft.getSenderProfileImage());
+            ps.setString(10, draft.getDedupKey());
+            ps.setTimestamp(11, Timestamp.valueOf(sentAt));
+            return ps;
+        }, keyHolder);
+
+        if (inserted == 0 || keyHolder.getKey() == null || keyHolder.getKey().longValue() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKey().longValue());
+    }
+
+    /**
+     * 알림 일괄 저장 후 생성된 ID 목록 반환 (입력 순서와 동일)
+     */
+    @Transactional
+    public List<Long> insertAll(List<NotificationDraft> drafts, LocalDateTime sentAt) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                Timestamp sentAtTs = Timestamp.valueOf(sentAt);
+                for (NotificationDraft draft : drafts) {
+                    ps.setLong(1, draft.getReceiverId());
+                    ps.setString(2, draft.getNotificationType().name());
+                    ps.setString(3, draft.getTitle());
+                    ps.setString(4, draft.getContent());
+                    ps.setString(5, draft.getLinkUrl());
+                    setNullableLong(ps, 6, draft.getRelatedId());
+                    setNullableLong(ps, 7, draft.getSenderId());
+                    ps.setString(8, draft.getSenderName());
+                    ps.setString(9, draft.getSenderProfileImage());
+                    ps.setTimestamp(10, sentAtTs);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(drafts.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
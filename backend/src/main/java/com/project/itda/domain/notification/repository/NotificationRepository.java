@@ -10,8 +10,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -28,6 +29,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 읽지 않은 알림 개수
     long countByUser_UserIdAndIsReadFalse(Long userId);
 
+    // 사용자별 읽지 않은 알림 개수 (캐시 보정용)
+    @Query("SELECT n.user.userId, COUNT(n) FROM Notification n " +
+            "WHERE n.user.userId IN :userIds AND n.isRead = false " +
+            "GROUP BY n.user.userId")
+    List<Object[]> countUnreadGroupByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 알림 수신자 ID 조회
+    @Query("SELECT n.user.userId FROM Notification n WHERE n.notificationId = :notificationId")
+    Optional<Long> findUserIdByNotificationId(@Param("notificationId") Long notificationId);
+
     // 특정 타입 알림 조회
     List<Notification> findByUser_UserIdAndNotificationTypeOrderBySentAtDesc(Long userId, NotificationType type);
 
@@ -38,20 +49,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     // 특정 알림 읽음 처리
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = CURRENT_TIMESTAMP WHERE n.notificationId = :notificationId")
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = CURRENT_TIMESTAMP WHERE n.notificationId = :notificationId AND n.isRead = false")
     int markAsRead(@Param("notificationId") Long notificationId);
 
-    // 오래된 알림 삭제 (30일 이상)
-    @Modifying
-    @Query("DELETE FROM Notification n WHERE n.sentAt < :date")
-    int deleteOldNotifications(@Param("date") LocalDateTime date);
-
     // 사용자의 모든 알림 삭제
     @Modifying
     @Query("DELETE FROM Notification n WHERE n.user.userId = :userId")
     int deleteAllByUserId(@Param("userId") Long userId);
 
-    // 특정 관련 ID로 알림 조회 (중복 알림 방지용)
-    boolean existsByUser_UserIdAndNotificationTypeAndRelatedIdAndSenderId(
-            Long userId, NotificationType type, Long relatedId, Long senderId);
+    // 사용자의 중복 방지 키 목록 (전체 삭제 시 dedup 키 정리용)
+    @Query("SELECT n.dedupKey FROM Notification n WHERE n.user.userId = :userId AND n.dedupKey IS NOT NULL")
+    List<String> findDedupKeysByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
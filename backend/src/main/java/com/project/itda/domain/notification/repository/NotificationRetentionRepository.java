@@ -0,0 +1,70 @@
+package com.project.itda.domain.notification.repository;
+
+import com.project.itda.domain.notification.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래된 알림 삭제 (PK 범위 단위)
+ * - 트랜잭션 없이 문장 단위로 커밋되어 잠금 범위와 undo 로그가 배치 크기로 제한됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료된 알림 ID 한 배치 조회 (lastId 이후, PK 오름차순)
+     */
+    public List<Long> findExpiredIds(NotificationType type, LocalDateTime cutoff, long lastId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT notification_id
+                  FROM notifications
+                 WHERE notification_type = ?
+                   AND sent_at < ?
+                   AND notification_id > ?
+                 ORDER BY notification_id
+                 LIMIT ?
+                """, Long.class, type.name(), Timestamp.valueOf(cutoff), lastId, limit);
+    }
+
+    /**
+     * PK 범위 내 만료 알림 중 읽지 않은 알림 수 (사용자별)
+     * - 삭제 후 읽지 않은 알림 캐시 차감용
+     */
+    public Map<Long, Long> countUnreadByUserInRange(NotificationType type, LocalDateTime cutoff, long fromId, long toId) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT user_id, COUNT(*) AS unread
+                  FROM notifications
+                 WHERE notification_id BETWEEN ? AND ?
+                   AND notification_type = ?
+                   AND sent_at < ?
+                   AND is_read = false
+                 GROUP BY user_id
+                """, (RowCallbackHandler) rs -> counts.put(rs.getLong("user_id"), rs.getLong("unread")),
+                fromId, toId, type.name(), Timestamp.valueOf(cutoff));
+        return counts;
+    }
+
+    /**
+     * PK 범위 내 만료 알림 삭제
+     */
+    public int deleteExpiredInRange(NotificationType type, LocalDateTime cutoff, long fromId, long toId) {
+        return jdbcTemplate.update("""
+                DELETE FROM notifications
+                 WHERE notification_id BETWEEN ? AND ?
+                   AND notification_type = ?
+                   AND sent_at < ?
+                """, fromId, toId, type.name(), Timestamp.valueOf(cutoff));
+    }
+}
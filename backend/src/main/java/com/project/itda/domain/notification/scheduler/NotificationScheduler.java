@@ -2,16 +2,13 @@ package com.project.itda.domain.notification.scheduler;
 
 import com.project.itda.domain.meeting.entity.Meeting;
 import com.project.itda.domain.meeting.repository.MeetingRepository;
-import com.project.itda.domain.notification.service.NotificationService;
-import com.project.itda.domain.participation.entity.Participation;
-import com.project.itda.domain.participation.enums.ParticipationStatus;
-import com.project.itda.domain.participation.repository.ParticipationRepository;
-import com.project.itda.domain.user.entity.User;
+import com.project.itda.domain.notification.service.NotificationBulkService;
+import com.project.itda.domain.notification.service.NotificationRetentionService;
+import com.project.itda.domain.notification.service.UnreadNotificationCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -30,14 +27,14 @@ import java.util.List;
 public class NotificationScheduler {
 
     private final MeetingRepository meetingRepository;
-    private final ParticipationRepository participationRepository;
-    private final NotificationService notificationService;
+    private final NotificationBulkService notificationBulkService;
+    private final NotificationRetentionService notificationRetentionService;
+    private final UnreadNotificationCounter unreadCounter;
 
     /**
      * ✅ 매일 오전 9시에 D-1 리마인더 발송
      */
     @Scheduled(cron = "0 0 9 * * *")
-    @Transactional(readOnly = true)
     public void sendDayBeforeReminders() {
         log.info("🔔 D-1 리마인더 스케줄러 시작");
 
@@ -47,32 +44,7 @@ public class NotificationScheduler {
 
         List<Meeting> tomorrowMeetings = meetingRepository.findByMeetingTimeBetween(startOfTomorrow, endOfTomorrow);
 
-        int sentCount = 0;
-        for (Meeting meeting : tomorrowMeetings) {
-            List<Participation> participants = participationRepository.findByMeetingIdAndStatus(
-                    meeting.getMeetingId(), ParticipationStatus.APPROVED);
-
-            for (Participation p : participants) {
-                notificationService.notifyMeetingReminder(
-                        p.getUser(),
-                        meeting.getMeetingId(),
-                        meeting.getTitle(),
-                        "D-1"
-                );
-                sentCount++;
-            }
-
-            User organizer = meeting.getOrganizer();
-            if (organizer != null) {
-                notificationService.notifyMeetingReminder(
-                        organizer,
-                        meeting.getMeetingId(),
-                        meeting.getTitle(),
-                        "D-1"
-                );
-                sentCount++;
-            }
-        }
+        int sentCount = notificationBulkService.sendMeetingReminders(tomorrowMeetings, "D-1");
 
         log.info("✅ D-1 리마인더 전송 완료: {}건", sentCount);
     }
@@ -81,7 +53,6 @@ public class NotificationScheduler {
      * ✅ 매일 오전 8시에 D-day 리마인더 발송
      */
     @Scheduled(cron = "0 0 8 * * *")
-    @Transactional(readOnly = true)
     public void sendDayOfReminders() {
         log.info("🔔 D-day 리마인더 스케줄러 시작");
 
@@ -91,32 +62,7 @@ public class NotificationScheduler {
 
         List<Meeting> todayMeetings = meetingRepository.findByMeetingTimeBetween(startOfToday, endOfToday);
 
-        int sentCount = 0;
-        for (Meeting meeting : todayMeetings) {
-            List<Participation> participants = participationRepository.findByMeetingIdAndStatus(
-                    meeting.getMeetingId(), ParticipationStatus.APPROVED);
-
-            for (Participation p : participants) {
-                notificationService.notifyMeetingReminder(
-                        p.getUser(),
-                        meeting.getMeetingId(),
-                        meeting.getTitle(),
-                        "D-day"
-                );
-                sentCount++;
-            }
-
-            User organizer = meeting.getOrganizer();
-            if (organizer != null) {
-                notificationService.notifyMeetingReminder(
-                        organizer,
-                        meeting.getMeetingId(),
-                        meeting.getTitle(),
-                        "D-day"
-                );
-                sentCount++;
-            }
-        }
+        int sentCount = notificationBulkService.sendMeetingReminders(todayMeetings, "D-day");
 
         log.info("✅ D-day 리마인더 전송 완료: {}건", sentCount);
     }
@@ -125,46 +71,48 @@ public class NotificationScheduler {
      * ✅ 매일 오후 9시에 후기 요청 발송
      */
     @Scheduled(cron = "0 0 21 * * *")
-    @Transactional(readOnly = true)
     public void sendReviewRequests() {
         log.info("🔔 후기 요청 스케줄러 시작");
 
         LocalDate today = LocalDate.now();
         LocalDateTime startOfToday = today.atStartOfDay();
         LocalDateTime endOfToday = today.atTime(LocalTime.MAX);
+        LocalDateTime now = LocalDateTime.now();
 
-        List<Meeting> endedMeetings = meetingRepository.findByMeetingTimeBetween(startOfToday, endOfToday);
-
-        int sentCount = 0;
-        for (Meeting meeting : endedMeetings) {
-            if (meeting.getMeetingTime().isBefore(LocalDateTime.now())) {
-                List<Participation> participants = participationRepository.findByMeetingIdAndStatus(
-                        meeting.getMeetingId(), ParticipationStatus.APPROVED);
-
-                for (Participation p : participants) {
-                    notificationService.notifyReviewRequest(
-                            p.getUser(),
-                            meeting.getMeetingId(),
-                            meeting.getTitle()
-                    );
-                    sentCount++;
-                }
-            }
-        }
+        List<Meeting> endedMeetings = meetingRepository.findByMeetingTimeBetween(startOfToday, endOfToday).stream()
+                .filter(meeting -> meeting.getMeetingTime().isBefore(now))
+                .toList();
+
+        int sentCount = notificationBulkService.sendReviewRequests(endedMeetings);
 
         log.info("✅ 후기 요청 전송 완료: {}건", sentCount);
     }
 
     /**
-     * ✅ 매일 새벽 3시에 오래된 알림 삭제 (30일 이상)
+     * ✅ 매일 새벽 3시에 오래된 알림 삭제 (타입별 보관 기간)
      */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void cleanupOldNotifications() {
         log.info("🧹 오래된 알림 삭제 스케줄러 시작");
 
-        int deletedCount = notificationService.cleanupOldNotifications();
+        NotificationRetentionService.RetentionReport report = notificationRetentionService.purgeExpired();
+        if (report.isSkipped()) {
+            log.info("⏭️ 오래된 알림 삭제 건너뜀 (이전 실행 진행 중)");
+            return;
+        }
+
+        log.info("✅ 오래된 알림 삭제 완료: {}건, batches={}, elapsed={}ms, byType={}",
+                report.getTotalDeleted(), report.getBatches(), report.getElapsed().toMillis(), report.getDeletedByType());
+    }
 
-        log.info("✅ 오래된 알림 삭제 완료: {}건", deletedCount);
+    /**
+     * ✅ 10분마다 읽지 않은 알림 캐시 보정 (DB 기준)
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reconcileUnreadCounts() {
+        int corrected = unreadCounter.reconcile();
+        if (corrected > 0) {
+            log.info("🔧 읽지 않은 알림 캐시 보정: {}명", corrected);
+        }
     }
-}
\ No newline at end of file
+}
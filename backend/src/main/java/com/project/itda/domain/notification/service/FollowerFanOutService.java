@@ -0,0 +1,74 @@
+package com.project.itda.domain.notification.service;
+
+import com.project.itda.domain.notification.config.NotificationBulkProperties;
+import com.project.itda.domain.notification.dto.NotificationDraft;
+import com.project.itda.domain.participation.event.MeetingJoinedEvent;
+import com.project.itda.domain.user.repository.FollowerRef;
+import com.project.itda.domain.user.repository.UserFollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ✅ 팔로워 알림 fan-out
+ * - 팔로워 ID만 페이지 단위로 조회 (UserFollow/User 엔티티 로딩 없음)
+ * - 알림 설정 OFF 사용자는 쿼리에서 제외
+ * - NotificationBulkService 로 배치 insert + 비동기 푸시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowerFanOutService {
+
+    private final UserFollowRepository userFollowRepository;
+    private final NotificationBulkService notificationBulkService;
+    private final NotificationBulkProperties properties;
+
+    /**
+     * 참가자를 팔로우하는 사람들에게 모임 참가 알림
+     */
+    public int fanOutMeetingJoin(MeetingJoinedEvent event) {
+        int pageSize = Math.max(1, properties.getPageSize());
+        int sent = 0;
+        long lastFollowId = 0L;
+
+        while (true) {
+            List<FollowerRef> page = userFollowRepository.findMeetingNotificationFollowersAfter(
+                    event.getParticipantId(), lastFollowId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<NotificationDraft> drafts = new ArrayList<>(page.size());
+            for (FollowerRef ref : page) {
+                Long followerId = ref.getFollowerId();
+                if (followerId.equals(event.getParticipantId()) || Objects.equals(followerId, event.getOrganizerId())) {
+                    continue;
+                }
+                drafts.add(NotificationDraft.followerMeetingJoin(
+                        followerId,
+                        event.getParticipantId(),
+                        event.getParticipantName(),
+                        event.getParticipantProfileImage(),
+                        event.getMeetingId(),
+                        event.getMeetingTitle()
+                ));
+            }
+            sent += notificationBulkService.sendAll(drafts);
+
+            lastFollowId = page.get(page.size() - 1).getFollowId();
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        log.info("🔔 팔로워 {}명에게 모임 참가 알림 전송: participantId={}, meetingId={}",
+                sent, event.getParticipantId(), event.getMeetingId());
+        return sent;
+    }
+}
@@ -0,0 +1,148 @@
+package com.project.itda.domain.notification.service;
+
+import com.project.itda.domain.meeting.entity.Meeting;
+import com.project.itda.domain.notification.config.NotificationBulkProperties;
+import com.project.itda.domain.notification.dto.NotificationDraft;
+import com.project.itda.domain.notification.dto.response.NotificationResponse;
+import com.project.itda.domain.notification.repository.NotificationBulkRepository;
+import com.project.itda.domain.participation.enums.ParticipationStatus;
+import com.project.itda.domain.participation.repository.ParticipantRecipient;
+import com.project.itda.domain.participation.repository.ParticipationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ 대량 알림 파이프라인
+ * - 수신자 ID를 페이지 단위로 스트리밍 (엔티티 로딩 없음)
+ * - 메모리에서 알림 조립 → JDBC 배치 insert
+ * - 푸시는 NotificationPushDispatcher 로 비동기 위임
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationBulkService {
+
+    private final ParticipationRepository participationRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationPushDispatcher pushDispatcher;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationBulkProperties properties;
+
+    /**
+     * 모임 리마인더 일괄 발송 (승인된 참여자 + 주최자)
+     */
+    public int sendMeetingReminders(List<Meeting> meetings, String reminderType) {
+        return fanOutToParticipants(meetings, true,
+                (userId, meeting) -> NotificationDraft.meetingReminder(
+                        userId, meeting.getMeetingId(), meeting.getTitle(), reminderType));
+    }
+
+    /**
+     * 후기 요청 일괄 발송 (승인된 참여자)
+     */
+    public int sendReviewRequests(List<Meeting> meetings) {
+        return fanOutToParticipants(meetings, false,
+                (userId, meeting) -> NotificationDraft.reviewRequest(
+                        userId, meeting.getMeetingId(), meeting.getTitle()));
+    }
+
+    /**
+     * 조립된 알림 일괄 저장 + 푸시
+     */
+    public int sendAll(List<NotificationDraft> drafts) {
+        int sent = 0;
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < drafts.size(); from += batchSize) {
+            List<NotificationDraft> chunk = drafts.subList(from, Math.min(from + batchSize, drafts.size()));
+            sent += persistAndDispatch(chunk);
+        }
+        return sent;
+    }
+
+    private int fanOutToParticipants(
+            List<Meeting> meetings,
+            boolean includeOrganizer,
+            BiFunction<Long, Meeting, NotificationDraft> draftFactory
+    ) {
+        if (meetings.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Meeting> meetingMap = meetings.stream()
+                .collect(Collectors.toMap(Meeting::getMeetingId, Function.identity(), (a, b) -> a));
+
+        int pageSize = Math.max(1, properties.getPageSize());
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<NotificationDraft> buffer = new ArrayList<>(batchSize);
+        int sent = 0;
+        long lastParticipationId = 0L;
+
+        while (true) {
+            List<ParticipantRecipient> page = participationRepository.findRecipientsAfter(
+                    meetingMap.keySet(), ParticipationStatus.APPROVED, lastParticipationId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            for (ParticipantRecipient recipient : page) {
+                buffer.add(draftFactory.apply(recipient.getUserId(), meetingMap.get(recipient.getMeetingId())));
+                if (buffer.size() >= batchSize) {
+                    sent += persistAndDispatch(buffer);
+                    buffer.clear();
+                }
+            }
+
+            lastParticipationId = page.get(page.size() - 1).getParticipationId();
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        if (includeOrganizer) {
+            for (Meeting meeting : meetingMap.values()) {
+                if (meeting.getOrganizer() != null) {
+                    buffer.add(draftFactory.apply(meeting.getOrganizer().getUserId(), meeting));
+                }
+                if (buffer.size() >= batchSize) {
+                    sent += persistAndDispatch(buffer);
+                    buffer.clear();
+                }
+            }
+        }
+
+        sent += persistAndDispatch(buffer);
+        buffer.clear();
+        return sent;
+    }
+
+    private int persistAndDispatch(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        List<Long> ids = notificationBulkRepository.insertAll(drafts, sentAt);
+
+        List<NotificationResponse> pushes = new ArrayList<>(drafts.size());
+        for (int i = 0; i < drafts.size(); i++) {
+            Long id = i < ids.size() ? ids.get(i) : null;
+            pushes.add(NotificationResponse.of(id, drafts.get(i), sentAt));
+        }
+        unreadCounter.incrementAll(drafts.stream()
+                .collect(Collectors.groupingBy(NotificationDraft::getReceiverId, Collectors.counting())));
+        pushDispatcher.dispatch(pushes);
+
+        log.debug("🔔 알림 배치 저장: {}건", drafts.size());
+        return drafts.size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.itda.domain.notification.service;
+
+import com.project.itda.domain.notification.config.NotificationRetentionProperties;
+import com.project.itda.domain.notification.enums.NotificationType;
+import com.project.itda.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ✅ 알림 중복 방지 (dedup key 기반)
+ * - 1차: Redis 키 존재 여부로 이미 보낸 알림을 DB 조회 없이 스킵
+ * - 2차: notifications.dedup_key 유니크 제약으로 멱등 insert (최종 판단)
+ * - 키 TTL 은 타입별 알림 보관 기간과 동일 (NotificationRetentionProperties)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDedupService {
+
+    private static final String KEY_PREFIX = "notification:dedup:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRetentionProperties retentionProperties;
+
+    /**
+     * 이미 발송된 키인지 확인 (Redis 장애 시 false → DB 유니크 제약으로 판단)
+     */
+    public boolean isKnownDuplicate(String dedupKey) {
+        if (dedupKey == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + dedupKey));
+        } catch (Exception e) {
+            log.warn("⚠️ 알림 dedup 조회 실패 (DB 폴백): key={}, error={}", dedupKey, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 발송 완료 키 기록 (커밋 이후, 해당 타입 보관 기간 동안 유지)
+     */
+    public void remember(NotificationType type, String dedupKey) {
+        if (dedupKey == null) {
+            return;
+        }
+        Duration ttl = Duration.ofDays(retentionProperties.retentionDaysOf(type));
+        afterCommit(() -> redisTemplate.opsForValue().set(KEY_PREFIX + dedupKey, "1", ttl));
+    }
+
+    /**
+     * 알림 삭제 시 키 제거 (다시 발송 가능하도록)
+     */
+    public void forget(Collection<String> dedupKeys) {
+        List<String> keys = dedupKeys.stream()
+                .filter(key -> key != null)
+                .map(key -> KEY_PREFIX + key)
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> redisTemplate.delete(keys));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionUtil.afterCommit(action, e -> log.warn("⚠️ 알림 dedup 키 갱신 실패: {}", e.getMessage()));
+    }
+}
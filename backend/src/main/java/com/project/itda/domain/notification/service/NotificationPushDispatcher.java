@@ -0,0 +1,54 @@
+package com.project.itda.domain.notification.service;
+
+import com.project.itda.domain.notification.config.NotificationBulkProperties;
+import com.project.itda.domain.notification.dto.response.NotificationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 대량 알림 STOMP 푸시 디스패처
+ * - 별도 스레드풀에서 비동기 실행 (스케줄러/요청 스레드 비차단)
+ * - 전체 디스패처 공용 초당 전송 상한 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushDispatcher {
+
+    private final PushNotificationService pushNotificationService;
+    private final NotificationBulkProperties properties;
+
+    private long nextSlotNanos = System.nanoTime();
+
+    /**
+     * 알림 목록 비동기 푸시 (rate-limited)
+     */
+    @Async("notificationPushExecutor")
+    public void dispatch(List<NotificationResponse> notifications) {
+        for (NotificationResponse notification : notifications) {
+            long waitNanos = reserveSlot();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            pushNotificationService.pushNotification(notification.getUserId(), notification);
+        }
+        log.debug("📤 대량 알림 푸시 완료: {}건", notifications.size());
+    }
+
+    /**
+     * 다음 전송 슬롯 예약 후 대기 시간(ns) 반환
+     */
+    private synchronized long reserveSlot() {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, properties.getPushRatePerSecond());
+        long now = System.nanoTime();
+        long slot = Math.max(nextSlotNanos, now);
+        nextSlotNanos = slot + intervalNanos;
+        return slot - now;
+    }
+}
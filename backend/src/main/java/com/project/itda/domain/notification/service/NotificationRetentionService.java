@@ -0,0 +1,186 @@
+package com.project.itda.domain.notification.service;
+
+import com.project.itda.domain.notification.config.NotificationRetentionProperties;
+import com.project.itda.domain.notification.enums.NotificationType;
+import com.project.itda.domain.notification.repository.NotificationRetentionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ✅ 알림 보관 기간 관리
+ * - 타입별 보관 기간 적용 (notification.retention: BADGE 90일, MEETING_REMINDER 7일, 그 외 기본 30일)
+ * - PK 범위 단위 배치 삭제 + 배치 사이 대기 (잠금/undo 로그 최소화)
+ * - 삭제된 읽지 않은 알림만큼 읽지 않은 알림 캐시 차감
+ * - 진행 상황 로그 및 마지막 실행 결과 보관
+ * - 메트릭: itda.notification.retention.deleted (type), .batches, .skipped, .last.duration (초)
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private static final int PROGRESS_LOG_INTERVAL = 10;
+    private static final String METRIC_PREFIX = "itda.notification.retention";
+
+    private final NotificationRetentionRepository retentionRepository;
+    private final NotificationRetentionProperties properties;
+    private final UnreadNotificationCounter unreadCounter;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter batchCounter;
+    private final Counter skippedCounter;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Getter
+    private volatile RetentionReport lastReport;
+
+    public NotificationRetentionService(NotificationRetentionRepository retentionRepository,
+                                        NotificationRetentionProperties properties,
+                                        UnreadNotificationCounter unreadCounter,
+                                        MeterRegistry meterRegistry) {
+        this.retentionRepository = retentionRepository;
+        this.properties = properties;
+        this.unreadCounter = unreadCounter;
+        this.meterRegistry = meterRegistry;
+
+        this.batchCounter = Counter.builder(METRIC_PREFIX + ".batches").register(meterRegistry);
+        this.skippedCounter = Counter.builder(METRIC_PREFIX + ".skipped").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".last.duration", this,
+                        service -> service.lastReport != null ? service.lastReport.getElapsed().toMillis() / 1000.0 : 0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 알림 전체 삭제 (타입별)
+     * - 이미 실행 중이면 삭제하지 않고 skipped 결과 반환
+     */
+    public RetentionReport purgeExpired() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ 알림 삭제 작업이 이미 실행 중입니다");
+            skippedCounter.increment();
+            return RetentionReport.skipped(LocalDateTime.now());
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long startNanos = System.nanoTime();
+            Map<NotificationType, Long> deletedByType = new EnumMap<>(NotificationType.class);
+            int batches = 0;
+
+            for (NotificationType type : NotificationType.values()) {
+                LocalDateTime cutoff = startedAt.minusDays(properties.retentionDaysOf(type));
+                Counter deletedCounter = Counter.builder(METRIC_PREFIX + ".deleted")
+                        .tag("type", type.name())
+                        .register(meterRegistry);
+                long deleted = 0;
+                long lastId = 0L;
+
+                while (true) {
+                    List<Long> ids = retentionRepository.findExpiredIds(
+                            type, cutoff, lastId, Math.max(1, properties.getBatchSize()));
+                    if (ids.isEmpty()) {
+                        break;
+                    }
+
+                    long fromId = ids.get(0);
+                    long toId = ids.get(ids.size() - 1);
+                    Map<Long, Long> unreadByUser = retentionRepository.countUnreadByUserInRange(type, cutoff, fromId, toId);
+                    int batchDeleted = retentionRepository.deleteExpiredInRange(type, cutoff, fromId, toId);
+                    decrementUnread(unreadByUser);
+
+                    deleted += batchDeleted;
+                    deletedCounter.increment(batchDeleted);
+                    batchCounter.increment();
+                    lastId = toId;
+                    batches++;
+
+                    if (batches % PROGRESS_LOG_INTERVAL == 0) {
+                        log.info("🧹 알림 삭제 진행 중: type={}, deleted={}, batches={}, lastId={}",
+                                type, deleted, batches, lastId);
+                    }
+
+                    if (ids.size() < properties.getBatchSize()) {
+                        break;
+                    }
+                    pause();
+                }
+
+                if (deleted > 0) {
+                    deletedByType.put(type, deleted);
+                }
+            }
+
+            RetentionReport report = new RetentionReport(
+                    startedAt,
+                    Duration.ofNanos(System.nanoTime() - startNanos),
+                    batches,
+                    Collections.unmodifiableMap(deletedByType),
+                    false
+            );
+            lastReport = report;
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 삭제된 읽지 않은 알림만큼 캐시 차감 (조회~삭제 사이 읽음 처리된 건은 주기 보정에서 복구)
+     */
+    private void decrementUnread(Map<Long, Long> unreadByUser) {
+        if (unreadByUser.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> deltas = new HashMap<>(unreadByUser.size());
+        unreadByUser.forEach((userId, count) -> deltas.put(userId, -count));
+        unreadCounter.incrementAll(deltas);
+    }
+
+    private void pause() {
+        if (properties.getPauseMillis() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.getPauseMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 삭제 실행 결과
+     * - skipped: 다른 실행이 진행 중이라 이번 호출은 아무것도 삭제하지 않음
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RetentionReport {
+        private final LocalDateTime startedAt;
+        private final Duration elapsed;
+        private final int batches;
+        private final Map<NotificationType, Long> deletedByType;
+        private final boolean skipped;
+
+        static RetentionReport skipped(LocalDateTime startedAt) {
+            return new RetentionReport(startedAt, Duration.ZERO, 0, Map.of(), true);
+        }
+
+        public long getTotalDeleted() {
+            return deletedByType.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.project.itda.domain.notification.service;
 
+import com.project.itda.domain.notification.dto.NotificationDraft;
 import com.project.itda.domain.notification.dto.response.NotificationListResponse;
 import com.project.itda.domain.notification.dto.response.NotificationResponse;
 import com.project.itda.domain.notification.entity.Notification;
 import com.project.itda.domain.notification.enums.NotificationType;
+import com.project.itda.domain.notification.repository.NotificationBulkRepository;
 import com.project.itda.domain.notification.repository.NotificationRepository;
 import com.project.itda.domain.social.service.ChatRoomService;
 import com.project.itda.domain.user.entity.User;
@@ -23,9 +25,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,6 +44,9 @@ public class NotificationService {
     private final UserFollowRepository userFollowRepository;      // ✅ 추가
     private final UserSettingRepository userSettingRepository;    // ✅ 추가
     private final SimpMessageSendingOperations messagingTemplate;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationDedupService dedupService;
+    private final NotificationBulkRepository notificationBulkRepository;
 
     private ChatRoomService chatRoomService;
     public NotificationService(
@@ -49,6 +56,9 @@ public class NotificationService {
             UserFollowRepository userFollowRepository,
             UserSettingRepository userSettingRepository,
             SimpMessageSendingOperations messagingTemplate,
+            UnreadNotificationCounter unreadCounter,
+            NotificationDedupService dedupService,
+            NotificationBulkRepository notificationBulkRepository,
             @Lazy ChatRoomService chatRoomService) { // 👈 여기에 @Lazy 추가
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
@@ -56,6 +66,9 @@ public class NotificationService {
         this.userFollowRepository = userFollowRepository;
         this.userSettingRepository = userSettingRepository;
         this.messagingTemplate = messagingTemplate;
+        this.unreadCounter = unreadCounter;
+        this.dedupService = dedupService;
+        this.notificationBulkRepository = notificationBulkRepository;
         this.chatRoomService = chatRoomService;
     }
 
@@ -74,7 +87,7 @@ public class NotificationService {
                 .map(NotificationResponse::from)
                 .collect(Collectors.toList());
 
-        long unreadCount = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+        long unreadCount = unreadCounter.get(userId);
 
         return NotificationListResponse.of(
                 responses,
@@ -95,7 +108,7 @@ public class NotificationService {
                 .map(NotificationResponse::from)
                 .collect(Collectors.toList());
 
-        long unreadCount = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+        long unreadCount = unreadCounter.get(userId);
 
         return NotificationListResponse.of(responses, unreadCount);
     }
@@ -104,7 +117,7 @@ public class NotificationService {
      * 읽지 않은 알림 개수 조회
      */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
     // ========================================
@@ -116,7 +129,11 @@ public class NotificationService {
      */
     @Transactional
     public void markAsRead(Long notificationId) {
-        notificationRepository.markAsRead(notificationId);
+        int updated = notificationRepository.markAsRead(notificationId);
+        if (updated > 0) {
+            notificationRepository.findUserIdByNotificationId(notificationId)
+                    .ifPresent(userId -> unreadCounter.increment(userId, -updated));
+        }
         log.info("✅ 알림 읽음 처리: notificationId={}", notificationId);
     }
 
@@ -126,6 +143,7 @@ public class NotificationService {
     @Transactional
     public int markAllAsRead(Long userId) {
         int count = notificationRepository.markAllAsRead(userId);
+        unreadCounter.reset(userId);
         log.info("✅ 모든 알림 읽음 처리: userId={}, count={}", userId, count);
         return count;
     }
@@ -135,7 +153,13 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotification(Long notificationId) {
-        notificationRepository.deleteById(notificationId);
+        notificationRepository.findById(notificationId).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            dedupService.forget(Collections.singletonList(notification.getDedupKey()));
+            if (!Boolean.TRUE.equals(notification.getIsRead())) {
+                unreadCounter.increment(notification.getUser().getUserId(), -1);
+            }
+        });
         log.info("🗑️ 알림 삭제: notificationId={}", notificationId);
     }
 
@@ -144,7 +168,9 @@ public class NotificationService {
      */
     @Transactional
     public void deleteAllNotifications(Long userId) {
+        dedupService.forget(notificationRepository.findDedupKeysByUserId(userId));
         notificationRepository.deleteAllByUserId(userId);
+        unreadCounter.reset(userId);
         log.info("🗑️ 모든 알림 삭제: userId={}", userId);
     }
 
@@ -180,6 +206,7 @@ public class NotificationService {
                 .build();
 
         notification = notificationRepository.save(notification);
+        unreadCounter.increment(receiver.getUserId(), 1);
         log.info("🔔 알림 생성: type={}, receiver={}, sender={}", type, receiver.getUserId(), senderId);
 
         // 2. 웹소켓 실시간 전송 (여기가 에러 포인트!)
@@ -198,6 +225,20 @@ public class NotificationService {
         return notification;
     }
 
+    private Notification createFromDraft(User receiver, NotificationDraft draft) {
+        return createNotification(
+                receiver,
+                draft.getNotificationType(),
+                draft.getTitle(),
+                draft.getContent(),
+                draft.getLinkUrl(),
+                draft.getRelatedId(),
+                draft.getSenderId(),
+                draft.getSenderName(),
+                draft.getSenderProfileImage()
+        );
+    }
+
     // ========================================
     // 팔로우 관련 알림
     // ========================================
@@ -207,23 +248,36 @@ public class NotificationService {
      */
     @Transactional
     public void notifyNewFollower(User receiver, User follower) {
+        NotificationDraft draft = NotificationDraft.newFollower(
+                receiver.getUserId(),
+                follower.getUserId(),
+                follower.getUsername(),
+                follower.getProfileImageUrl()
+        );
+
         // 중복 알림 방지 (같은 사람이 다시 팔로우할 경우)
-        if (isDuplicateNotification(receiver.getUserId(), NotificationType.FOLLOW, null, follower.getUserId())) {
+        if (dedupService.isKnownDuplicate(draft.getDedupKey())) {
             log.info("중복 알림 스킵: FOLLOW from {} to {}", follower.getUserId(), receiver.getUserId());
             return;
         }
 
-        createNotification(
-                receiver,
-                NotificationType.FOLLOW,
-                follower.getUsername() + "님이 회원님을 팔로우합니다",
-                "👤 새로운 팔로워가 생겼습니다.",
-                "/profile/id/" + follower.getUserId(),
-                null,
-                follower.getUserId(),
-                follower.getUsername(),
-                follower.getProfileImageUrl()
-        );
+        LocalDateTime sentAt = LocalDateTime.now();
+        Optional<Long> notificationId = notificationBulkRepository.insertIfAbsent(draft, sentAt);
+        dedupService.remember(draft.getNotificationType(), draft.getDedupKey());
+        if (notificationId.isEmpty()) {
+            log.info("중복 알림 스킵: FOLLOW from {} to {}", follower.getUserId(), receiver.getUserId());
+            return;
+        }
+
+        unreadCounter.increment(receiver.getUserId(), 1);
+        log.info("🔔 알림 생성: type={}, receiver={}, sender={}", draft.getNotificationType(), receiver.getUserId(), follower.getUserId());
+
+        try {
+            pushNotificationService.pushNotification(
+                    receiver.getUserId(), NotificationResponse.of(notificationId.get(), draft, sentAt));
+        } catch (Exception e) {
+            log.error("❌ 실시간 알림 전송 실패 (DB 저장은 성공): {}", e.getMessage());
+        }
     }
 
     /**
@@ -358,17 +412,14 @@ public class NotificationService {
             return;
         }
 
-        createNotification(
-                receiver,
-                NotificationType.MEETING_FOLLOW,
-                followedUser.getUsername() + "님이 새 모임에 참가했습니다",
-                "💡 " + meetingTitle + " 모임에 참가했습니다.",
-                "/meetings/" + meetingId,
-                meetingId,
+        createFromDraft(receiver, NotificationDraft.followerMeetingJoin(
+                receiver.getUserId(),
                 followedUser.getUserId(),
                 followedUser.getUsername(),
-                followedUser.getProfileImageUrl()
-        );
+                followedUser.getProfileImageUrl(),
+                meetingId,
+                meetingTitle
+        ));
     }
 
     /**
@@ -376,31 +427,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyMeetingReminder(User receiver, Long meetingId, String meetingTitle, String reminderType) {
-        String title;
-        String content;
-
-        if ("D-1".equals(reminderType)) {
-            title = "내일 '" + meetingTitle + "' 모임이 있습니다!";
-            content = "📅 내일 모임에 참여하는 것을 잊지 마세요!";
-        } else if ("D-day".equals(reminderType)) {
-            title = "오늘 '" + meetingTitle + "' 모임입니다!";
-            content = "🎉 오늘 모임을 즐겨주세요!";
-        } else {
-            title = "'" + meetingTitle + "' 모임 알림";
-            content = "📅 모임 일정을 확인해주세요.";
-        }
-
-        createNotification(
-                receiver,
-                NotificationType.MEETING_REMINDER,
-                title,
-                content,
-                "/meetings/" + meetingId,
-                meetingId,
-                null,
-                null,
-                null
-        );
+        createFromDraft(receiver, NotificationDraft.meetingReminder(receiver.getUserId(), meetingId, meetingTitle, reminderType));
     }
 
     // ========================================
@@ -436,17 +463,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyReviewRequest(User receiver, Long meetingId, String meetingTitle) {
-        createNotification(
-                receiver,
-                NotificationType.REVIEW_REQUEST,
-                "'" + meetingTitle + "' 모임은 어떠셨나요?",
-                "⭐ 후기를 작성해주세요!",
-                "/meeting/" + meetingId + "/review",
-                meetingId,
-                null,
-                null,
-                null
-        );
+        createFromDraft(receiver, NotificationDraft.reviewRequest(receiver.getUserId(), meetingId, meetingTitle));
     }
 
     /**
@@ -538,25 +555,6 @@ public class NotificationService {
     // 유틸리티 메서드
     // ========================================
 
-    /**
-     * 중복 알림 체크
-     */
-    private boolean isDuplicateNotification(Long userId, NotificationType type, Long relatedId, Long senderId) {
-        return notificationRepository.existsByUser_UserIdAndNotificationTypeAndRelatedIdAndSenderId(
-                userId, type, relatedId, senderId
-        );
-    }
-
-    /**
-     * 오래된 알림 삭제 (30일 이상)
-     */
-    @Transactional
-    public int cleanupOldNotifications() {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        int deleted = notificationRepository.deleteOldNotifications(thirtyDaysAgo);
-        log.info("🗑️ 오래된 알림 삭제: {}개", deleted);
-        return deleted;
-    }
     @Transactional
     public void notifyChatInvite(User receiver, User inviter, Long roomId, String roomName) {
         createNotification(
@@ -593,7 +591,10 @@ public class NotificationService {
         chatRoomService.acceptInvitation(roomId, receiver.getUserId());
 
         // 5. 알림 읽음 처리 및 가입 완료 메시지로 업데이트 (선택 사항)
-        notification.markAsRead();
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notification.markAsRead();
+            unreadCounter.increment(receiver.getUserId(), -1);
+        }
 
         sendWelcomeMessage(roomId, receiver);
 
@@ -15,6 +15,7 @@ import java.util.Map;
 public class PushNotificationService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final UnreadNotificationCounter unreadCounter;
 
     /**
      * 특정 사용자에게 알림 푸시
@@ -34,10 +35,11 @@ public class PushNotificationService {
     }
 
     /**
-     * 읽지 않은 알림 개수 업데이트 푸시
+     * 읽지 않은 알림 개수 업데이트 푸시 (Redis 캐시 값 사용)
      */
-    public void pushUnreadCount(Long userId, long unreadCount) {
+    public void pushUnreadCount(Long userId) {
         try {
+            long unreadCount = unreadCounter.get(userId);
             Map<String, Object> payload = new HashMap<>();
             payload.put("type", "UNREAD_COUNT_UPDATE");
             payload.put("unreadCount", unreadCount);
@@ -0,0 +1,181 @@
+package com.project.itda.domain.notification.service;
+
+import com.project.itda.domain.notification.repository.NotificationRepository;
+import com.project.itda.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 읽지 않은 알림 개수 캐시 (Redis)
+ * - 키가 있을 때만 원자적으로 증감 (Lua), 없으면 다음 조회 시 DB에서 적재
+ * - DB 변경은 커밋 이후에 반영
+ * - 주기적으로 notifications 테이블과 대조하여 보정
+ * - Redis 장애 시 DB COUNT 로 폴백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    /**
+     * 키가 존재할 때만 INCRBY, 음수가 되면 0으로 고정
+     */
+    private static final String INCR_IF_PRESENT_LUA = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+                if v < 0 then
+                    redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                    return 0
+                end
+                return v
+            end
+            return -1
+            """;
+
+    private static final RedisScript<Long> INCR_IF_PRESENT =
+            new DefaultRedisScript<>(INCR_IF_PRESENT_LUA, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 읽지 않은 알림 개수 조회 (캐시 미스 시 DB COUNT 후 적재)
+     */
+    public long get(Long userId) {
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 읽지 않은 알림 캐시 조회 실패 (DB 폴백): userId={}, error={}", userId, e.getMessage());
+            return notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+        } catch (Exception e) {
+            log.warn("⚠️ 읽지 않은 알림 캐시 적재 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * 개수 증감 (커밋 이후 반영)
+     */
+    public void increment(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        afterCommit(() -> redisTemplate.execute(INCR_IF_PRESENT, List.of(key(userId)), String.valueOf(delta)));
+    }
+
+    /**
+     * 여러 사용자 개수 일괄 증가 (대량 알림용, 파이프라인)
+     */
+    public void incrementAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        byte[] script = INCR_IF_PRESENT_LUA.getBytes(StandardCharsets.UTF_8);
+        afterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((userId, delta) -> connection.scriptingCommands().eval(
+                    script,
+                    ReturnType.INTEGER,
+                    1,
+                    key(userId).getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(delta).getBytes(StandardCharsets.UTF_8)
+            ));
+            return null;
+        }));
+    }
+
+    /**
+     * 개수를 0으로 설정 (전체 읽음/전체 삭제)
+     */
+    public void reset(Long userId) {
+        afterCommit(() -> redisTemplate.opsForValue().set(key(userId), "0", TTL));
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 DB에서 재적재)
+     */
+    public void evict(Long userId) {
+        afterCommit(() -> redisTemplate.delete(key(userId)));
+    }
+
+    /**
+     * 캐시된 모든 사용자 개수를 DB와 대조하여 보정
+     */
+    public int reconcile() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(RECONCILE_BATCH_SIZE).build();
+        List<Long> batch = new ArrayList<>(RECONCILE_BATCH_SIZE);
+        int corrected = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(Long.parseLong(cursor.next().substring(KEY_PREFIX.length())));
+                if (batch.size() >= RECONCILE_BATCH_SIZE) {
+                    corrected += reconcileBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        corrected += reconcileBatch(batch);
+        return corrected;
+    }
+
+    private int reconcileBatch(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadGroupByUserIds(userIds)) {
+            actual.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<String> cached = redisTemplate.opsForValue().multiGet(userIds.stream().map(this::key).toList());
+        int corrected = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            String expected = String.valueOf(actual.getOrDefault(userId, 0L));
+            String current = cached != null ? cached.get(i) : null;
+            if (current != null && !current.equals(expected)) {
+                redisTemplate.opsForValue().set(key(userId), expected, TTL);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionUtil.afterCommit(action,
+                e -> log.warn("⚠️ 읽지 않은 알림 캐시 갱신 실패 (보정 작업에서 복구): {}", e.getMessage()));
+    }
+}
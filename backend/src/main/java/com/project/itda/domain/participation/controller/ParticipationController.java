@@ -6,6 +6,7 @@ import com.project.itda.domain.participation.dto.response.ParticipantListRespons
 import com.project.itda.domain.participation.dto.response.ParticipationResponse;
 import com.project.itda.domain.participation.dto.response.MyRecentMeetingResponse;
 import com.project.itda.domain.participation.service.ParticipationService;
+import com.project.itda.domain.user.dto.response.FollowUserResponse;
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -147,6 +148,21 @@ public class ParticipationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 모임에 참여한 내 팔로잉 조회
+     */
+    @Operation(summary = "참여한 친구 조회", description = "모임 참여자 중 내가 팔로우하는 사용자 목록")
+    @GetMapping("/meeting/{meetingId}/friends")
+    public ResponseEntity<List<FollowUserResponse>> getFriendsInMeeting(
+            @PathVariable Long meetingId,
+            @AuthenticationPrincipal Long userId
+    ) {
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(participationService.getFriendsInMeeting(meetingId, userId));
+    }
+
     /**
      * 사용자의 참여 목록 조회
      */
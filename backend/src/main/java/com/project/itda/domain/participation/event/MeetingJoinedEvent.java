@@ -0,0 +1,30 @@
+package com.project.itda.domain.participation.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 모임 참가 신청 이벤트 (팔로워 알림 fan-out 용)
+ * - 커밋 이후 비동기 처리되므로 엔티티 대신 필요한 값만 보관
+ */
+@Getter
+public class MeetingJoinedEvent extends ApplicationEvent {
+
+    private final Long participantId;
+    private final String participantName;
+    private final String participantProfileImage;
+    private final Long meetingId;
+    private final String meetingTitle;
+    private final Long organizerId;
+
+    public MeetingJoinedEvent(Long participantId, String participantName, String participantProfileImage,
+                              Long meetingId, String meetingTitle, Long organizerId) {
+        super(meetingId);
+        this.participantId = participantId;
+        this.participantName = participantName;
+        this.participantProfileImage = participantProfileImage;
+        this.meetingId = meetingId;
+        this.meetingTitle = meetingTitle;
+        this.organizerId = organizerId;
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.itda.domain.participation.repository;
+
+import com.project.itda.domain.participation.enums.ParticipationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마이페이지용 참여 + 모임 프로젝션 (Participation/Meeting 엔티티 로딩 없음)
+ */
+public interface MyParticipationRow {
+
+    ParticipationStatus getStatus();
+
+    LocalDateTime getAppliedAt();
+
+    LocalDateTime getCompletedAt();
+
+    Long getMeetingId();
+
+    String getTitle();
+
+    LocalDateTime getMeetingTime();
+
+    String getLocationName();
+
+    Double getAvgRating();
+
+    Long getChatRoomId();
+}
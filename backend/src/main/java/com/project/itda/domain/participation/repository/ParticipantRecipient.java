@@ -0,0 +1,13 @@
+package com.project.itda.domain.participation.repository;
+
+/**
+ * 참여자 수신자 프로젝션 (대량 알림용, 엔티티 로딩 없음)
+ */
+public interface ParticipantRecipient {
+
+    Long getParticipationId();
+
+    Long getMeetingId();
+
+    Long getUserId();
+}
@@ -3,11 +3,13 @@ package com.project.itda.domain.participation.repository;
 import com.project.itda.domain.meeting.entity.Meeting;
 import com.project.itda.domain.participation.entity.Participation;
 import com.project.itda.domain.participation.enums.ParticipationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,6 +62,36 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
             @Param("status") ParticipationStatus status
     );
 
+    /**
+     * ✅ 모임 ID 목록 + 상태로 수신자 ID 조회 (대량 알림용, participationId 기준 keyset 페이징)
+     */
+    @Query("SELECT p.participationId AS participationId, " +
+            "p.meeting.meetingId AS meetingId, " +
+            "p.user.userId AS userId " +
+            "FROM Participation p " +
+            "WHERE p.meeting.meetingId IN :meetingIds " +
+            "AND p.status = :status " +
+            "AND p.participationId > :lastId " +
+            "ORDER BY p.participationId ASC")
+    List<ParticipantRecipient> findRecipientsAfter(
+            @Param("meetingIds") Collection<Long> meetingIds,
+            @Param("status") ParticipationStatus status,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    /**
+     * 모임 ID + 상태로 참여자 사용자 ID 조회 (엔티티 로딩 없음)
+     */
+    @Query("SELECT p.user.userId FROM Participation p " +
+            "WHERE p.meeting.meetingId = :meetingId " +
+            "AND p.status = :status " +
+            "ORDER BY p.appliedAt DESC")
+    List<Long> findUserIdsByMeetingIdAndStatus(
+            @Param("meetingId") Long meetingId,
+            @Param("status") ParticipationStatus status
+    );
+
     /**
      * 모임의 모든 참여자 조회
      */
@@ -83,6 +115,23 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
     // 사용자 기준 조회
     // ========================================
 
+    /**
+     * 마이페이지 - 여러 상태의 참여 + 모임 정보를 한 번에 (신청일 내림차순)
+     */
+    @Query("SELECT p.status AS status, p.appliedAt AS appliedAt, p.completedAt AS completedAt, " +
+            "m.meetingId AS meetingId, m.title AS title, m.meetingTime AS meetingTime, " +
+            "m.locationName AS locationName, m.avgRating AS avgRating, cr.id AS chatRoomId " +
+            "FROM Participation p " +
+            "JOIN p.meeting m " +
+            "LEFT JOIN m.chatRoom cr " +
+            "WHERE p.user.userId = :userId " +
+            "AND p.status IN :statuses " +
+            "ORDER BY p.appliedAt DESC")
+    List<MyParticipationRow> findMyPageRows(
+            @Param("userId") Long userId,
+            @Param("statuses") Collection<ParticipationStatus> statuses
+    );
+
     /**
      * 사용자의 참여 목록 조회 (특정 상태)
      */
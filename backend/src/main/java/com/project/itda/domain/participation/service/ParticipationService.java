@@ -1,9 +1,14 @@
 // src/main/java/com/project/itda/domain/participation/service/ParticipationService.java
 package com.project.itda.domain.participation.service;
 
+import com.project.itda.domain.admin.enums.DashboardCounter;
+import com.project.itda.domain.admin.event.DashboardCounterEvent;
 import com.project.itda.domain.badge.event.ParticipationCompletedEvent;
+import com.project.itda.domain.feed.enums.FeedActivityType;
+import com.project.itda.domain.feed.event.FeedActivityEvent;
 import com.project.itda.domain.meeting.entity.Meeting;
 import com.project.itda.domain.meeting.enums.MeetingStatus;
+import com.project.itda.domain.meeting.event.MeetingChangedEvent;
 import com.project.itda.domain.meeting.repository.MeetingRepository;
 import com.project.itda.domain.notification.service.NotificationService;
 import com.project.itda.domain.participation.dto.request.ParticipationRequest;
@@ -12,6 +17,7 @@ import com.project.itda.domain.participation.dto.response.ParticipantListRespons
 import com.project.itda.domain.participation.dto.response.ParticipationResponse;
 import com.project.itda.domain.participation.dto.response.MyRecentMeetingResponse;
 import com.project.itda.domain.participation.entity.Participation;
+import com.project.itda.domain.participation.event.MeetingJoinedEvent;
 import com.project.itda.domain.participation.enums.ParticipationStatus;
 import com.project.itda.domain.participation.repository.ParticipationRepository;
 import com.project.itda.domain.social.entity.ChatParticipant;
@@ -19,9 +25,10 @@ import com.project.itda.domain.social.enums.ChatRole;
 import com.project.itda.domain.social.repository.ChatParticipantRepository;
 import com.project.itda.domain.social.repository.ChatRoomRepository;
 import com.project.itda.domain.social.service.ChatRoomService;
+import com.project.itda.domain.user.dto.response.FollowUserResponse;
 import com.project.itda.domain.user.entity.User;
-import com.project.itda.domain.user.entity.UserFollow;
-import com.project.itda.domain.user.repository.UserFollowRepository;
+import com.project.itda.domain.user.graph.FollowGraphService;
+import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -37,6 +44,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -50,11 +58,12 @@ public class ParticipationService {
     private final ParticipationRepository participationRepository;
     private final MeetingRepository meetingRepository;
     private final NotificationService notificationService;
-    private final UserFollowRepository userFollowRepository;
     private final ApplicationEventPublisher eventPublisher;  // ⭐ 추가!
     private final ChatRoomRepository chatRoomRepository;
     private final ChatParticipantRepository chatParticipantRepository;
     private final SimpMessageSendingOperations messagingTemplate;
+    private final FollowGraphService followGraphService;
+    private final UserRepository userRepository;
 
     /**
      * 모임 참여 신청
@@ -114,39 +123,26 @@ public class ParticipationService {
             log.error("❌ 모임장 알림 전송 실패: {}", e.getMessage());
         }
 
-        // ✅ 참가자를 팔로우하는 사람들에게 알림
-        try {
-            notifyFollowersAboutMeetingJoin(user, meeting);
-        } catch (Exception e) {
-            log.error("❌ 팔로워 알림 전송 실패: {}", e.getMessage());
+        // ✅ 참가자를 팔로우하는 사람들에게 알림 (커밋 후 비동기 fan-out)
+        eventPublisher.publishEvent(new MeetingJoinedEvent(
+                user.getUserId(),
+                user.getUsername(),
+                user.getProfileImageUrl(),
+                meeting.getMeetingId(),
+                meeting.getTitle(),
+                meeting.getOrganizer() != null ? meeting.getOrganizer().getUserId() : null
+        ));
+
+        // ✅ 친구 활동 피드 (공개 모임만)
+        if (Boolean.TRUE.equals(meeting.getIsPublic())) {
+            eventPublisher.publishEvent(new FeedActivityEvent(FeedActivityType.MEETING_JOINED,
+                    user.getUserId(), user.getUsername(), user.getProfileImageUrl(),
+                    meeting.getMeetingId(), meeting.getTitle(), null));
         }
 
         return toParticipationResponse(saved);
     }
 
-    /**
-     * ✅ 팔로워들에게 모임 참가 알림
-     */
-    private void notifyFollowersAboutMeetingJoin(User participant, Meeting meeting) {
-        List<UserFollow> followers = userFollowRepository.findByFollowing(participant);
-
-        int count = 0;
-        for (UserFollow follow : followers) {
-            User follower = follow.getFollower();
-            if (!follower.getUserId().equals(participant.getUserId())
-                    && !follower.getUserId().equals(meeting.getOrganizer().getUserId())) {
-                notificationService.notifyFollowerMeetingJoin(
-                        follower,
-                        participant,
-                        meeting.getMeetingId(),
-                        meeting.getTitle()
-                );
-                count++;
-            }
-        }
-        log.info("🔔 팔로워 {}명에게 모임 참가 알림 전송", count);
-    }
-
     /**
      * 참여 승인 (주최자만)
      */
@@ -165,6 +161,7 @@ public class ParticipationService {
         // 1. 모임 참여 상태 변경 및 인원 증가 (원본 로직)
         participation.approve();
         meeting.addParticipant();
+        eventPublisher.publishEvent(new MeetingChangedEvent(meeting.getMeetingId()));
 
         log.info("✅ 참여 승인 완료 - participationId: {}", participationId);
 
@@ -277,6 +274,7 @@ public class ParticipationService {
         if (participation.getStatus() == ParticipationStatus.APPROVED) {
             Meeting meeting = participation.getMeeting();
             meeting.removeParticipant();
+            eventPublisher.publishEvent(new MeetingChangedEvent(meeting.getMeetingId()));
         }
 
         participation.cancel();
@@ -284,6 +282,28 @@ public class ParticipationService {
         log.info("✅ 참여 취소 완료 - participationId: {}", participationId);
     }
 
+    /**
+     * ✅ 이 모임에 참여한 내 팔로잉 ("친구가 참여한 모임")
+     * - 승인된 참여자 ID 와 팔로잉의 교집합은 팔로우 그래프에서 계산, 사용자 조회는 교집합만
+     */
+    @Transactional(readOnly = true)
+    public List<FollowUserResponse> getFriendsInMeeting(Long meetingId, Long viewerId) {
+        List<Long> participantIds = participationRepository.findUserIdsByMeetingIdAndStatus(
+                meetingId, ParticipationStatus.APPROVED);
+        List<Long> friendIds = followGraphService.friendsAmong(viewerId, participantIds);
+        if (friendIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(friendIds).stream()
+                .collect(Collectors.toMap(User::getUserId, u -> u));
+        return friendIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(u -> FollowUserResponse.from(u, true))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 모임의 참여자 목록 조회
      */
@@ -525,8 +545,13 @@ public class ParticipationService {
             throw new IllegalStateException("주최자만 모임을 마감할 수 있습니다");
         }
 
+        boolean wasActive = meeting.getStatus() != null && meeting.getStatus().isActive();
         meeting.updateStatus(MeetingStatus.COMPLETED);
         meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
+        if (wasActive) {
+            eventPublisher.publishEvent(new DashboardCounterEvent(DashboardCounter.ACTIVE_MEETINGS, -1));
+        }
 
         // APPROVED 상태인 모든 참여자 조회
         List<Participation> approvedParticipations = participationRepository
@@ -616,6 +641,7 @@ public class ParticipationService {
 
         // 4. 모임 엔티티의 참여 인원수 증가
         meeting.addParticipant();
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
 
         log.info("✅ 초대 수락 참여 처리 완료 - userId: {}, meetingId: {}",
                 user.getUserId(), meetingId);
@@ -4,6 +4,8 @@ package com.project.itda.domain.review.service;
 import com.project.itda.domain.ai.dto.response.SentimentAnalysisDTO;
 import com.project.itda.domain.ai.service.SentimentAnalysisService;
 import com.project.itda.domain.badge.event.ReviewCreatedEvent;
+import com.project.itda.domain.feed.enums.FeedActivityType;
+import com.project.itda.domain.feed.event.FeedActivityEvent;
 import com.project.itda.domain.meeting.entity.Meeting;
 import com.project.itda.domain.meeting.repository.MeetingRepository;
 import com.project.itda.domain.participation.entity.Participation;
@@ -141,6 +143,13 @@ public class ReviewService {
         eventPublisher.publishEvent(new ReviewCreatedEvent(user.getUserId(), sentiment));
         log.info("🏅 리뷰 배지 이벤트 발행: userId={}, sentiment={}", user.getUserId(), sentiment);
 
+        // ✅ 친구 활동 피드 (공개 후기만)
+        if (Boolean.TRUE.equals(savedReview.getIsPublic())) {
+            eventPublisher.publishEvent(new FeedActivityEvent(FeedActivityType.MEETING_REVIEWED,
+                    user.getUserId(), user.getUsername(), user.getProfileImageUrl(),
+                    meeting.getMeetingId(), meeting.getTitle(), savedReview.getRating()));
+        }
+
         log.info("✅ 후기 작성 완료 - reviewId: {}", savedReview.getReviewId());
 
         // 10. 응답 생성
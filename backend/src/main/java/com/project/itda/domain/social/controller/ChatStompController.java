@@ -96,16 +96,16 @@ public class ChatStompController {
             Set<String> activeEmails = new HashSet<>(chatRoomService.getActiveUserEmails(roomId));
 
             // 🔍 디버깅: 활성 사용자 목록 출력
-            log.info("🔍 [ACTIVE CHECK] roomId={}, 전체 활성 사용자: {}", roomId, activeEmails);
+            log.debug("🔍 [ACTIVE CHECK] roomId={}, 전체 활성 사용자: {}", roomId, activeEmails);
 
             activeEmails.remove(email); // 발송자 제외
 
-            log.info("🔍 [ACTIVE CHECK] 발송자 제외 후: {}", activeEmails);
+            log.debug("🔍 [ACTIVE CHECK] 발송자 제외 후: {}", activeEmails);
 
             // ✅ 4. 최종 unreadCount = DB 미읽음 - 활성 사용자
             int finalUnreadCount = (int) Math.max(0, totalUnread - activeEmails.size());
 
-            log.info("📊 unreadCount 계산: totalUnread={}, activeUsers={}, final={}, 발송자={}",
+            log.debug("📊 unreadCount 계산: totalUnread={}, activeUsers={}, final={}, 발송자={}",
                     totalUnread, activeEmails.size(), finalUnreadCount, email);
 
             // ✅ 5. DB에 저장
@@ -129,7 +129,7 @@ public class ChatStompController {
 
             messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
 
-            log.info("✅ 메시지 전송 완료 - messageId: {}, finalUnreadCount: {}", savedMsg.getId(), finalUnreadCount);
+            log.debug("✅ 메시지 전송 완료 - messageId: {}, finalUnreadCount: {}", savedMsg.getId(), finalUnreadCount);
 
         } catch (Exception e) {
             log.error("❌ 메시지 전송 중 에러 발생", e);
@@ -155,7 +155,7 @@ public class ChatStompController {
         List<ChatMessage> recentMessages = chatMessageRepository
                 .findTop50ByChatRoomIdOrderByCreatedAtDesc(roomId);
 
-        log.info("🔍 JOIN 처리: {} 개 메시지 재계산", recentMessages.size());
+        log.debug("🔍 JOIN 처리: {} 개 메시지 재계산", recentMessages.size());
 
         for (ChatMessage msg : recentMessages) {
             // ✅ DB 쿼리로 정확한 미읽음 수 계산
@@ -166,7 +166,7 @@ public class ChatStompController {
             int finalUnreadCount = (int) actualUnread;
 
             if (msg.getUnreadCount() != finalUnreadCount) {
-                log.info("🔄 JOIN으로 인한 unreadCount 변경: {} -> {}", msg.getUnreadCount(), finalUnreadCount);
+                log.debug("🔄 JOIN으로 인한 unreadCount 변경: {} -> {}", msg.getUnreadCount(), finalUnreadCount);
                 msg.setUnreadCount(finalUnreadCount);
                 chatMessageRepository.save(msg);
 
@@ -178,21 +178,21 @@ public class ChatStompController {
 
                 messagingTemplate.convertAndSend("/topic/room/" + roomId, updateSignal);
 
-                log.info("📤 UNREAD_UPDATE 전송 (JOIN): messageId={}, unreadCount={}",
+                log.debug("📤 UNREAD_UPDATE 전송 (JOIN): messageId={}, unreadCount={}",
                         msg.getId(), finalUnreadCount);
             }
         }
 
         // 🔍 디버깅: 활성 사용자 목록 확인
         Set<String> activeEmails = chatRoomService.getActiveUserEmails(roomId);
-        log.info("🔍 [ACTIVE USERS] roomId={}, activeEmails={}", roomId, activeEmails);
+        log.debug("🔍 [ACTIVE USERS] roomId={}, activeEmails={}", roomId, activeEmails);
     }
 
     @MessageMapping("/chat/read/{roomId}")
     @Transactional
     public void markAsRead(@DestinationVariable Long roomId, @Payload Map<String, String> payload) {
         String email = payload.get("email");
-        log.info("📖 READ 신호 수신: roomId={}, email={}", roomId, email);
+        log.debug("📖 READ 신호 수신: roomId={}, email={}", roomId, email);
 
         // ✅ 1. 먼저 lastReadAt 업데이트
         chatRoomService.userJoined(roomId, email);
@@ -201,7 +201,7 @@ public class ChatStompController {
         List<ChatMessage> recentMessages = chatMessageRepository
                 .findTop50ByChatRoomIdOrderByCreatedAtDesc(roomId);
 
-        log.info("🔍 READ 처리 시작: {} 개 메시지 처리", recentMessages.size());
+        log.debug("🔍 READ 처리 시작: {} 개 메시지 처리", recentMessages.size());
 
         // ✅ 3. 각 메시지의 unreadCount 재계산
         for (ChatMessage msg : recentMessages) {
@@ -212,7 +212,7 @@ public class ChatStompController {
 
             int finalUnreadCount = (int) actualUnread;
 
-            log.info("📊 메시지 ID={}, 발송자={}, DB미읽음={}, 현재DB값={}, 계산값={}",
+            log.debug("📊 메시지 ID={}, 발송자={}, DB미읽음={}, 현재DB값={}, 계산값={}",
                     msg.getId(),
                     msg.getSender().getEmail(),
                     actualUnread,
@@ -220,7 +220,7 @@ public class ChatStompController {
                     finalUnreadCount);
 
             if (msg.getUnreadCount() != finalUnreadCount) {
-                log.info("🔄 업데이트 필요! {} -> {}", msg.getUnreadCount(), finalUnreadCount);
+                log.debug("🔄 업데이트 필요! {} -> {}", msg.getUnreadCount(), finalUnreadCount);
                 msg.setUnreadCount(finalUnreadCount);
                 chatMessageRepository.save(msg);
 
@@ -232,12 +232,12 @@ public class ChatStompController {
 
                 messagingTemplate.convertAndSend("/topic/room/" + roomId, updateSignal);
 
-                log.info("📤 UNREAD_UPDATE 전송: messageId={}, unreadCount={}",
+                log.debug("📤 UNREAD_UPDATE 전송: messageId={}, unreadCount={}",
                         msg.getId(), finalUnreadCount);
             }
         }
 
-        log.info("✅ READ 처리 완료: roomId={}, email={}", roomId, email);
+        log.debug("✅ READ 처리 완료: roomId={}, email={}", roomId, email);
     }
 
     /**
@@ -270,7 +270,7 @@ public class ChatStompController {
         List<ChatMessage> recentMessages = chatMessageRepository
                 .findTop50ByChatRoomIdOrderByCreatedAtDesc(roomId);
 
-        log.info("🔍 LEAVE 처리: {} 개 메시지 재계산", recentMessages.size());
+        log.debug("🔍 LEAVE 처리: {} 개 메시지 재계산", recentMessages.size());
 
         for (ChatMessage msg : recentMessages) {
             // ✅ DB 쿼리로 정확한 미읽음 수 계산
@@ -281,7 +281,7 @@ public class ChatStompController {
             int finalUnreadCount = (int) actualUnread;
 
             if (msg.getUnreadCount() != finalUnreadCount) {
-                log.info("🔄 LEAVE로 인한 unreadCount 변경: {} -> {}", msg.getUnreadCount(), finalUnreadCount);
+                log.debug("🔄 LEAVE로 인한 unreadCount 변경: {} -> {}", msg.getUnreadCount(), finalUnreadCount);
                 msg.setUnreadCount(finalUnreadCount);
                 chatMessageRepository.save(msg);
 
@@ -293,7 +293,7 @@ public class ChatStompController {
 
                 messagingTemplate.convertAndSend("/topic/room/" + roomId, updateSignal);
 
-                log.info("📤 UNREAD_UPDATE 전송 (LEAVE): messageId={}, unreadCount={}",
+                log.debug("📤 UNREAD_UPDATE 전송 (LEAVE): messageId={}, unreadCount={}",
                         msg.getId(), finalUnreadCount);
             }
         }
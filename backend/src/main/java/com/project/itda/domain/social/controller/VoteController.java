@@ -40,11 +40,11 @@ public class VoteController {
             @PathVariable Long roomId,
             @RequestBody VoteRequest request) {
 
-        log.info("📥 투표 생성 요청 - roomId: {}, request: {}", roomId, request);
-        log.info("🔍 세션 ID: {}", httpSession.getId());
+        log.debug("📥 투표 생성 요청 - roomId: {}, request: {}", roomId, request);
+        log.debug("🔍 세션 ID: {}", httpSession.getId());
 
         SessionUser user = (SessionUser) httpSession.getAttribute("user");
-        log.info("🔍 세션에서 가져온 user: {}", user);
+        log.debug("🔍 세션에서 가져온 user: {}", user);
 
         if (user == null) {
             log.error("❌ 세션에 user 정보 없음");
@@ -129,8 +129,8 @@ public class VoteController {
             @RequestBody VoteActionRequest request,
             @SessionAttribute(name = "user", required = false) SessionUser user) {
 
-        log.info("📥 투표 전송 요청 - voteId: {}, request: {}", voteId, request);
-        log.info("🔍 세션에서 가져온 user: {}", user);
+        log.debug("📥 투표 전송 요청 - voteId: {}, request: {}", voteId, request);
+        log.debug("🔍 세션에서 가져온 user: {}", user);
 
         if (user == null) {
             log.error("❌ 세션에 유저 정보가 없습니다. 로그인이 필요합니다.");
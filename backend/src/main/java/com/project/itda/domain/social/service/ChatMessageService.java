@@ -77,18 +77,13 @@ public class ChatMessageService {
 
         // 참여자들의 마지막 읽은 시간 리스트를 한 번에 조회
         List<LocalDateTime> lastReadTimes = chatParticipantRepository.findAllLastReadAtByRoomId(roomId);
-        int totalParticipants = lastReadTimes.size();
 
         return messages.stream().map(msg -> {
             String nickname = msg.getSender().getNickname();
             String finalName = (nickname != null && !nickname.trim().isEmpty())
                     ? nickname : msg.getSender().getUsername();
 
-            long readCount = lastReadTimes.stream()
-                    .filter(lastRead -> lastRead != null && !lastRead.isBefore(msg.getCreatedAt()))
-                    .count();
-
-            int unreadCount = (int) (totalParticipants - readCount);
+            int unreadCount = countUnread(lastReadTimes, msg.getCreatedAt());
 
             return ChatMessageResponse.builder()
                     .messageId(msg.getId())
@@ -105,6 +100,16 @@ public class ChatMessageService {
 
 
 
+    /**
+     * 메시지 시각 이후로 읽지 않은 참여자 수 (lastReadAt 이 없거나 메시지보다 이전)
+     */
+    static int countUnread(List<LocalDateTime> lastReadTimes, LocalDateTime sentAt) {
+        long readCount = lastReadTimes.stream()
+                .filter(lastRead -> lastRead != null && !lastRead.isBefore(sentAt))
+                .count();
+        return (int) (lastReadTimes.size() - readCount);
+    }
+
     @Transactional
     public ChatMessage saveMessageWithMetadata(String email, Long chatRoomId, String content, MessageType type, Map<String, Object> metadata, int unreadCount) {
         User sender = userRepository.findByEmail(email)
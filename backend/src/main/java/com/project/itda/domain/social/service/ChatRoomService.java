@@ -13,7 +13,7 @@ import com.project.itda.domain.social.enums.ChatRole;
 import com.project.itda.domain.social.repository.ChatParticipantRepository;
 import com.project.itda.domain.social.repository.ChatRoomRepository;
 import com.project.itda.domain.user.entity.User;
-import com.project.itda.domain.user.repository.UserFollowRepository;
+import com.project.itda.domain.user.graph.FollowGraphService;
 import com.project.itda.domain.user.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -39,7 +39,7 @@ public class ChatRoomService {
 
     private final MeetingRepository meetingRepository;
     private final ParticipationRepository participationRepository;
-    private final UserFollowRepository userFollowRepository;
+    private final FollowGraphService followGraphService;
     private final ParticipationService participationService;
     private final NotificationService notificationService; // ✅ 알림 서비스 의존성 주입
     private final SimpMessageSendingOperations messagingTemplate;
@@ -126,7 +126,7 @@ public class ChatRoomService {
                     User member = participant.getUser();
                     boolean isFollowing = false;
                     if (currentUserId != null && !currentUserId.equals(member.getUserId())) {
-                        isFollowing = userFollowRepository.existsByFollowerIdAndFollowingId(currentUserId, member.getUserId());
+                        isFollowing = followGraphService.follows(currentUserId, member.getUserId());
                     }
                     return ChatParticipantResponse.builder()
                             .userId(member.getUserId())
@@ -225,7 +225,7 @@ public class ChatRoomService {
                 .map(user ->{
                     boolean isFollowing = false;
                     if (currentUserId != null && !currentUserId.equals(user.getUserId())) {
-                        isFollowing = userFollowRepository.existsByFollowerIdAndFollowingId(currentUserId, user.getUserId());
+                        isFollowing = followGraphService.follows(currentUserId, user.getUserId());
                     }
                     return ChatParticipantResponse.builder()
                             .userId(user.getUserId())
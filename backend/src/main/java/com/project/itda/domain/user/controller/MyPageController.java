@@ -1,8 +1,9 @@
 package com.project.itda.domain.user.controller;
 
-import com.project.itda.domain.user.repository.UserFollowRepository;
+import com.project.itda.domain.user.graph.FollowGraphService;
 import com.project.itda.domain.user.dto.request.ReviewCreateRequest;
 import com.project.itda.domain.user.dto.response.MyMeetingResponse;
+import com.project.itda.domain.user.dto.response.MyPageResponse;
 import com.project.itda.domain.user.dto.response.MyReviewResponse;
 import com.project.itda.domain.user.dto.response.PendingReviewResponse;
 import com.project.itda.domain.user.entity.User;
@@ -28,7 +29,7 @@ public class MyPageController {
     private final MyPageService myPageService;
     private final UserReviewService userReviewService;
     private final UserRepository userRepository;
-    private final UserFollowRepository userFollowRepository;
+    private final FollowGraphService followGraphService;
 
     // ✅ 접근 권한 체크 메서드
     private boolean canAccessUserData(Long targetUserId, Long currentUserId) {
@@ -52,7 +53,7 @@ public class MyPageController {
             return true;
         }
 
-        boolean isFollowing = userFollowRepository.existsByFollowerIdAndFollowingId(currentUserId, targetUserId);
+        boolean isFollowing = followGraphService.follows(currentUserId, targetUserId);
         log.info("🔍 팔로우 여부: {}", isFollowing);
 
         if (isFollowing) {
@@ -64,6 +65,23 @@ public class MyPageController {
         return false;
     }
 
+    /**
+     * ✅ 마이페이지 전체 섹션 한 번에 조회 (후기 대기 / 내 후기 / 진행 중 / 예정 / 완료)
+     */
+    @GetMapping("/{userId}/my-page")
+    public ResponseEntity<?> getMyPage(
+            @PathVariable Long userId,
+            @RequestParam Long currentUserId) {
+        log.info("마이페이지 조회: userId={}, currentUserId={}", userId, currentUserId);
+
+        if (!canAccessUserData(userId, currentUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "접근 권한이 없습니다."));
+        }
+
+        MyPageResponse response = myPageService.getMyPage(userId, currentUserId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{userId}/pending-reviews")
     public ResponseEntity<?> getPendingReviews(
             @PathVariable Long userId,
@@ -2,6 +2,7 @@ package com.project.itda.domain.user.controller;
 
 import com.project.itda.domain.user.dto.response.FollowUserResponse;
 import com.project.itda.domain.user.service.UserFollowService;
+import com.project.itda.global.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class UserFollowController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserFollowService userFollowService;
 
     // ==================== 기본 팔로우 (공개 계정용) ====================
@@ -70,6 +73,32 @@ public class UserFollowController {
         return ResponseEntity.ok(userFollowService.getFollowerList(userId, currentUserId));
     }
 
+    /**
+     * 팔로잉 목록 페이지 조회
+     * GET /api/users/{userId}/following/page?currentUserId=&page=&size=
+     */
+    @GetMapping("/{userId}/following/page")
+    public ResponseEntity<PageResponse<FollowUserResponse>> getFollowingPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long currentUserId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userFollowService.getFollowingPage(userId, currentUserId, page, clampPageSize(size)));
+    }
+
+    /**
+     * 팔로워 목록 페이지 조회
+     * GET /api/users/{userId}/followers/page?currentUserId=&page=&size=
+     */
+    @GetMapping("/{userId}/followers/page")
+    public ResponseEntity<PageResponse<FollowUserResponse>> getFollowersPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long currentUserId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userFollowService.getFollowerPage(userId, currentUserId, page, clampPageSize(size)));
+    }
+
     /**
      * 팔로우 상태 확인
      * GET /api/users/{userId}/is-following/{targetUserId}
@@ -146,4 +175,8 @@ public class UserFollowController {
         log.info("받은 팔로우 요청 목록 조회: {}", userId);
         return ResponseEntity.ok(userFollowService.getFollowRequests(userId));
     }
-}
\ No newline at end of file
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.itda.domain.user.dto.response;
 
 import com.project.itda.domain.user.entity.User;
+import com.project.itda.domain.user.repository.FollowUserRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,6 +32,19 @@ public class FollowUserResponse {
                 .build();
     }
 
+    /**
+     * 목록 프로젝션으로부터 생성 (User 엔티티 로딩 없음)
+     */
+    public static FollowUserResponse from(FollowUserRow row, Boolean isFollowing) {
+        return FollowUserResponse.builder()
+                .userId(row.getUserId())
+                .username(row.getUsername())
+                .profileImageUrl(row.getProfileImageUrl())
+                .email(row.getEmail())
+                .isFollowing(isFollowing)
+                .build();
+    }
+
     /**
      * User 엔티티로부터 FollowUserResponse 생성 (isFollowing 없음 - 기본 false)
      */
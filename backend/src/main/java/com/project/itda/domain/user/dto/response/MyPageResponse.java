@@ -0,0 +1,19 @@
+package com.project.itda.domain.user.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 마이페이지 전체 섹션 (한 번의 요청으로 조회)
+ */
+@Getter
+@Builder
+public class MyPageResponse {
+    private List<PendingReviewResponse> pendingReviews;
+    private List<MyReviewResponse> myReviews;
+    private List<MyMeetingResponse> ongoingMeetings;
+    private List<MyMeetingResponse> upcomingMeetings;
+    private List<MyMeetingResponse> completedMeetings;
+}
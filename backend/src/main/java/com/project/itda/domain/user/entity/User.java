@@ -12,7 +12,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -108,6 +110,18 @@ public class User {
     @Builder.Default
     private Integer meetingCount = 0;
 
+    /**
+     * 팔로워 / 팔로잉 수 (비정규화)
+     * - DB 값은 UserRepository 의 원자적 증감 쿼리와 정합성 배치로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+     */
+    @Column(name = "follower_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int followerCount;
+
+    @Column(name = "following_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int followingCount;
+
     @Column(name = "birth_date")
     private LocalDate birthDate;
 
@@ -137,6 +151,14 @@ public class User {
         if (isPublic != null) this.isPublic = isPublic;
     }
 
+    /**
+     * 같은 트랜잭션 안에서 증감 쿼리 결과를 엔티티에도 반영 (응답/알림용, DB 에는 쓰지 않음)
+     */
+    public void applyFollowCountDelta(int followerDelta, int followingDelta) {
+        this.followerCount = Math.max(0, this.followerCount + followerDelta);
+        this.followingCount = Math.max(0, this.followingCount + followingDelta);
+    }
+
     public void updateLastLogin() {
         this.lastLoginAt = LocalDateTime.now();
     }
@@ -8,7 +8,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_follows")
+@Table(name = "user_follows", indexes = {
+        @Index(name = "idx_user_follow_follower", columnList = "follower_id, following_id"),
+        @Index(name = "idx_user_follow_following", columnList = "following_id, follower_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
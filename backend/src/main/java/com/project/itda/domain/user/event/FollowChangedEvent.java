@@ -0,0 +1,22 @@
+package com.project.itda.domain.user.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 팔로우 관계 변경 이벤트 (팔로우 / 언팔로우 / 팔로우 요청 수락 → 팔로우 그래프 반영)
+ */
+@Getter
+public class FollowChangedEvent extends ApplicationEvent {
+
+    private final Long followerId;
+    private final Long followingId;
+    private final boolean followed;
+
+    public FollowChangedEvent(Long followerId, Long followingId, boolean followed) {
+        super(followerId);
+        this.followerId = followerId;
+        this.followingId = followingId;
+        this.followed = followed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.itda.domain.user.event;
+
+import com.project.itda.domain.user.entity.User;
+import com.project.itda.domain.user.enums.UserStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 가입 이벤트 (일반 / 소셜 가입 → 관리자 실시간 목록)
+ * - 커밋 이후 처리되므로 엔티티 대신 필요한 값만 보관
+ */
+@Getter
+public class UserRegisteredEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final String username;
+    private final String email;
+    private final UserStatus status;
+    private final LocalDateTime createdAt;
+
+    public UserRegisteredEvent(User user) {
+        super(user.getUserId());
+        this.userId = user.getUserId();
+        this.username = user.getUsername();
+        this.email = user.getEmail();
+        this.status = user.getStatus();
+        this.createdAt = user.getCreatedAt() != null ? user.getCreatedAt() : LocalDateTime.now();
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.itda.domain.user.event;
+
+import com.project.itda.domain.user.enums.UserStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 회원 상태 변경 이벤트 (정지/탈퇴 등 → 인증 캐시 무효화)
+ */
+@Getter
+public class UserStatusChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final UserStatus status;
+
+    public UserStatusChangedEvent(Long userId, UserStatus status) {
+        super(userId);
+        this.userId = userId;
+        this.status = status;
+    }
+}
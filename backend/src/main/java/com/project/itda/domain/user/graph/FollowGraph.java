@@ -0,0 +1,238 @@
+package com.project.itda.domain.user.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로우 그래프 (메모리)
+ * - 사용자별 팔로잉(outgoing) / 팔로워(incoming) ID 를 정렬된 long[] 로 보관
+ * - 조회: 이진 탐색 / 정렬 배열 병합 → 락 없음 (배열은 교체만 하고 수정하지 않음)
+ * - 변경: 새 배열을 만들어 교체 (copy-on-write), 쓰기끼리는 synchronized
+ */
+public class FollowGraph {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, long[]> outgoing;
+    private final Map<Long, long[]> incoming;
+
+    public FollowGraph() {
+        this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private FollowGraph(Map<Long, long[]> outgoing, Map<Long, long[]> incoming) {
+        this.outgoing = outgoing;
+        this.incoming = incoming;
+    }
+
+    // ========== 조회 ==========
+
+    public boolean follows(long followerId, long followingId) {
+        return Arrays.binarySearch(following(followerId), followingId) >= 0;
+    }
+
+    public boolean isMutual(long userId, long otherId) {
+        return follows(userId, otherId) && follows(otherId, userId);
+    }
+
+    public int followingCount(long userId) {
+        return following(userId).length;
+    }
+
+    public int followerCount(long userId) {
+        return followers(userId).length;
+    }
+
+    /**
+     * 팔로잉 ID (정렬됨, 수정 금지)
+     */
+    public long[] following(long userId) {
+        return outgoing.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * 팔로워 ID (정렬됨, 수정 금지)
+     */
+    public long[] followers(long userId) {
+        return incoming.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * 후보 중 userId 가 팔로우하는 사용자 ID
+     */
+    public Set<Long> followedAmong(long userId, Collection<Long> candidateIds) {
+        long[] mine = following(userId);
+        if (mine.length == 0 || candidateIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> result = new HashSet<>();
+        for (Long candidate : candidateIds) {
+            if (candidate != null && Arrays.binarySearch(mine, candidate) >= 0) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 정렬된 후보 배열과 userId 팔로잉의 교집합 (예: 모임 참여자 중 내가 팔로우하는 사람)
+     * - 크기 차이가 크면 작은 쪽 기준 이진 탐색, 비슷하면 병합
+     */
+    public long[] intersectFollowing(long userId, long[] sortedCandidates) {
+        return intersect(following(userId), sortedCandidates);
+    }
+
+    public int userCount() {
+        Set<Long> users = new HashSet<>(outgoing.keySet());
+        users.addAll(incoming.keySet());
+        return users.size();
+    }
+
+    public long edgeCount() {
+        long edges = 0;
+        for (long[] targets : outgoing.values()) {
+            edges += targets.length;
+        }
+        return edges;
+    }
+
+    // ========== 변경 ==========
+
+    public synchronized void addEdge(long followerId, long followingId) {
+        outgoing.put(followerId, insert(following(followerId), followingId));
+        incoming.put(followingId, insert(followers(followingId), followerId));
+    }
+
+    public synchronized void removeEdge(long followerId, long followingId) {
+        replaceOrRemove(outgoing, followerId, remove(following(followerId), followingId));
+        replaceOrRemove(incoming, followingId, remove(followers(followingId), followerId));
+    }
+
+    // ========== 배열 연산 ==========
+
+    static long[] intersect(long[] a, long[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return EMPTY;
+        }
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = small == a ? b : a;
+
+        long[] out = new long[small.length];
+        int n = 0;
+        if ((long) small.length * 16 < large.length) {
+            for (long value : small) {
+                if (Arrays.binarySearch(large, value) >= 0) {
+                    out[n++] = value;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < small.length && j < large.length) {
+                if (small[i] < large[j]) {
+                    i++;
+                } else if (small[i] > large[j]) {
+                    j++;
+                } else {
+                    out[n++] = small[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static long[] insert(long[] sorted, long value) {
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos >= 0) {
+            return sorted;
+        }
+        int at = -pos - 1;
+        long[] next = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, next, 0, at);
+        next[at] = value;
+        System.arraycopy(sorted, at, next, at + 1, sorted.length - at);
+        return next;
+    }
+
+    private static long[] remove(long[] sorted, long value) {
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos < 0) {
+            return sorted;
+        }
+        long[] next = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, next, 0, pos);
+        System.arraycopy(sorted, pos + 1, next, pos, sorted.length - pos - 1);
+        return next;
+    }
+
+    private static void replaceOrRemove(Map<Long, long[]> adjacency, long userId, long[] next) {
+        if (next.length == 0) {
+            adjacency.remove(userId);
+        } else {
+            adjacency.put(userId, next);
+        }
+    }
+
+    // ========== 일괄 적재 ==========
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 시작 시 전체 적재용 (간선 추가 후 build 에서 한 번에 정렬/중복 제거)
+     */
+    public static class Builder {
+
+        private final Map<Long, LongBuffer> outgoing = new HashMap<>();
+        private final Map<Long, LongBuffer> incoming = new HashMap<>();
+
+        public Builder add(long followerId, long followingId) {
+            outgoing.computeIfAbsent(followerId, k -> new LongBuffer()).add(followingId);
+            incoming.computeIfAbsent(followingId, k -> new LongBuffer()).add(followerId);
+            return this;
+        }
+
+        public FollowGraph build() {
+            return new FollowGraph(freeze(outgoing), freeze(incoming));
+        }
+
+        private static Map<Long, long[]> freeze(Map<Long, LongBuffer> buffers) {
+            Map<Long, long[]> frozen = new ConcurrentHashMap<>(Math.max(16, buffers.size() * 4 / 3 + 1));
+            buffers.forEach((userId, buffer) -> frozen.put(userId, buffer.sortedDistinct()));
+            return frozen;
+        }
+    }
+
+    private static final class LongBuffer {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] sortedDistinct() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int n = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[n++] = sorted[i];
+                }
+            }
+            return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.itda.domain.user.graph;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class FollowGraphConfig {
+
+    /**
+     * 다른 인스턴스의 팔로우 변경 수신
+     */
+    @Bean
+    public RedisMessageListenerContainer followGraphListenerContainer(RedisConnectionFactory cf,
+                                                                     FollowGraphService followGraphService,
+                                                                     FollowGraphProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(followGraphService, new ChannelTopic(properties.getSyncChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.itda.domain.user.graph;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로우 그래프 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "follow-graph")
+@Getter
+@Setter
+public class FollowGraphProperties {
+
+    /**
+     * false 면 적재하지 않고 모든 조회를 DB 로 처리
+     */
+    private boolean enabled = true;
+
+    /**
+     * 적재 시 한 번에 읽는 user_follows 행 수 (id keyset)
+     */
+    private int loadPageSize = 50_000;
+
+    /**
+     * 인스턴스 간 변경 전파 채널 (Redis pub/sub)
+     */
+    private String syncChannel = "follow-graph:events";
+
+    /**
+     * 전체 재적재 주기 (전파 누락 복구)
+     */
+    private String reloadCron = "0 30 4 * * *";
+}
@@ -0,0 +1,244 @@
+package com.project.itda.domain.user.graph;
+
+import com.project.itda.domain.user.event.FollowChangedEvent;
+import com.project.itda.domain.user.repository.UserFollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ✅ 팔로우 그래프 서비스
+ * - 시작 시 user_follows 전체를 FollowGraph 로 적재 (비동기, 적재 전에는 DB 조회)
+ * - 커밋된 팔로우/언팔로우 이벤트 반영 + Redis pub/sub 로 다른 인스턴스에 전파
+ * - 매일 전체 재적재 (전파 누락 복구), 재적재 중 들어온 변경은 새 그래프에 다시 반영
+ * - 팔로우 여부 / 맞팔 / 수 / 교집합을 마이크로초 단위로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphService implements MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserFollowRepository userFollowRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FollowGraphProperties properties;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile FollowGraph graph;
+    private List<long[]> pendingDuringLoad;   // {followerId, followingId, 1|0}, this 로 동기화
+
+    // ========== 조회 (적재 전에는 DB) ==========
+
+    public boolean isReady() {
+        return graph != null;
+    }
+
+    public boolean follows(Long followerId, Long followingId) {
+        if (followerId == null || followingId == null) {
+            return false;
+        }
+        FollowGraph current = graph;
+        return current != null
+                ? current.follows(followerId, followingId)
+                : userFollowRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+    }
+
+    public boolean isMutual(Long userId, Long otherId) {
+        return follows(userId, otherId) && follows(otherId, userId);
+    }
+
+    public int followingCount(Long userId) {
+        FollowGraph current = graph;
+        return current != null ? current.followingCount(userId) : userFollowRepository.countByFollowerId(userId);
+    }
+
+    public int followerCount(Long userId) {
+        FollowGraph current = graph;
+        return current != null ? current.followerCount(userId) : userFollowRepository.countByFollowingId(userId);
+    }
+
+    /**
+     * userId 를 팔로우하는 사용자 ID (정렬됨) / 적재 전이면 null
+     */
+    public long[] followers(Long userId) {
+        FollowGraph current = graph;
+        return current != null ? current.followers(userId) : null;
+    }
+
+    /**
+     * 후보 중 viewerId 가 팔로우하는 사용자 ID (본인 제외)
+     */
+    public Set<Long> followedAmong(Long viewerId, Collection<Long> candidateIds) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return null;
+        }
+        if (viewerId == null || candidateIds == null || candidateIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> followed = new HashSet<>(current.followedAmong(viewerId, candidateIds));
+        followed.remove(viewerId);
+        return followed;
+    }
+
+    /**
+     * 참여자 등 사용자 ID 목록 중 viewerId 가 팔로우하는 사람 (입력 순서 유지)
+     */
+    public List<Long> friendsAmong(Long viewerId, List<Long> userIds) {
+        if (viewerId == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        FollowGraph current = graph;
+        if (current == null) {
+            Set<Long> followed = new HashSet<>(userFollowRepository.findFollowingIdsAmong(viewerId, userIds));
+            return userIds.stream().filter(followed::contains).toList();
+        }
+
+        long[] sorted = userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        long[] common = current.intersectFollowing(viewerId, sorted);
+        return userIds.stream()
+                .filter(id -> Arrays.binarySearch(common, id) >= 0)
+                .toList();
+    }
+
+    // ========== 적재 ==========
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(cron = "${follow-graph.reload-cron:0 30 4 * * *}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    public void reload() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            if (pendingDuringLoad != null) {
+                log.info("⏭️ 팔로우 그래프 적재 중 - 재적재 건너뜀");
+                return;
+            }
+            pendingDuringLoad = new ArrayList<>();
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            FollowGraph loaded = loadFromDatabase();
+            synchronized (this) {
+                for (long[] change : pendingDuringLoad) {
+                    applyTo(loaded, change[0], change[1], change[2] == 1);
+                }
+                graph = loaded;
+            }
+            log.info("✅ 팔로우 그래프 적재: users={}, edges={}, {}ms",
+                    loaded.userCount(), loaded.edgeCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("❌ 팔로우 그래프 적재 실패 (DB 조회로 동작): {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                pendingDuringLoad = null;
+            }
+        }
+    }
+
+    private FollowGraph loadFromDatabase() {
+        FollowGraph.Builder builder = FollowGraph.builder();
+        long lastId = 0;
+        while (true) {
+            long[] last = {lastId};
+            int[] rows = {0};
+            jdbcTemplate.query(
+                    "SELECT id, follower_id, following_id FROM user_follows WHERE id > ? ORDER BY id LIMIT ?",
+                    (RowCallbackHandler) rs -> {
+                        last[0] = rs.getLong(1);
+                        builder.add(rs.getLong(2), rs.getLong(3));
+                        rows[0]++;
+                    },
+                    lastId, properties.getLoadPageSize());
+            if (rows[0] < properties.getLoadPageSize()) {
+                return builder.build();
+            }
+            lastId = last[0];
+        }
+    }
+
+    // ========== 변경 반영 ==========
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        apply(event.getFollowerId(), event.getFollowingId(), event.isFollowed());
+        publish(event);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+        if (parts.length != 4 || instanceId.equals(parts[0])) {
+            return;
+        }
+        try {
+            apply(Long.parseLong(parts[1]), Long.parseLong(parts[2]), "1".equals(parts[3]));
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 팔로우 그래프 메시지 형식 오류: {}", Arrays.toString(parts));
+        }
+    }
+
+    private void apply(long followerId, long followingId, boolean followed) {
+        synchronized (this) {
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(new long[]{followerId, followingId, followed ? 1 : 0});
+            }
+        }
+        FollowGraph current = graph;
+        if (current != null) {
+            applyTo(current, followerId, followingId, followed);
+        }
+    }
+
+    private void applyTo(FollowGraph target, long followerId, long followingId, boolean followed) {
+        if (followed) {
+            target.addEdge(followerId, followingId);
+        } else {
+            target.removeEdge(followerId, followingId);
+        }
+    }
+
+    private void publish(FollowChangedEvent event) {
+        String message = String.join(SEPARATOR, instanceId,
+                String.valueOf(event.getFollowerId()), String.valueOf(event.getFollowingId()),
+                event.isFollowed() ? "1" : "0");
+        try {
+            stringRedisTemplate.convertAndSend(properties.getSyncChannel(), message);
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 다음 재적재 때 반영
+            log.warn("⚠️ 팔로우 그래프 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+}
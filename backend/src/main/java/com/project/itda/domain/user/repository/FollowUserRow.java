@@ -0,0 +1,15 @@
+package com.project.itda.domain.user.repository;
+
+/**
+ * 팔로워/팔로잉 목록 행 프로젝션 (User 엔티티 로딩 없음)
+ */
+public interface FollowUserRow {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getProfileImageUrl();
+
+    String getEmail();
+}
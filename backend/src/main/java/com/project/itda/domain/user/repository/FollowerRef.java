@@ -0,0 +1,11 @@
+package com.project.itda.domain.user.repository;
+
+/**
+ * 팔로워 ID 프로젝션 (대량 알림용, 엔티티 로딩 없음)
+ */
+public interface FollowerRef {
+
+    Long getFollowId();
+
+    Long getFollowerId();
+}
@@ -0,0 +1,23 @@
+package com.project.itda.domain.user.repository;
+
+import com.project.itda.domain.user.enums.SentimentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마이페이지용 내 후기 프로젝션 (모임 제목 포함, 엔티티 로딩 없음)
+ */
+public interface MyReviewRow {
+
+    Long getMeetingId();
+
+    String getMeetingTitle();
+
+    Integer getRating();
+
+    String getReviewText();
+
+    LocalDateTime getCreatedAt();
+
+    SentimentType getSentiment();
+}
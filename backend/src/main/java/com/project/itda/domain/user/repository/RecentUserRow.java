@@ -0,0 +1,21 @@
+package com.project.itda.domain.user.repository;
+
+import com.project.itda.domain.user.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 가입 회원 프로젝션 (관리자 대시보드, 엔티티 로딩 없음)
+ */
+public interface RecentUserRow {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getEmail();
+
+    LocalDateTime getCreatedAt();
+
+    UserStatus getStatus();
+}
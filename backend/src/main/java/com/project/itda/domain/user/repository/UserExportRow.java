@@ -0,0 +1,33 @@
+package com.project.itda.domain.user.repository;
+
+import com.project.itda.domain.user.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 회원 내보내기 프로젝션 (엔티티 로딩 없음 → 영속성 컨텍스트에 쌓이지 않음)
+ */
+public interface UserExportRow {
+
+    Long getUserId();
+
+    String getEmail();
+
+    String getUsername();
+
+    String getNickname();
+
+    String getPhone();
+
+    String getAddress();
+
+    UserStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getLastLoginAt();
+
+    Integer getMeetingCount();
+
+    Double getRating();
+}
@@ -2,12 +2,15 @@ package com.project.itda.domain.user.repository;
 
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.entity.UserFollow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +66,59 @@ public interface UserFollowRepository extends JpaRepository<UserFollow, Long> {
     @Query("SELECT uf FROM UserFollow uf WHERE uf.follower.userId = :followerId")
     List<UserFollow> findByFollowerId(@Param("followerId") Long followerId);
 
+    // 모임 참가 알림 대상 팔로워 ID (설정 OFF 제외, follow id 기준 keyset 페이징)
+    @Query("SELECT uf.id AS followId, uf.follower.userId AS followerId " +
+            "FROM UserFollow uf " +
+            "LEFT JOIN UserSetting us ON us.user.userId = uf.follower.userId " +
+            "WHERE uf.following.userId = :followingId " +
+            "AND uf.id > :lastId " +
+            "AND (us.followMeetingNotification IS NULL OR us.followMeetingNotification = true) " +
+            "ORDER BY uf.id ASC")
+    List<FollowerRef> findMeetingNotificationFollowersAfter(@Param("followingId") Long followingId,
+                                                           @Param("lastId") Long lastId,
+                                                           Pageable pageable);
+
+    // 팔로워 ID (follow id 기준 keyset 페이징, 피드 fan-out 용)
+    @Query("SELECT uf.id AS followId, uf.follower.userId AS followerId " +
+            "FROM UserFollow uf " +
+            "WHERE uf.following.userId = :followingId AND uf.id > :lastId " +
+            "ORDER BY uf.id ASC")
+    List<FollowerRef> findFollowersAfter(@Param("followingId") Long followingId,
+                                         @Param("lastId") Long lastId,
+                                         Pageable pageable);
+
+    // 팔로잉 목록 (상대 User 함께 로딩)
+    @Query("SELECT uf FROM UserFollow uf JOIN FETCH uf.following WHERE uf.follower.userId = :followerId")
+    List<UserFollow> findWithFollowingByFollowerId(@Param("followerId") Long followerId);
+
+    // 팔로워 목록 (상대 User 함께 로딩)
+    @Query("SELECT uf FROM UserFollow uf JOIN FETCH uf.follower WHERE uf.following.userId = :followingId")
+    List<UserFollow> findWithFollowerByFollowingId(@Param("followingId") Long followingId);
+
+    // 후보 중 followerId 가 팔로우하는 사용자 ID (목록의 "팔로우 중" 표시 일괄 조회)
+    @Query("SELECT uf.following.userId FROM UserFollow uf " +
+            "WHERE uf.follower.userId = :followerId AND uf.following.userId IN :candidateIds")
+    List<Long> findFollowingIdsAmong(@Param("followerId") Long followerId,
+                                     @Param("candidateIds") Collection<Long> candidateIds);
+
+    // 팔로잉 목록 페이지 (프로젝션, 최근 팔로우 순)
+    @Query(value = "SELECT u.userId AS userId, u.username AS username, " +
+            "u.profileImageUrl AS profileImageUrl, u.email AS email " +
+            "FROM UserFollow uf JOIN uf.following u " +
+            "WHERE uf.follower.userId = :followerId " +
+            "ORDER BY uf.id DESC",
+            countQuery = "SELECT COUNT(uf) FROM UserFollow uf WHERE uf.follower.userId = :followerId")
+    Page<FollowUserRow> findFollowingRows(@Param("followerId") Long followerId, Pageable pageable);
+
+    // 팔로워 목록 페이지 (프로젝션, 최근 팔로우 순)
+    @Query(value = "SELECT u.userId AS userId, u.username AS username, " +
+            "u.profileImageUrl AS profileImageUrl, u.email AS email " +
+            "FROM UserFollow uf JOIN uf.follower u " +
+            "WHERE uf.following.userId = :followingId " +
+            "ORDER BY uf.id DESC",
+            countQuery = "SELECT COUNT(uf) FROM UserFollow uf WHERE uf.following.userId = :followingId")
+    Page<FollowUserRow> findFollowerRows(@Param("followingId") Long followingId, Pageable pageable);
+
     // 팔로우 관계 삭제 - ID
     @Modifying
     @Query("DELETE FROM UserFollow uf WHERE uf.follower.userId = :followerId AND uf.following.userId = :followingId")
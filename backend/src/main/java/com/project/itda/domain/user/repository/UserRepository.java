@@ -1,16 +1,21 @@
 package com.project.itda.domain.user.repository;
 
 import com.project.itda.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -38,7 +43,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Long countByCreatedAtAfter(LocalDateTime date);
     Long countByCreatedAtBefore(LocalDateTime date);
 
+    // 최근 가입 회원 top-N (created_at 인덱스)
+    @Query("SELECT u.userId AS userId, u.username AS username, u.email AS email, " +
+            "u.createdAt AS createdAt, u.status AS status " +
+            "FROM User u ORDER BY u.createdAt DESC, u.userId DESC")
+    List<RecentUserRow> findRecentUsers(Pageable pageable);
+
     Page<User> findByUsernameContainingOrEmailContaining(String username, String email, Pageable pageable);
 
+    // 관리자 회원 내보내기 (목록 API 와 같은 검색 조건, MySQL 행 단위 스트리밍)
+    @Query("SELECT u.userId AS userId, u.email AS email, u.username AS username, u.nickname AS nickname, " +
+            "u.phone AS phone, u.address AS address, u.status AS status, u.createdAt AS createdAt, " +
+            "u.lastLoginAt AS lastLoginAt, u.meetingCount AS meetingCount, u.rating AS rating " +
+            "FROM User u " +
+            "WHERE (:search IS NULL OR u.username LIKE CONCAT('%', :search, '%') " +
+            "   OR u.email LIKE CONCAT('%', :search, '%')) " +
+            "ORDER BY u.createdAt DESC, u.userId DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserExportRow> streamForExport(@Param("search") String search);
+
     List<User> findByNicknameContainingOrEmailContaining(String nickname, String email);
-}
\ No newline at end of file
+
+    // 팔로워 수 원자적 증감 (0 미만 방지)
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = CASE WHEN u.followerCount + :delta < 0 THEN 0 " +
+            "ELSE u.followerCount + :delta END WHERE u.userId = :userId")
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 팔로잉 수 원자적 증감 (0 미만 방지)
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = CASE WHEN u.followingCount + :delta < 0 THEN 0 " +
+            "ELSE u.followingCount + :delta END WHERE u.userId = :userId")
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") int delta);
+}
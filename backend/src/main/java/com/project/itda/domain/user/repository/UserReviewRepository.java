@@ -2,6 +2,8 @@ package com.project.itda.domain.user.repository;
 
 import com.project.itda.domain.user.entity.UserReview; // ✅ 변경
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,12 @@ public interface UserReviewRepository extends JpaRepository<UserReview, Long> {
     boolean existsByUserUserIdAndMeetingMeetingId(Long userId, Long meetingId);
 
     List<UserReview> findByUserUserIdAndMeetingMeetingIdIn(Long userId, List<Long> meetingIds);
+
+    // 마이페이지 - 내 후기 + 모임 제목 (최신순)
+    @Query("SELECT m.meetingId AS meetingId, m.title AS meetingTitle, r.rating AS rating, " +
+            "r.reviewText AS reviewText, r.createdAt AS createdAt, r.sentiment AS sentiment " +
+            "FROM UserReview r JOIN r.meeting m " +
+            "WHERE r.user.userId = :userId " +
+            "ORDER BY r.createdAt DESC")
+    List<MyReviewRow> findMyReviewRows(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.project.itda.domain.user.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로워 / 팔로잉 수 정합성 배치 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "follow-counter")
+@Getter
+@Setter
+public class FollowCounterProperties {
+
+    /**
+     * 한 번의 UPDATE 로 다시 계산하는 user_id 범위 크기
+     */
+    private int reconcileBatchSize = 5_000;
+
+    /**
+     * 시작 시 한 번 정합성 배치 실행 (컬럼 추가 직후 기존 사용자 값 채움)
+     */
+    private boolean reconcileOnStartup = true;
+
+    /**
+     * 정합성 배치 주기 (증감 누락/동시성 오차 복구)
+     */
+    private String reconcileCron = "0 0 5 * * *";
+}
@@ -0,0 +1,102 @@
+package com.project.itda.domain.user.service;
+
+import com.project.itda.domain.user.entity.User;
+import com.project.itda.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ✅ 팔로워 / 팔로잉 수 (users.follower_count, users.following_count)
+ * - 팔로우/언팔로우 트랜잭션 안에서 원자적 증감 (UPDATE ... SET count = count + 1)
+ * - 시작 시 + 매일 user_follows 기준으로 다시 계산해 어긋난 행만 수정 (id 범위 단위)
+ * - 프로필 / 팔로우 요청 화면은 COUNT 없이 컬럼만 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowCounterService {
+
+    private static final String RECONCILE_SQL = """
+            UPDATE users u
+            LEFT JOIN (SELECT following_id AS uid, COUNT(*) AS cnt FROM user_follows
+                       WHERE following_id BETWEEN ? AND ? GROUP BY following_id) fr ON fr.uid = u.user_id
+            LEFT JOIN (SELECT follower_id AS uid, COUNT(*) AS cnt FROM user_follows
+                       WHERE follower_id BETWEEN ? AND ? GROUP BY follower_id) fg ON fg.uid = u.user_id
+            SET u.follower_count = COALESCE(fr.cnt, 0),
+                u.following_count = COALESCE(fg.cnt, 0)
+            WHERE u.user_id BETWEEN ? AND ?
+              AND (u.follower_count <> COALESCE(fr.cnt, 0) OR u.following_count <> COALESCE(fg.cnt, 0))
+            """;
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final FollowCounterProperties properties;
+
+    /**
+     * follower 가 following 을 팔로우함 (호출 측 트랜잭션 필수)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void followed(User follower, User following) {
+        apply(follower, following, 1);
+    }
+
+    /**
+     * follower 가 following 을 언팔로우함 (호출 측 트랜잭션 필수)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void unfollowed(User follower, User following) {
+        apply(follower, following, -1);
+    }
+
+    private void apply(User follower, User following, int delta) {
+        userRepository.addFollowingCount(follower.getUserId(), delta);
+        userRepository.addFollowerCount(following.getUserId(), delta);
+
+        // 같은 트랜잭션의 알림/응답이 최신 값을 쓰도록 영속 엔티티에도 반영
+        follower.applyFollowCountDelta(0, delta);
+        following.applyFollowCountDelta(delta, 0);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (properties.isReconcileOnStartup()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * ✅ 정합성 배치 - user_follows 기준으로 다시 계산
+     * - id 범위별 UPDATE (행 잠금 범위 제한), 값이 다른 행만 변경
+     * - 배치 도중 발생한 팔로우는 증감 쿼리가 반영하므로 다음 실행에서 수렴
+     */
+    @Scheduled(cron = "${follow-counter.reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(user_id) FROM users", Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        int batchSize = Math.max(1, properties.getReconcileBatchSize());
+        long start = System.currentTimeMillis();
+        int fixed = 0;
+        for (long from = 1; from <= maxId; from += batchSize) {
+            long to = from + batchSize - 1;
+            try {
+                fixed += jdbcTemplate.update(RECONCILE_SQL, from, to, from, to, from, to);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 팔로우 수 정합성 배치 실패: range={}~{}, error={}", from, to, e.getMessage());
+            }
+        }
+        log.info("🔢 팔로우 수 정합성 배치 완료: fixed={}, maxUserId={}, {}ms",
+                fixed, maxId, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.itda.domain.user.service;
+
+import com.project.itda.domain.user.graph.FollowGraphService;
+import com.project.itda.domain.user.repository.UserFollowRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ✅ "내가 이 사람들을 팔로우 중인가" 일괄 판정
+ * - 목록 한 페이지의 후보 ID 를 IN 쿼리 한 번으로 확인 (행마다 exists 쿼리 X)
+ * - 팔로우 그래프가 적재돼 있으면 메모리에서 판정, 아니면 IN 쿼리 (IN_CHUNK_SIZE 단위)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FollowRelationResolver {
+
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final UserFollowRepository userFollowRepository;
+    private final FollowGraphService followGraphService;
+
+    /**
+     * @return candidateIds 중 viewerId 가 팔로우하는 사용자 ID (viewer 없으면 빈 집합, 본인 제외)
+     */
+    public Set<Long> followedAmong(Long viewerId, Collection<Long> candidateIds) {
+        if (viewerId == null || candidateIds == null || candidateIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> inMemory = followGraphService.followedAmong(viewerId, candidateIds);
+        if (inMemory != null) {
+            return inMemory;
+        }
+
+        Set<Long> distinct = new LinkedHashSet<>(candidateIds);
+        distinct.remove(viewerId);
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> ids = new ArrayList<>(distinct);
+        Set<Long> followed = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            followed.addAll(userFollowRepository.findFollowingIdsAmong(viewerId, chunk));
+        }
+        return followed;
+    }
+}
@@ -1,13 +1,13 @@
 package com.project.itda.domain.user.service;
 
-import com.project.itda.domain.meeting.entity.Meeting;
-import com.project.itda.domain.participation.entity.Participation;
 import com.project.itda.domain.participation.enums.ParticipationStatus;
+import com.project.itda.domain.participation.repository.MyParticipationRow;
 import com.project.itda.domain.participation.repository.ParticipationRepository;
 import com.project.itda.domain.user.dto.response.MyMeetingResponse;
+import com.project.itda.domain.user.dto.response.MyPageResponse;
 import com.project.itda.domain.user.dto.response.MyReviewResponse;
 import com.project.itda.domain.user.dto.response.PendingReviewResponse;
-import com.project.itda.domain.user.entity.UserReview;
+import com.project.itda.domain.user.repository.MyReviewRow;
 import com.project.itda.domain.user.repository.UserReviewRepository;
 import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,10 +19,19 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * ✅ 마이페이지
+ * - 참여 + 모임 / 후기 + 모임 제목을 프로젝션으로 조회 (행마다 Meeting 지연 로딩 없음)
+ * - getMyPage: 모든 섹션을 쿼리 2번으로 조회 후 상태별로 메모리에서 분류
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -36,57 +45,59 @@ public class MyPageService {
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm");
 
+    private static final Set<ParticipationStatus> MY_PAGE_STATUSES = EnumSet.of(
+            ParticipationStatus.APPROVED, ParticipationStatus.PENDING, ParticipationStatus.COMPLETED);
+
     private void validateUserExists(Long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
     }
 
-    public List<PendingReviewResponse> getPendingReviews(Long userId, Long currentUserId) {
+    /**
+     * ✅ 마이페이지 전체 섹션 (참여 조회 1번 + 후기 조회 1번)
+     */
+    public MyPageResponse getMyPage(Long userId, Long currentUserId) {
         validateUserExists(userId);
 
-        List<Participation> completedParticipations =
-                participationRepository.findByUserIdAndStatus(userId, ParticipationStatus.COMPLETED);
-
-        if (completedParticipations.isEmpty()) {
-            return List.of();
+        Map<ParticipationStatus, List<MyParticipationRow>> byStatus = new EnumMap<>(ParticipationStatus.class);
+        for (MyParticipationRow row : participationRepository.findMyPageRows(userId, MY_PAGE_STATUSES)) {
+            byStatus.computeIfAbsent(row.getStatus(), s -> new ArrayList<>()).add(row);
         }
+        List<MyParticipationRow> completed = byStatus.getOrDefault(ParticipationStatus.COMPLETED, List.of());
 
-        List<Long> meetingIds = completedParticipations.stream()
-                .map(p -> p.getMeeting().getMeetingId())
-                .toList();
-
-        Set<Long> reviewedMeetingIds = userReviewRepository
-                .findByUserUserIdAndMeetingMeetingIdIn(userId, meetingIds)
-                .stream()
-                .map(r -> r.getMeeting().getMeetingId())
+        List<MyReviewRow> reviews = userReviewRepository.findMyReviewRows(userId);
+        Set<Long> reviewedMeetingIds = reviews.stream()
+                .map(MyReviewRow::getMeetingId)
                 .collect(Collectors.toSet());
 
-        return completedParticipations.stream()
-                .filter(p -> !reviewedMeetingIds.contains(p.getMeeting().getMeetingId()))
-                .map(p -> PendingReviewResponse.builder()
-                        .meetingId(p.getMeeting().getMeetingId())
-                        .meetingTitle(p.getMeeting().getTitle())
-                        .completedDate(p.getCompletedAt() != null
-                                ? p.getCompletedAt().format(DATE_FORMAT)
-                                : "")
-                        .build())
-                .toList();
+        log.debug("📋 마이페이지 조회: userId={}, participations={}, reviews={}",
+                userId, byStatus.values().stream().mapToInt(List::size).sum(), reviews.size());
+
+        return MyPageResponse.builder()
+                .pendingReviews(toPendingReviews(completed, reviewedMeetingIds))
+                .myReviews(reviews.stream().map(this::toMyReview).toList())
+                .ongoingMeetings(toOngoingMeetings(byStatus.getOrDefault(ParticipationStatus.APPROVED, List.of())))
+                .upcomingMeetings(toUpcomingMeetings(byStatus.getOrDefault(ParticipationStatus.PENDING, List.of())))
+                .completedMeetings(toCompletedMeetings(completed, reviewedMeetingIds))
+                .build();
     }
 
-    public List<MyReviewResponse> getMyReviews(Long userId, Long currentUserId) {
+    public List<PendingReviewResponse> getPendingReviews(Long userId, Long currentUserId) {
         validateUserExists(userId);
 
-        List<UserReview> reviews = userReviewRepository.findByUserUserIdOrderByCreatedAtDesc(userId);
+        List<MyParticipationRow> completed = findRows(userId, ParticipationStatus.COMPLETED);
+        if (completed.isEmpty()) {
+            return List.of();
+        }
+        return toPendingReviews(completed, reviewedMeetingIds(userId, completed));
+    }
 
-        return reviews.stream()
-                .map(r -> MyReviewResponse.builder()
-                        .meetingId(r.getMeeting().getMeetingId())
-                        .meetingTitle(r.getMeeting().getTitle())
-                        .rating(r.getRating())
-                        .content(r.getReviewText())
-                        .createdDate(r.getCreatedAt().format(DATE_FORMAT))
-                        .sentiment(r.getSentiment().name())
-                        .build())
+    public List<MyReviewResponse> getMyReviews(Long userId, Long currentUserId) {
+        validateUserExists(userId);
+
+        return userReviewRepository.findMyReviewRows(userId).stream()
+                .map(this::toMyReview)
                 .toList();
     }
 
@@ -97,28 +108,10 @@ public class MyPageService {
     public List<MyMeetingResponse> getOngoingMeetings(Long userId, Long currentUserId) {
         validateUserExists(userId);
 
-        List<Participation> approvedParticipations =
-                participationRepository.findByUserIdAndStatus(userId, ParticipationStatus.APPROVED);
+        List<MyParticipationRow> approved = findRows(userId, ParticipationStatus.APPROVED);
+        log.info("📋 진행 중인 모임 조회: userId={}, APPROVED count={}", userId, approved.size());
 
-        log.info("📋 진행 중인 모임 조회: userId={}, APPROVED count={}", userId, approvedParticipations.size());
-
-        return approvedParticipations.stream()
-                .map(p -> {
-                    Meeting m = p.getMeeting();
-                    return MyMeetingResponse.builder()
-                            .meetingId(m.getMeetingId())
-                            .chatRoomId(m.getChatRoom() != null ? m.getChatRoom().getId() : null)
-                            .meetingTitle(m.getTitle())
-                            .dateTime(m.getMeetingTime() != null
-                                    ? m.getMeetingTime().format(DATETIME_FORMAT)
-                                    : "미정")
-                            .location(m.getLocationName())
-                            .statusText("참여중")
-                            .averageRating(m.getAvgRating())
-                            .hasMyReview(false)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return toOngoingMeetings(approved);
     }
 
     /**
@@ -128,27 +121,10 @@ public class MyPageService {
     public List<MyMeetingResponse> getUpcomingMeetings(Long userId, Long currentUserId) {
         validateUserExists(userId);
 
-        List<Participation> pendingParticipations =
-                participationRepository.findByUserIdAndStatus(userId, ParticipationStatus.PENDING);
+        List<MyParticipationRow> pending = findRows(userId, ParticipationStatus.PENDING);
+        log.info("📋 진행 예정 모임 조회: userId={}, PENDING count={}", userId, pending.size());
 
-        log.info("📋 진행 예정 모임 조회: userId={}, PENDING count={}", userId, pendingParticipations.size());
-
-        return pendingParticipations.stream()
-                .map(p -> {
-                    Meeting m = p.getMeeting();
-                    return MyMeetingResponse.builder()
-                            .meetingId(m.getMeetingId())
-                            .meetingTitle(m.getTitle())
-                            .dateTime(m.getMeetingTime() != null
-                                    ? m.getMeetingTime().format(DATETIME_FORMAT)
-                                    : "미정")
-                            .location(m.getLocationName())
-                            .statusText("대기중")
-                            .averageRating(m.getAvgRating())
-                            .hasMyReview(false)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return toUpcomingMeetings(pending);
     }
 
     /**
@@ -158,45 +134,103 @@ public class MyPageService {
     public List<MyMeetingResponse> getCompletedMeetings(Long userId, Long currentUserId) {
         validateUserExists(userId);
 
-        List<Participation> completedParticipations =
-                participationRepository.findByUserIdAndStatus(userId, ParticipationStatus.COMPLETED);
+        List<MyParticipationRow> completed = findRows(userId, ParticipationStatus.COMPLETED);
+        log.info("📋 완료 모임 조회: userId={}, count={}", userId, completed.size());
 
-        log.info("📋 완료 모임 조회: userId={}, count={}", userId, completedParticipations.size());
-
-        if (completedParticipations.isEmpty()) {
+        if (completed.isEmpty()) {
             return List.of();
         }
+        return toCompletedMeetings(completed, reviewedMeetingIds(userId, completed));
+    }
 
-        List<Long> meetingIds = completedParticipations.stream()
-                .map(p -> p.getMeeting().getMeetingId())
-                .toList();
+    // ========== 조회 / 변환 ==========
+
+    private List<MyParticipationRow> findRows(Long userId, ParticipationStatus status) {
+        return participationRepository.findMyPageRows(userId, EnumSet.of(status));
+    }
 
-        Set<Long> reviewedMeetingIds = userReviewRepository
-                .findByUserUserIdAndMeetingMeetingIdIn(userId, meetingIds)
-                .stream()
+    private Set<Long> reviewedMeetingIds(Long userId, List<MyParticipationRow> rows) {
+        List<Long> meetingIds = rows.stream().map(MyParticipationRow::getMeetingId).toList();
+        return userReviewRepository.findByUserUserIdAndMeetingMeetingIdIn(userId, meetingIds).stream()
                 .map(r -> r.getMeeting().getMeetingId())
                 .collect(Collectors.toSet());
+    }
+
+    private List<PendingReviewResponse> toPendingReviews(List<MyParticipationRow> completed, Set<Long> reviewedMeetingIds) {
+        return completed.stream()
+                .filter(p -> !reviewedMeetingIds.contains(p.getMeetingId()))
+                .map(p -> PendingReviewResponse.builder()
+                        .meetingId(p.getMeetingId())
+                        .meetingTitle(p.getTitle())
+                        .completedDate(p.getCompletedAt() != null
+                                ? p.getCompletedAt().format(DATE_FORMAT)
+                                : "")
+                        .build())
+                .toList();
+    }
+
+    private MyReviewResponse toMyReview(MyReviewRow r) {
+        return MyReviewResponse.builder()
+                .meetingId(r.getMeetingId())
+                .meetingTitle(r.getMeetingTitle())
+                .rating(r.getRating())
+                .content(r.getReviewText())
+                .createdDate(r.getCreatedAt().format(DATE_FORMAT))
+                .sentiment(r.getSentiment().name())
+                .build();
+    }
+
+    private List<MyMeetingResponse> toOngoingMeetings(List<MyParticipationRow> approved) {
+        return approved.stream()
+                .map(p -> MyMeetingResponse.builder()
+                        .meetingId(p.getMeetingId())
+                        .chatRoomId(p.getChatRoomId())
+                        .meetingTitle(p.getTitle())
+                        .dateTime(format(p.getMeetingTime()))
+                        .location(p.getLocationName())
+                        .statusText("참여중")
+                        .averageRating(p.getAvgRating())
+                        .hasMyReview(false)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<MyMeetingResponse> toUpcomingMeetings(List<MyParticipationRow> pending) {
+        return pending.stream()
+                .map(p -> MyMeetingResponse.builder()
+                        .meetingId(p.getMeetingId())
+                        .meetingTitle(p.getTitle())
+                        .dateTime(format(p.getMeetingTime()))
+                        .location(p.getLocationName())
+                        .statusText("대기중")
+                        .averageRating(p.getAvgRating())
+                        .hasMyReview(false)
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-        return completedParticipations.stream()
+    private List<MyMeetingResponse> toCompletedMeetings(List<MyParticipationRow> completed, Set<Long> reviewedMeetingIds) {
+        return completed.stream()
                 .map(p -> {
-                    Meeting m = p.getMeeting();
                     LocalDateTime displayTime = p.getCompletedAt() != null
                             ? p.getCompletedAt()
-                            : m.getMeetingTime();
+                            : p.getMeetingTime();
 
                     return MyMeetingResponse.builder()
-                            .meetingId(m.getMeetingId())
-                            .chatRoomId(m.getChatRoom() != null ? m.getChatRoom().getId() : null)
-                            .meetingTitle(m.getTitle())
-                            .dateTime(displayTime != null
-                                    ? displayTime.format(DATETIME_FORMAT)
-                                    : "미정")
-                            .location(m.getLocationName())
+                            .meetingId(p.getMeetingId())
+                            .chatRoomId(p.getChatRoomId())
+                            .meetingTitle(p.getTitle())
+                            .dateTime(format(displayTime))
+                            .location(p.getLocationName())
                             .statusText("완료")
-                            .averageRating(m.getAvgRating())
-                            .hasMyReview(reviewedMeetingIds.contains(m.getMeetingId()))
+                            .averageRating(p.getAvgRating())
+                            .hasMyReview(reviewedMeetingIds.contains(p.getMeetingId()))
                             .build();
                 })
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private String format(LocalDateTime time) {
+        return time != null ? time.format(DATETIME_FORMAT) : "미정";
+    }
+}
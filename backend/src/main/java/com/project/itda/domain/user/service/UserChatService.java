@@ -6,9 +6,9 @@ import com.project.itda.domain.user.dto.response.UserChatRoomResponse;
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.entity.UserChatMessage;
 import com.project.itda.domain.user.entity.UserChatRoom;
+import com.project.itda.domain.user.graph.FollowGraphService;
 import com.project.itda.domain.user.repository.UserChatMessageRepository;
 import com.project.itda.domain.user.repository.UserChatRoomRepository;
-import com.project.itda.domain.user.repository.UserFollowRepository;
 import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,7 +32,7 @@ public class UserChatService {
     private final UserChatRoomRepository chatRoomRepository;
     private final UserChatMessageRepository messageRepository;
     private final UserRepository userRepository;
-    private final UserFollowRepository userFollowRepository;
+    private final FollowGraphService followGraphService;
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;  // ✅ 추가
 
@@ -50,10 +50,8 @@ public class UserChatService {
             return true;
         }
 
-        boolean iFollow = userFollowRepository.existsByFollowerIdAndFollowingId(senderId, receiverId);
-        boolean theyFollow = userFollowRepository.existsByFollowerIdAndFollowingId(receiverId, senderId);
-
-        return iFollow && theyFollow;
+        // ✅ 맞팔 여부는 팔로우 그래프 (메모리)
+        return followGraphService.isMutual(senderId, receiverId);
     }
 
     /**
@@ -6,11 +6,18 @@ import com.project.itda.domain.user.entity.FollowRequest;
 import com.project.itda.domain.user.dto.response.FollowUserResponse;
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.entity.UserFollow;
+import com.project.itda.domain.user.event.FollowChangedEvent;
+import com.project.itda.domain.user.graph.FollowGraphService;
 import com.project.itda.domain.user.repository.FollowRequestRepository;
+import com.project.itda.domain.user.repository.FollowUserRow;
 import com.project.itda.domain.user.repository.UserFollowRepository;
 import com.project.itda.domain.user.repository.UserRepository;
+import com.project.itda.global.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -20,6 +27,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,6 +41,10 @@ public class UserFollowService {
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;  // ✅ 추가
+    private final FollowRelationResolver followRelationResolver;
+    private final FollowGraphService followGraphService;
+    private final FollowCounterService followCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ✅ 팔로우하기 (공개 계정만)
@@ -64,6 +76,8 @@ public class UserFollowService {
                 .build();
 
         userFollowRepository.save(userFollow);
+        followCounterService.followed(follower, following);
+        eventPublisher.publishEvent(new FollowChangedEvent(userId, targetUserId, true));
         log.info("✅ 팔로우 성공: {} -> {}", follower.getUserId(), following.getUserId());
 
         // ✅ 팔로우 알림 전송 (웹소켓)
@@ -105,6 +119,8 @@ public class UserFollowService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "팔로우 관계가 없습니다."));
 
         userFollowRepository.delete(userFollow);
+        followCounterService.unfollowed(follower, following);
+        eventPublisher.publishEvent(new FollowChangedEvent(userId, targetUserId, false));
         log.info("✅ 언팔로우 성공: {} -> {}", follower.getUserId(), following.getUserId());
 
         // ✅ 언팔로우 알림 전송 (숫자 업데이트)
@@ -213,6 +229,8 @@ public class UserFollowService {
                 .following(target)
                 .build();
         userFollowRepository.save(userFollow);
+        followCounterService.followed(requester, target);
+        eventPublisher.publishEvent(new FollowChangedEvent(requesterId, userId, true));
 
         log.info("✅ 팔로우 요청 수락: {} -> {}", requester.getUserId(), target.getUserId());
 
@@ -324,8 +342,8 @@ public class UserFollowService {
      */
     private void sendFollowNotification(User follower, User following, boolean isFollow) {
         try {
-            int followingFollowerCount = (int) userFollowRepository.countByFollowing(following);
-            int followerFollowingCount = (int) userFollowRepository.countByFollower(follower);
+            int followingFollowerCount = following.getFollowerCount();
+            int followerFollowingCount = follower.getFollowingCount();
 
             if (isFollow) {
                 FollowNotificationDto notification = FollowNotificationDto.follow(
@@ -363,71 +381,86 @@ public class UserFollowService {
 
     /**
      * ✅ 팔로잉 목록 조회
+     * - 상대 User 는 fetch join, "팔로우 중" 여부는 FollowRelationResolver 로 일괄 조회
      */
     public List<FollowUserResponse> getFollowingList(Long userId, Long currentUserId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-
-        User currentUser = currentUserId != null
-                ? userRepository.findById(currentUserId).orElse(null)
-                : null;
-
-        return userFollowRepository.findByFollower(user).stream()
-                .map(follow -> {
-                    User targetUser = follow.getFollowing();
-                    boolean isFollowingTarget = false;
-
-                    if (currentUser != null && !currentUser.getUserId().equals(targetUser.getUserId())) {
-                        isFollowingTarget = userFollowRepository.existsByFollowerAndFollowing(currentUser, targetUser);
-                    }
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
 
-                    return FollowUserResponse.from(targetUser, isFollowingTarget);
-                })
-                .collect(Collectors.toList());
+        List<User> targets = userFollowRepository.findWithFollowingByFollowerId(userId).stream()
+                .map(UserFollow::getFollowing)
+                .toList();
+        return toFollowUserResponses(targets, currentUserId);
     }
 
     /**
      * ✅ 팔로워 목록 조회
      */
     public List<FollowUserResponse> getFollowerList(Long userId, Long currentUserId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
 
-        User currentUser = currentUserId != null
-                ? userRepository.findById(currentUserId).orElse(null)
-                : null;
+        List<User> targets = userFollowRepository.findWithFollowerByFollowingId(userId).stream()
+                .map(UserFollow::getFollower)
+                .toList();
+        return toFollowUserResponses(targets, currentUserId);
+    }
+
+    /**
+     * ✅ 팔로잉 목록 페이지 (프로젝션 + 일괄 팔로우 여부)
+     */
+    public PageResponse<FollowUserResponse> getFollowingPage(Long userId, Long currentUserId, int page, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+        Page<FollowUserRow> rows = userFollowRepository.findFollowingRows(userId, PageRequest.of(page, size));
+        return toFollowUserPage(rows, currentUserId);
+    }
 
-        return userFollowRepository.findByFollowing(user).stream()
-                .map(follow -> {
-                    User targetUser = follow.getFollower();
-                    boolean isFollowingTarget = false;
+    /**
+     * ✅ 팔로워 목록 페이지 (프로젝션 + 일괄 팔로우 여부)
+     */
+    public PageResponse<FollowUserResponse> getFollowerPage(Long userId, Long currentUserId, int page, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+        Page<FollowUserRow> rows = userFollowRepository.findFollowerRows(userId, PageRequest.of(page, size));
+        return toFollowUserPage(rows, currentUserId);
+    }
 
-                    if (currentUser != null && !currentUser.getUserId().equals(targetUser.getUserId())) {
-                        isFollowingTarget = userFollowRepository.existsByFollowerAndFollowing(currentUser, targetUser);
-                    }
+    private List<FollowUserResponse> toFollowUserResponses(List<User> targets, Long currentUserId) {
+        Set<Long> followed = followRelationResolver.followedAmong(
+                currentUserId, targets.stream().map(User::getUserId).toList());
 
-                    return FollowUserResponse.from(targetUser, isFollowingTarget);
-                })
+        return targets.stream()
+                .map(target -> FollowUserResponse.from(target, followed.contains(target.getUserId())))
                 .collect(Collectors.toList());
     }
 
+    private PageResponse<FollowUserResponse> toFollowUserPage(Page<FollowUserRow> rows, Long currentUserId) {
+        Set<Long> followed = followRelationResolver.followedAmong(
+                currentUserId, rows.getContent().stream().map(FollowUserRow::getUserId).toList());
+
+        return PageResponse.of(rows.map(row -> FollowUserResponse.from(row, followed.contains(row.getUserId()))));
+    }
+
     public boolean isFollowing(Long userId, Long targetUserId) {
-        User follower = userRepository.findById(userId).orElse(null);
-        User following = userRepository.findById(targetUserId).orElse(null);
-        if (follower == null || following == null) return false;
-        return userFollowRepository.existsByFollowerAndFollowing(follower, following);
+        return followGraphService.follows(userId, targetUserId);
     }
 
     public int getFollowingCount(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-        return (int) userFollowRepository.countByFollower(user);
+        return findUser(userId).getFollowingCount();
     }
 
     public int getFollowerCount(Long userId) {
-        User user = userRepository.findById(userId)
+        return findUser(userId).getFollowerCount();
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-        return (int) userFollowRepository.countByFollowing(user);
     }
 
     public void notifyProfileUpdate(Long userId) {
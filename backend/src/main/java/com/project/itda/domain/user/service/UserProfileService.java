@@ -4,14 +4,17 @@ import com.project.itda.domain.user.dto.response.FollowUserResponse;
 import com.project.itda.domain.user.dto.response.UserProfileResponse;
 import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.entity.UserFollow;
+import com.project.itda.domain.user.event.FollowChangedEvent;
 import com.project.itda.domain.user.repository.UserFollowRepository;
 import com.project.itda.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,14 +25,14 @@ public class UserProfileService {
 
     private final UserRepository userRepository;
     private final UserFollowRepository userFollowRepository;
+    private final FollowRelationResolver followRelationResolver;
+    private final FollowCounterService followCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserProfileResponse getUserProfile(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        Long followingCount = userFollowRepository.countByFollower(user);
-        Long followerCount = userFollowRepository.countByFollowing(user);
-
         Long participatedMeetingsCount = 0L;
         Long badgesCount = 0L;
         Double averageRating = 0.0;
@@ -47,8 +50,8 @@ public class UserProfileService {
                 .address(user.getAddress())
                 .interests(user.getInterests())
                 .isPublic(user.getIsPublic())
-                .followerCount(followerCount.intValue())
-                .followingCount(followingCount.intValue())
+                .followerCount(user.getFollowerCount())
+                .followingCount(user.getFollowingCount())
                 .build();
     }
 
@@ -74,6 +77,8 @@ public class UserProfileService {
                 .build();
 
         userFollowRepository.save(userFollow);
+        followCounterService.followed(follower, following);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followingId, true));
         log.info("팔로우 완료: follower={}, following={}", followerId, followingId);
     }
 
@@ -89,52 +94,49 @@ public class UserProfileService {
                 .orElseThrow(() -> new IllegalArgumentException("팔로우 관계가 없습니다"));
 
         userFollowRepository.delete(userFollow);
+        followCounterService.unfollowed(follower, following);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, followingId, false));
         log.info("언팔로우 완료: follower={}, following={}", followerId, followingId);
     }
 
     public List<FollowUserResponse> getFollowingList(Long userId, Long currentUserId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        validateUsers(userId, currentUserId);
 
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new IllegalArgumentException("현재 사용자를 찾을 수 없습니다"));
-
-        List<UserFollow> followingList = userFollowRepository.findByFollower(user);
-
-        return followingList.stream()
-                .map(uf -> {
-                    User followingUser = uf.getFollowing();
-                    boolean isFollowing = userFollowRepository.existsByFollowerAndFollowing(currentUser, followingUser);
-                    return FollowUserResponse.builder()
-                            .userId(followingUser.getUserId())
-                            .username(followingUser.getUsername())
-                            .email(followingUser.getEmail())
-                            .isFollowing(isFollowing)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<User> followingUsers = userFollowRepository.findWithFollowingByFollowerId(userId).stream()
+                .map(UserFollow::getFollowing)
+                .toList();
+        return toFollowUserResponses(followingUsers, currentUserId);
     }
 
     public List<FollowUserResponse> getFollowerList(Long userId, Long currentUserId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        validateUsers(userId, currentUserId);
+
+        List<User> followerUsers = userFollowRepository.findWithFollowerByFollowingId(userId).stream()
+                .map(UserFollow::getFollower)
+                .toList();
+        return toFollowUserResponses(followerUsers, currentUserId);
+    }
+
+    private void validateUsers(Long userId, Long currentUserId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+        if (currentUserId == null || !userRepository.existsById(currentUserId)) {
+            throw new IllegalArgumentException("현재 사용자를 찾을 수 없습니다");
+        }
+    }
 
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new IllegalArgumentException("현재 사용자를 찾을 수 없습니다"));
-
-        List<UserFollow> followerList = userFollowRepository.findByFollowing(user);
-
-        return followerList.stream()
-                .map(uf -> {
-                    User followerUser = uf.getFollower();
-                    boolean isFollowing = userFollowRepository.existsByFollowerAndFollowing(currentUser, followerUser);
-                    return FollowUserResponse.builder()
-                            .userId(followerUser.getUserId())
-                            .username(followerUser.getUsername())
-                            .email(followerUser.getEmail())
-                            .isFollowing(isFollowing)
-                            .build();
-                })
+    private List<FollowUserResponse> toFollowUserResponses(List<User> users, Long currentUserId) {
+        Set<Long> followed = followRelationResolver.followedAmong(
+                currentUserId, users.stream().map(User::getUserId).toList());
+
+        return users.stream()
+                .map(u -> FollowUserResponse.builder()
+                        .userId(u.getUserId())
+                        .username(u.getUsername())
+                        .email(u.getEmail())
+                        .isFollowing(followed.contains(u.getUserId()))
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -13,6 +13,8 @@ import com.project.itda.domain.user.entity.User;
 import com.project.itda.domain.user.entity.UserPreference;
 import com.project.itda.domain.user.entity.UserSetting;
 import com.project.itda.domain.user.enums.*;
+import com.project.itda.domain.user.event.UserRegisteredEvent;
+import com.project.itda.domain.user.event.UserStatusChangedEvent;
 import com.project.itda.domain.user.repository.UserPreferenceRepository;
 import com.project.itda.domain.user.repository.UserRepository;
 import com.project.itda.domain.user.repository.UserSettingRepository;
@@ -20,6 +22,7 @@ import com.project.itda.global.service.GeocodingService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,6 +46,7 @@ public class UserService {
     private final ReviewRepository reviewRepository;
     private final UserFollowService userFollowService;
     private final ObjectMapper objectMapper;  // ✅ 추가
+    private final ApplicationEventPublisher eventPublisher;
 
     // ✅ interests 매핑 테이블
     private static final Map<String, String> INTEREST_MAPPING = Map.ofEntries(
@@ -86,6 +90,7 @@ public class UserService {
                 .build();
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(user));
         log.info("✅ 회원가입 완료: userId={}, lat={}, lng={}",
                 user.getUserId(), user.getLatitude(), user.getLongitude());
 
@@ -190,6 +195,7 @@ public class UserService {
 
         user.softDelete();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId, user.getStatus()));
         log.info("✅ 계정 삭제 완료: userId={}", userId);
     }
 
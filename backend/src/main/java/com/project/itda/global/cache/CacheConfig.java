@@ -1,24 +1,35 @@
 package com.project.itda.global.cache;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     @Bean
-    public RedisCacheConfiguration redisCacheConfiguration() {
+    public RedisCacheConfiguration redisCacheConfiguration(LayeredCacheProperties properties) {
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofSeconds(60)) // ✅ TTL 60초
+                .entryTtl(properties.getDefaults().getL2Ttl()) // ✅ 기본 L2 TTL
                 .disableCachingNullValues()
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
@@ -27,12 +38,64 @@ public class CacheConfig {
                 );
     }
 
+    /**
+     * ✅ L1(Caffeine) + L2(Redis) 2단계 캐시
+     * - 캐시별 TTL / 값 타입은 cache.specs 설정
+     * - 값 타입이 지정된 캐시는 클래스명 없는 JSON 으로 L2 저장
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory cf,
-                                          RedisCacheConfiguration config) {
-        return RedisCacheManager.builder(cf)
+    public LayeredCacheManager cacheManager(RedisConnectionFactory cf,
+                                            RedisCacheConfiguration config,
+                                            LayeredCacheProperties properties,
+                                            StringRedisTemplate stringRedisTemplate) {
+        ObjectMapper mapper = cacheObjectMapper();
+
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        properties.getSpecs().keySet().forEach(name -> {
+            LayeredCacheProperties.Spec spec = properties.specOf(name);
+            RedisCacheConfiguration cacheConfig = config.entryTtl(spec.getL2Ttl());
+            if (spec.getValueType() != null) {
+                cacheConfig = cacheConfig.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(typedSerializer(mapper, spec.getValueType())));
+            }
+            perCache.put(name, cacheConfig);
+        });
+
+        RedisCacheManager remote = RedisCacheManager.builder(
+                        RedisCacheWriter.nonLockingRedisCacheWriter(cf, BatchStrategies.scan(1000)))
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(perCache)
                 .build();
+        remote.initializeCaches();
+
+        CacheInvalidationPublisher publisher =
+                new CacheInvalidationPublisher(stringRedisTemplate, properties.getInvalidationChannel());
+        return new LayeredCacheManager(remote, properties, publisher);
     }
 
-}
\ No newline at end of file
+    /**
+     * 다른 인스턴스의 L1 무효화 메시지 수신
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory cf,
+                                                                           LayeredCacheManager cacheManager,
+                                                                           LayeredCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(cacheManager, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+
+    private ObjectMapper cacheObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return mapper;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Jackson2JsonRedisSerializer<Object> typedSerializer(ObjectMapper mapper, Class<?> type) {
+        return new Jackson2JsonRedisSerializer<>(mapper, (Class<Object>) type);
+    }
+}
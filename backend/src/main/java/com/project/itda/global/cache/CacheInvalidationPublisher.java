@@ -0,0 +1,47 @@
+package com.project.itda.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 무효화 메시지 발행 (Redis pub/sub)
+ * - 메시지: "{발행 인스턴스}|{캐시 이름}|{키}" (키 생략 시 캐시 전체)
+ * - 자기 인스턴스가 보낸 메시지는 수신 측에서 무시
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public void publish(String cacheName, Object key) {
+        String message = instanceId + SEPARATOR + cacheName + SEPARATOR + (key != null ? String.valueOf(key) : "");
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 인스턴스는 L1 TTL 로 수렴
+            log.warn("⚠️ 캐시 무효화 발행 실패: cache={}, error={}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * @return [캐시 이름, 키(없으면 null)] / 자기 메시지거나 형식 오류면 null
+     */
+    String[] parse(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return null;
+        }
+        return new String[]{parts[1], parts[2].isEmpty() ? null : parts[2]};
+    }
+}
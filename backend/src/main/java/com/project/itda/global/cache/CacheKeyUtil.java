@@ -1,5 +1,6 @@
 package com.project.itda.global.cache;
 
+import com.project.itda.domain.meeting.dto.request.MeetingSearchRequest;
 import org.springframework.stereotype.Component;
 
 import java.security.MessageDigest;
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component("cacheKeyUtil")
 public class CacheKeyUtil {
@@ -23,6 +25,22 @@ public class CacheKeyUtil {
         return "match:" + userId + ":" + hash;
     }
 
+    /**
+     * 모임 검색 조건 → 캐시 키 (조건 전체 해시)
+     */
+    public String searchKey(MeetingSearchRequest request) {
+        String joined = Stream.of(
+                        request.getKeyword(), request.getCategory(), request.getSubcategory(),
+                        request.getStartDate(), request.getEndDate(),
+                        request.getLatitude(), request.getLongitude(), request.getRadius(),
+                        request.getLocationType(), request.getVibe(), request.getTimeSlot(), request.getStatus(),
+                        request.getPage(), request.getSize(), request.getSortBy(), request.getSortDirection())
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+
+        return "search:" + sha256Hex(joined).substring(0, 32);
+    }
+
     private String sha256Hex(String s) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
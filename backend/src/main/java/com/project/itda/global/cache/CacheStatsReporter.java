@@ -0,0 +1,47 @@
+package com.project.itda.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 캐시 통계 주기 로그 (5분)
+ * - 직전 보고 이후 구간 값으로 요청 수/적중률/로딩 시간 출력 → TTL·크기 조정 근거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheStatsReporter {
+
+    private final LayeredCacheManager cacheManager;
+
+    private final Map<String, CacheStatsSnapshot> previous = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000)
+    public void report() {
+        for (CacheStatsSnapshot current : cacheManager.getStats()) {
+            CacheStatsSnapshot last = previous.put(current.getName(), current);
+
+            long l1Hits = current.getL1Hits() - (last != null ? last.getL1Hits() : 0);
+            long l2Hits = current.getL2Hits() - (last != null ? last.getL2Hits() : 0);
+            long misses = current.getMisses() - (last != null ? last.getMisses() : 0);
+            long loads = current.getLoads() - (last != null ? last.getLoads() : 0);
+            long loadMillis = current.getTotalLoadMillis() - (last != null ? last.getTotalLoadMillis() : 0);
+            long requests = l1Hits + l2Hits + misses;
+            if (requests == 0) {
+                continue;
+            }
+
+            log.info("📊 캐시 [{}] 요청 {}건, 적중률 {}% (L1 {}건, L2 {}건), 미스 {}건, 로딩 {}건 평균 {}ms, L1 항목 {}개, L1 제거 누적 {}건",
+                    current.getName(), requests,
+                    String.format("%.1f", (l1Hits + l2Hits) * 100.0 / requests),
+                    l1Hits, l2Hits, misses,
+                    loads, loads == 0 ? 0 : loadMillis / loads,
+                    current.getL1Size(), current.getL1Evictions());
+        }
+    }
+}
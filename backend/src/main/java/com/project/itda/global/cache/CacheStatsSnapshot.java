@@ -0,0 +1,45 @@
+package com.project.itda.global.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캐시 통계 스냅샷 (애플리케이션 시작 이후 누적)
+ */
+@Getter
+@Builder
+public class CacheStatsSnapshot {
+
+    private String name;
+    private long l1Hits;
+    private long l2Hits;
+    private long misses;
+    private long loads;
+    private long loadFailures;
+    private long sharedLoads;       // single-flight 로 다른 로딩 결과를 기다린 횟수
+    private long totalLoadMillis;
+    private long puts;
+    private long evictions;         // 명시적 evict/clear
+    private long l1Evictions;       // L1 크기/TTL 제거
+    private long l2Errors;
+    private long l1Size;
+
+    public long getRequests() {
+        return l1Hits + l2Hits + misses;
+    }
+
+    public double getHitRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0.0 : (double) (l1Hits + l2Hits) / requests;
+    }
+
+    public double getL1HitRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0.0 : (double) l1Hits / requests;
+    }
+
+    public double getAvgLoadMillis() {
+        long total = loads + loadFailures;
+        return total == 0 ? 0.0 : (double) totalLoadMillis / total;
+    }
+}
@@ -0,0 +1,236 @@
+package com.project.itda.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 2단계 캐시 (L1 Caffeine + L2 Redis)
+ * - 조회: L1 → L2 (L2 적중 시 L1 채움)
+ * - 저장/삭제: L2 반영 후 L1 갱신 + 다른 인스턴스에 L1 무효화 전파
+ * - get(key, loader): 같은 키 동시 미스는 한 번만 계산 (single-flight, @Cacheable(sync = true))
+ * - null 값은 캐시하지 않음
+ * - L1/L2 적중, 미스, 로딩 시간, 무효화 횟수 누적 (stats)
+ */
+@Slf4j
+public class LayeredCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder sharedLoads = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder l2Errors = new LongAdder();
+
+    public LayeredCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        Cache remote,
+                        CacheInvalidationPublisher invalidationPublisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = lookup(key);
+        return value != null ? new SimpleValueWrapper(value) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Object value = lookup(key);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " / " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            sharedLoads.increment();
+            return (T) join(running, key);
+        }
+
+        long start = System.nanoTime();
+        try {
+            // 대기 중 다른 로딩이 끝났을 수 있으므로 L1 재확인
+            Object value = local.getIfPresent(localKey(key));
+            if (value == null) {
+                value = valueLoader.call();
+                loads.increment();
+                loadNanos.add(System.nanoTime() - start);
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            mine.complete(value);
+            return (T) value;
+        } catch (Exception e) {
+            loadFailures.increment();
+            loadNanos.add(System.nanoTime() - start);
+            mine.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        puts.increment();
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.warn("⚠️ L2 캐시 저장 실패: cache={}, error={}", name, e.getMessage());
+        }
+        local.put(localKey(key), value);
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.increment();
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void clear() {
+        evictions.increment();
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * 다른 인스턴스 변경 수신 → L1 만 제거 (L2 는 이미 반영됨)
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                l2Hits.increment();
+                local.put(localKey, wrapper.get());
+                return wrapper.get();
+            }
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            // Redis 장애 시 미스로 처리 (원본에서 계산)
+            log.warn("⚠️ L2 캐시 조회 실패: cache={}, error={}", name, e.getMessage());
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 누적 통계 스냅샷
+     */
+    public CacheStatsSnapshot stats() {
+        com.github.benmanes.caffeine.cache.stats.CacheStats l1 = local.stats();
+        return CacheStatsSnapshot.builder()
+                .name(name)
+                .l1Hits(l1Hits.sum())
+                .l2Hits(l2Hits.sum())
+                .misses(misses.sum())
+                .loads(loads.sum())
+                .loadFailures(loadFailures.sum())
+                .sharedLoads(sharedLoads.sum())
+                .totalLoadMillis(TimeUnit.NANOSECONDS.toMillis(loadNanos.sum()))
+                .puts(puts.sum())
+                .evictions(evictions.sum())
+                .l1Evictions(l1.evictionCount())
+                .l2Errors(l2Errors.sum())
+                .l1Size(local.estimatedSize())
+                .build();
+    }
+
+    /**
+     * L1 키는 문자열 (pub/sub 메시지의 키와 그대로 비교)
+     */
+    private String localKey(Object key) {
+        return key instanceof String s ? s : String.valueOf(key);
+    }
+
+    private Object join(CompletableFuture<Object> running, Object key) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("캐시 로딩 실패: cache=" + name + ", key=" + key, cause);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.itda.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 2단계 캐시 매니저
+ * - 캐시 이름별로 L1(Caffeine, W-TinyLFU) + L2(RedisCacheManager 의 캐시)를 묶어 LayeredCache 생성
+ * - 다른 인스턴스의 무효화 메시지를 받아 해당 L1 항목 제거 (MessageListener)
+ */
+@Slf4j
+public class LayeredCacheManager implements CacheManager, MessageListener {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final LayeredCacheProperties properties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Map<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(RedisCacheManager remoteCacheManager,
+                               LayeredCacheProperties properties,
+                               CacheInvalidationPublisher invalidationPublisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 생성된 모든 캐시 통계 (이름순)
+     */
+    public List<CacheStatsSnapshot> getStats() {
+        return caches.values().stream()
+                .map(LayeredCache::stats)
+                .sorted(Comparator.comparing(CacheStatsSnapshot::getName))
+                .toList();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parsed = invalidationPublisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (parsed == null) {
+            return;
+        }
+        LayeredCache cache = caches.get(parsed[0]);
+        if (cache != null) {
+            cache.invalidateLocal(parsed[1]);
+        }
+    }
+
+    private LayeredCache createCache(String name) {
+        LayeredCacheProperties.Spec spec = properties.specOf(name);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, spec.getL1MaxSize()))
+                .expireAfterWrite(spec.getL1Ttl())
+                .recordStats()
+                .build();
+
+        Cache remote = remoteCacheManager.getCache(name);
+        log.info("🗂️ 캐시 생성: name={}, l1MaxSize={}, l1Ttl={}, l2Ttl={}",
+                name, spec.getL1MaxSize(), spec.getL1Ttl(), spec.getL2Ttl());
+        return new LayeredCache(name, local, remote, invalidationPublisher);
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.itda.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 설정 (L1 로컬 + L2 Redis)
+ * - defaults: 캐시별 설정이 없을 때 사용
+ * - specs: 캐시 이름별 설정 (지정하지 않은 항목은 defaults 값)
+ */
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class LayeredCacheProperties {
+
+    /**
+     * 다른 인스턴스 L1 무효화용 Redis pub/sub 채널
+     */
+    private String invalidationChannel = "cache:invalidation";
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> specs = new HashMap<>();
+
+    public Spec specOf(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        Spec merged = new Spec();
+        merged.setL1MaxSize(spec.getL1MaxSize() != null ? spec.getL1MaxSize() : defaults.getL1MaxSize());
+        merged.setL1Ttl(spec.getL1Ttl() != null ? spec.getL1Ttl() : defaults.getL1Ttl());
+        merged.setL2Ttl(spec.getL2Ttl() != null ? spec.getL2Ttl() : defaults.getL2Ttl());
+        merged.setValueType(spec.getValueType());
+        return merged;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * L1 최대 항목 수 (0 이면 L1 사용 안 함)
+         */
+        private Long l1MaxSize = 1000L;
+
+        /**
+         * L1 TTL (L2 보다 짧게 → 다른 인스턴스 변경이 늦게 반영되는 구간 제한)
+         */
+        private Duration l1Ttl = Duration.ofSeconds(30);
+
+        /**
+         * L2(Redis) TTL
+         */
+        private Duration l2Ttl = Duration.ofSeconds(60);
+
+        /**
+         * 값 타입 (지정 시 클래스명 없이 JSON 저장, 미지정 시 타입 정보 포함 JSON)
+         */
+        private Class<?> valueType;
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.itda.global.config;
 
 import com.project.itda.domain.ai.config.AIServiceConfig;
+import com.project.itda.global.metrics.ClientRequestMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,11 +16,15 @@ public class RestTemplateConfig {
     private AIServiceConfig aiServiceConfig;
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(MeterRegistry meterRegistry) {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(aiServiceConfig.getTimeout());
         factory.setReadTimeout(aiServiceConfig.getTimeout());
 
-        return new RestTemplate(factory);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        // ✅ FastAPI/외부 호출 타이머 (엔드포인트 · 결과별)
+        restTemplate.getInterceptors().add(
+                new ClientRequestMetricsInterceptor(meterRegistry, aiServiceConfig.getUrl()));
+        return restTemplate;
     }
 }
\ No newline at end of file
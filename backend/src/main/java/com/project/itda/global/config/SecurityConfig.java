@@ -4,6 +4,7 @@ import com.project.itda.global.security.SessionAuthenticationFilter;
 import com.project.itda.domain.auth.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,6 +14,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -28,6 +31,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final SessionAuthenticationFilter sessionAuthenticationFilter;
+    private final ManagementServerProperties managementServerProperties;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -46,6 +50,8 @@ public class SecurityConfig {
                         .requestMatchers("/","/ai/**", "/api/**", "/login/**", "/oauth2/**", "/error").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/uploads/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll() // ✅ 헬스체크
+                        .requestMatchers(onManagementPort("/actuator/prometheus")).permitAll() // ✅ 메트릭 스크랩 (내부 관리 포트만)
                         .requestMatchers("/api/files/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -82,6 +88,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 관리 포트(management.server.port)로 들어온 요청만 매칭
+     * - 서비스 포트로 들어온 요청은 X-Forwarded-* 헤더와 무관하게 제외 (로컬 포트 기준)
+     */
+    private RequestMatcher onManagementPort(String pattern) {
+        Integer port = managementServerProperties.getPort();
+        AntPathRequestMatcher path = new AntPathRequestMatcher(pattern);
+        return request -> port != null && port > 0 && request.getLocalPort() == port && path.matches(request);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
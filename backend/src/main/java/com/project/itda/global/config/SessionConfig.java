@@ -1,6 +1,8 @@
 package com.project.itda.global.config;// 새로운 설정 파일: src/main/java/com/project/itda/global/config/SessionConfig.java
+import com.project.itda.global.session.CompactSessionSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.session.web.http.CookieSerializer;
 import org.springframework.session.web.http.DefaultCookieSerializer;
 
@@ -17,4 +19,13 @@ public class SessionConfig {
 //        serializer.setDomainNamePattern("^.+?\\.(.+?\\..+)$");
         return serializer;
     }
-}
\ No newline at end of file
+
+    /**
+     * ✅ 세션 속성 직렬화 (Spring Session 이 이 이름의 빈을 사용)
+     * - 압축 바이너리 + 스키마 버전, 기존 JDK 직렬화 세션도 읽음
+     */
+    @Bean("springSessionDefaultRedisSerializer")
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+        return new CompactSessionSerializer(getClass().getClassLoader());
+    }
+}
@@ -1,12 +1,41 @@
 package com.project.itda.global.config;
 
+import com.project.itda.domain.admin.config.AdminExportProperties;
+import com.project.itda.domain.log.metrics.ApiLatencyInterceptor;
+import com.project.itda.global.persistence.QueryGuardInterceptor;
+import com.project.itda.global.security.CurrentUserArgumentResolver;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ApiLatencyInterceptor apiLatencyInterceptor;
+    private final QueryGuardInterceptor queryGuardInterceptor;
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final ThreadPoolTaskExecutor mvcAsyncExecutor;
+    private final AdminExportProperties exportProperties;
+
+    public WebMvcConfig(ApiLatencyInterceptor apiLatencyInterceptor,
+                        QueryGuardInterceptor queryGuardInterceptor,
+                        CurrentUserArgumentResolver currentUserArgumentResolver,
+                        @Qualifier("mvcAsyncExecutor") ThreadPoolTaskExecutor mvcAsyncExecutor,
+                        AdminExportProperties exportProperties) {
+        this.apiLatencyInterceptor = apiLatencyInterceptor;
+        this.queryGuardInterceptor = queryGuardInterceptor;
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+        this.exportProperties = exportProperties;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // ✅ /uploads/** 요청을 프로젝트 내 uploads 폴더에서 서빙
@@ -16,4 +45,28 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations(uploadPath);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // ✅ API 응답 시간 분 단위 집계
+        registry.addInterceptor(apiLatencyInterceptor)
+                .addPathPatterns("/api/**");
+
+        // ✅ 요청당 쿼리 수 / N+1 감시
+        registry.addInterceptor(queryGuardInterceptor)
+                .addPathPatterns("/api/**");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // ✅ 스트리밍 내보내기: 전용 실행기 + 긴 타임아웃 (기본 SimpleAsyncTaskExecutor / 30초 대신)
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+        configurer.setDefaultTimeout(exportProperties.getTimeout().toMillis());
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        // ✅ @CurrentUser AuthenticatedUser 주입
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
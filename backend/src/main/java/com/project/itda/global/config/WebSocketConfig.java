@@ -1,15 +1,26 @@
 package com.project.itda.global.config;
 
+import com.project.itda.domain.admin.config.AdminTopicInterceptor;
+import com.project.itda.global.metrics.StompMetrics;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompMetrics stompMetrics;
+    private final AdminTopicInterceptor adminTopicInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 prefix (서버 -> 클라이언트)
@@ -25,11 +36,34 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // SockJS Fallback 지원
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(adminSessionHandshakeInterceptor())
                 .withSockJS();
 
         // 순수 WebSocket
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(adminSessionHandshakeInterceptor())
                 .withSockJS();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // ✅ STOMP 메시지 카운터 + 관리자 토픽 구독 제한
+        registration.interceptors(stompMetrics.inboundInterceptor(), adminTopicInterceptor);
+    }
+
+    /**
+     * 관리자 세션(adminId)만 WebSocket 세션 속성으로 복사 (세션이 없으면 새로 만들지 않음)
+     */
+    private HttpSessionHandshakeInterceptor adminSessionHandshakeInterceptor() {
+        HttpSessionHandshakeInterceptor interceptor =
+                new HttpSessionHandshakeInterceptor(List.of(AdminTopicInterceptor.ADMIN_SESSION_ATTRIBUTE));
+        interceptor.setCreateSession(false);
+        return interceptor;
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompMetrics.outboundInterceptor());
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.itda.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거 접두사별 로그 샘플링 (logback-spring.xml 에서 패키지마다 하나씩 등록)
+ * - loggerPrefix 로 시작하는 로거의 INFO 이하 로그를 sampleRate 건 중 1건만 통과
+ * - WARN 이상은 항상 통과
+ * - isDebugEnabled() 같은 레벨 확인 호출(format == null)은 샘플 대상이 아님 → 레벨 설정대로
+ * - 이벤트 생성 전에 걸러지므로 버려지는 로그는 메시지 포맷/큐 비용이 없음
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private String loggerPrefix;
+    private int sampleRate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level,
+                              String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.incrementAndGet() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (loggerPrefix == null || loggerPrefix.isBlank()) {
+            addError("loggerPrefix 가 필요합니다");
+            return;
+        }
+        if (sampleRate < 1) {
+            addError("sampleRate 는 1 이상이어야 합니다: " + sampleRate);
+            return;
+        }
+        super.start();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
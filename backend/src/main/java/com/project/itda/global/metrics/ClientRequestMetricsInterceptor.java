@@ -0,0 +1,71 @@
+package com.project.itda.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * ✅ 외부 HTTP 호출 타이머 (itda.client.requests)
+ * - client: FastAPI 서버면 "fastapi", 그 외는 호스트명
+ * - endpoint: 쿼리 제외 경로, 숫자 세그먼트는 {id} 로 치환 (카디널리티 제한)
+ * - outcome: SUCCESS / CLIENT_ERROR / SERVER_ERROR / IO_ERROR
+ */
+public class ClientRequestMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String METRIC_NAME = "itda.client.requests";
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry meterRegistry;
+    private final String fastApiBaseUrl;
+
+    public ClientRequestMetricsInterceptor(MeterRegistry meterRegistry, String fastApiBaseUrl) {
+        this.meterRegistry = meterRegistry;
+        this.fastApiBaseUrl = fastApiBaseUrl;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "IO_ERROR";
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int code = response.getStatusCode().value();
+            status = String.valueOf(code);
+            outcome = code >= 500 ? "SERVER_ERROR" : code >= 400 ? "CLIENT_ERROR" : "SUCCESS";
+            return response;
+        } finally {
+            URI uri = request.getURI();
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("client", clientOf(uri))
+                    .tag("endpoint", endpointOf(uri))
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String clientOf(URI uri) {
+        if (fastApiBaseUrl != null && uri.toString().startsWith(fastApiBaseUrl)) {
+            return "fastapi";
+        }
+        return uri.getHost() != null ? uri.getHost() : "unknown";
+    }
+
+    private String endpointOf(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+}
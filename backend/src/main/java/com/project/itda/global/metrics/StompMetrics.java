@@ -0,0 +1,74 @@
+package com.project.itda.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ STOMP 세션/메시지 메트릭
+ * - stomp.sessions.active (gauge), stomp.sessions.connected / disconnected (counter)
+ * - stomp.messages{direction, command} : 클라이언트 inbound / outbound 채널에 인터셉터로 등록
+ */
+@Component
+public class StompMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Counter connected;
+    private final Counter disconnected;
+
+    public StompMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("stomp.sessions.active", activeSessions, AtomicInteger::get)
+                .description("현재 연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        this.connected = Counter.builder("stomp.sessions.connected").register(meterRegistry);
+        this.disconnected = Counter.builder("stomp.sessions.disconnected").register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        activeSessions.incrementAndGet();
+        connected.increment();
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        activeSessions.updateAndGet(count -> Math.max(0, count - 1));
+        disconnected.increment();
+    }
+
+    public ChannelInterceptor inboundInterceptor() {
+        return messageCounter("inbound");
+    }
+
+    public ChannelInterceptor outboundInterceptor() {
+        return messageCounter("outbound");
+    }
+
+    private ChannelInterceptor messageCounter(String direction) {
+        return new ChannelInterceptor() {
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                StompCommand command = StompHeaderAccessor.wrap(message).getCommand();
+                Counter.builder("stomp.messages")
+                        .tag("direction", direction)
+                        .tag("command", command != null ? command.name() : "OTHER")
+                        .tag("result", sent && ex == null ? "sent" : "failed")
+                        .register(meterRegistry)
+                        .increment();
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.itda.global.persistence;
+
+/**
+ * 쿼리를 발생시킨 애플리케이션 코드 위치 (프록시/Hibernate/Spring 프레임 제외)
+ */
+final class CallSites {
+
+    private static final String APP_PACKAGE = "com.project.itda.";
+    private static final String GUARD_PREFIX = CallSites.class.getPackageName() + ".QueryGuard";
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private CallSites() {
+    }
+
+    static String current() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE)
+                        && !f.getClassName().startsWith(GUARD_PREFIX)
+                        && !f.getClassName().equals(CallSites.class.getName())
+                        && !f.getClassName().contains("$$"))
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
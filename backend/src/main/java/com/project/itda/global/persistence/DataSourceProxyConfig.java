@@ -0,0 +1,46 @@
+package com.project.itda.global.persistence;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * ✅ DataSource 프록시 (datasource-proxy)
+ * - 모든 JDBC 실행을 QueryGuardListener 로 전달 → 요청당 쿼리 수 / N+1 / 슬로우 쿼리 감시
+ * - Hikari 메트릭은 unwrap 으로 원본 풀을 찾으므로 그대로 수집됨
+ * - 복제본 라우팅 사용 시 실제 풀(primary / replica)만 감싸고 앞단 지연/라우팅 프록시는 제외 (중복 집계 방지)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "query-guard", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public QueryGuardListener queryGuardListener(QueryGuardProperties properties) {
+        return new QueryGuardListener(properties);
+    }
+
+    @Bean
+    public static BeanPostProcessor queryGuardDataSourcePostProcessor(ObjectProvider<QueryGuardListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
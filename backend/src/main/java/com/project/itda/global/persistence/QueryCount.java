@@ -0,0 +1,104 @@
+package com.project.itda.global.persistence;
+
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 범위(요청/테스트 블록)에서 실행된 쿼리 집계
+ * - SQL 문자열별 실행 횟수 + 처음 반복이 감지된 호출 위치
+ * - 한 스레드에서만 사용 (QueryCountContext 의 ThreadLocal)
+ */
+@Getter
+public class QueryCount {
+
+    private long select;
+    private long insert;
+    private long update;
+    private long delete;
+    private long other;
+    private long totalNanos;
+
+    private final Map<String, StatementStats> statements = new LinkedHashMap<>();
+
+    public long getTotal() {
+        return select + insert + update + delete + other;
+    }
+
+    public long getTotalMillis() {
+        return totalNanos / 1_000_000;
+    }
+
+    /**
+     * @return 이번 실행 후 같은 SQL 누적 실행 횟수
+     */
+    int record(QueryKind kind, String sql, long elapsedNanos) {
+        switch (kind) {
+            case SELECT -> select++;
+            case INSERT -> insert++;
+            case UPDATE -> update++;
+            case DELETE -> delete++;
+            default -> other++;
+        }
+        totalNanos += elapsedNanos;
+        return statements.computeIfAbsent(sql, StatementStats::new).increment();
+    }
+
+    void markCallSite(String sql, String callSite) {
+        StatementStats stats = statements.get(sql);
+        if (stats != null && stats.callSite == null) {
+            stats.callSite = callSite;
+        }
+    }
+
+    /**
+     * minCount 회 이상 실행된 SQL (많이 실행된 순)
+     */
+    public List<StatementStats> repeatedStatements(int minCount) {
+        return statements.values().stream()
+                .filter(s -> s.count >= minCount)
+                .sorted(Comparator.comparingInt(StatementStats::getCount).reversed())
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "total=" + getTotal() + " (select=" + select + ", insert=" + insert
+                + ", update=" + update + ", delete=" + delete + ", other=" + other
+                + "), " + getTotalMillis() + "ms";
+    }
+
+    public enum QueryKind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static QueryKind of(String sql) {
+            String s = sql.stripLeading();
+            if (s.regionMatches(true, 0, "select", 0, 6) || s.regionMatches(true, 0, "with", 0, 4)) {
+                return SELECT;
+            }
+            if (s.regionMatches(true, 0, "insert", 0, 6)) return INSERT;
+            if (s.regionMatches(true, 0, "update", 0, 6)) return UPDATE;
+            if (s.regionMatches(true, 0, "delete", 0, 6)) return DELETE;
+            return OTHER;
+        }
+    }
+
+    @Getter
+    public static class StatementStats {
+
+        private final String sql;
+        private int count;
+        private String callSite;
+
+        StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        int increment() {
+            return ++count;
+        }
+    }
+}
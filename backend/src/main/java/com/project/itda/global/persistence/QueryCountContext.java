@@ -0,0 +1,34 @@
+package com.project.itda.global.persistence;
+
+/**
+ * 현재 스레드의 쿼리 집계 범위
+ * - 요청: QueryGuardInterceptor 가 시작/종료
+ * - 테스트: QueryCountContext.start() ~ end() 로 감싸서 검증
+ * - 범위 밖(스케줄러, 비동기)에서 실행된 쿼리는 슬로우 쿼리 검사만 적용
+ */
+public final class QueryCountContext {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private QueryCountContext() {
+    }
+
+    public static QueryCount start() {
+        QueryCount count = new QueryCount();
+        CURRENT.set(count);
+        return count;
+    }
+
+    /**
+     * 범위 종료 후 집계 반환 (시작하지 않았으면 null)
+     */
+    public static QueryCount end() {
+        QueryCount count = CURRENT.get();
+        CURRENT.remove();
+        return count;
+    }
+
+    public static QueryCount current() {
+        return CURRENT.get();
+    }
+}
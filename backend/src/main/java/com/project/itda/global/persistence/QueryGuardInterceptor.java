@@ -0,0 +1,73 @@
+package com.project.itda.global.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+/**
+ * 요청 단위 쿼리 예산 검사
+ * - 요청당 쿼리 수 분포: itda.request.queries{uri}
+ * - 예산 초과 / 같은 SQL 반복(N+1 의심) 시 반복 SQL 과 호출 위치를 경고 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryGuardInterceptor implements HandlerInterceptor {
+
+    private static final String UNMAPPED_ENDPOINT = "UNMAPPED";
+    private static final int MAX_REPORTED_STATEMENTS = 3;
+
+    private final QueryGuardProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.isEnabled()) {
+            QueryCountContext.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        QueryCount count = QueryCountContext.end();
+        if (count == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : UNMAPPED_ENDPOINT;
+
+        DistributionSummary.builder("itda.request.queries")
+                .tag("uri", endpoint)
+                .register(meterRegistry)
+                .record(count.getTotal());
+
+        List<QueryCount.StatementStats> repeated = count.repeatedStatements(properties.getRepeatThreshold());
+        boolean overBudget = count.getTotal() > properties.getRequestBudget();
+        if (!overBudget && repeated.isEmpty()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder()
+                .append(overBudget ? "🚨 쿼리 예산 초과" : "🚨 N+1 의심")
+                .append(" ").append(request.getMethod()).append(" ").append(endpoint)
+                .append(" - ").append(count)
+                .append(" / budget=").append(properties.getRequestBudget());
+        repeated.stream()
+                .limit(MAX_REPORTED_STATEMENTS)
+                .forEach(s -> message.append("\n  ").append(s.getCount()).append("x at ")
+                        .append(s.getCallSite()).append(" - ")
+                        .append(properties.abbreviate(s.getSql())));
+        log.warn(message.toString());
+    }
+}
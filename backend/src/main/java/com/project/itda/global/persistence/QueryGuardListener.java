@@ -0,0 +1,50 @@
+package com.project.itda.global.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource 프록시 리스너
+ * - 실행된 쿼리를 현재 범위(QueryCountContext)에 집계
+ * - 같은 SQL 이 repeatThreshold 회째 실행되는 순간 호출 위치 기록 (N+1 추적용, 스택은 그때 한 번만)
+ * - 슬로우 쿼리는 범위와 무관하게 호출 위치와 함께 경고 로그
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryGuardListener implements QueryExecutionListener {
+
+    private final QueryGuardProperties properties;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        QueryCount count = QueryCountContext.current();
+
+        if (count != null) {
+            // 배치 실행은 문장 하나당 1회로 집계 (다건 파라미터는 한 번의 왕복)
+            long perQueryNanos = TimeUnit.MILLISECONDS.toNanos(elapsedMillis) / Math.max(1, queryInfoList.size());
+            for (QueryInfo queryInfo : queryInfoList) {
+                String sql = queryInfo.getQuery();
+                int executions = count.record(QueryCount.QueryKind.of(sql), sql, perQueryNanos);
+                if (executions == properties.getRepeatThreshold()) {
+                    count.markCallSite(sql, CallSites.current());
+                }
+            }
+        }
+
+        if (elapsedMillis >= properties.getSlowQueryThreshold().toMillis()) {
+            String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+            log.warn("🐢 슬로우 쿼리 {}ms at {} - {}", elapsedMillis, CallSites.current(), properties.abbreviate(sql));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.itda.global.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 쿼리 감시 설정 (요청당 쿼리 수 / N+1 / 슬로우 쿼리)
+ */
+@Component
+@ConfigurationProperties(prefix = "query-guard")
+@Getter
+@Setter
+public class QueryGuardProperties {
+
+    /**
+     * DataSource 프록시 사용 여부 (false 면 원본 DataSource 그대로)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 요청 하나에서 허용하는 쿼리 수 (초과 시 경고 로그)
+     */
+    private int requestBudget = 30;
+
+    /**
+     * 같은 SQL 이 한 요청에서 이 횟수 이상 실행되면 N+1 의심
+     */
+    private int repeatThreshold = 10;
+
+    /**
+     * 슬로우 쿼리 기준
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(300);
+
+    /**
+     * 로그에 남기는 SQL 최대 길이
+     */
+    private int maxSqlLength = 300;
+
+    /**
+     * 로그용 SQL (한 줄 + 최대 길이)
+     */
+    public String abbreviate(String sql) {
+        String oneLine = sql.replaceAll("\\s+", " ").trim();
+        return oneLine.length() <= maxSqlLength ? oneLine : oneLine.substring(0, maxSqlLength) + "...";
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.itda.global.persistence;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 세션 단위 read-your-writes
+ * - 쓰기 트랜잭션이 커밋되면 세션에 "주 DB 고정 만료 시각" 기록 (Redis 세션 → 다른 인스턴스에서도 유효)
+ * - 만료 전까지 같은 세션의 readOnly 트랜잭션은 주 DB 에서 읽음
+ * - 남은 고정 시간이 절반 이상이면 다시 기록하지 않음 (쓰기마다 세션 저장 방지)
+ */
+public class ReadYourWritesTracker {
+
+    static final String SESSION_ATTRIBUTE = "db.primaryUntil";
+
+    private final long stickyWindowMs;
+
+    public ReadYourWritesTracker(long stickyWindowMs) {
+        this.stickyWindowMs = stickyWindowMs;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 주 DB 커넥션을 얻을 때 호출 → 커밋되면 세션 고정
+     */
+    void onWriteConnection() {
+        if (stickyWindowMs <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        HttpSession session = currentSession();
+        if (session == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markSticky(session);
+            }
+        });
+    }
+
+    /**
+     * 현재 세션이 최근 쓰기로 주 DB 에 고정되어 있는지
+     */
+    boolean isSticky() {
+        HttpSession session = currentSession();
+        if (session == null) {
+            return false;
+        }
+        try {
+            return session.getAttribute(SESSION_ATTRIBUTE) instanceof Long until && until > System.currentTimeMillis();
+        } catch (IllegalStateException e) {
+            return false;  // 만료된 세션
+        }
+    }
+
+    boolean inRequest() {
+        return RequestContextHolder.getRequestAttributes() != null;
+    }
+
+    private void markSticky(HttpSession session) {
+        long now = System.currentTimeMillis();
+        try {
+            if (session.getAttribute(SESSION_ATTRIBUTE) instanceof Long until && until - now > stickyWindowMs / 2) {
+                return;
+            }
+            session.setAttribute(SESSION_ATTRIBUTE, now + stickyWindowMs);
+        } catch (IllegalStateException ignored) {
+            // 요청 중 로그아웃 등으로 세션이 무효화됨
+        }
+    }
+
+    private HttpSession currentSession() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            return servlet.getRequest().getSession(false);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.itda.global.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제본 지연 감시
+ * - 주기적으로 SHOW REPLICA STATUS (구버전은 SHOW SLAVE STATUS) 의 Seconds_Behind_* 확인
+ * - 지연이 허용치 이하일 때만 복제본 사용 가능 (첫 확인 전 / 복제 중단 / 조회 실패 시 주 DB)
+ * - 메트릭: itda.datasource.replica.lag (초, 알 수 없으면 -1), itda.datasource.replica.available
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String[][] STATUS_QUERIES = {
+            {"SHOW REPLICA STATUS", "Seconds_Behind_Source"},
+            {"SHOW SLAVE STATUS", "Seconds_Behind_Master"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReplicaRoutingProperties properties;
+
+    private volatile boolean available;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.properties = properties;
+
+        Gauge.builder("itda.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("itda.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = readLagSeconds();
+        } catch (DataAccessException e) {
+            log.warn("⚠️ 복제본 상태 조회 실패: {}", e.getMessage());
+            lag = null;
+        }
+
+        lagSeconds = lag != null ? lag : -1;
+        boolean nowAvailable = lag != null && lag <= properties.getMaxLagSeconds();
+        if (nowAvailable != available) {
+            if (nowAvailable) {
+                log.info("✅ 읽기 복제본 사용: lag={}s", lag);
+            } else {
+                log.warn("⚠️ 읽기 복제본 제외 → 주 DB 로 읽기: lag={}", lag != null ? lag + "s" : "unknown");
+            }
+        }
+        available = nowAvailable;
+    }
+
+    /**
+     * @return 지연(초) / 복제 중단이면 null / 복제 설정이 없는 단독 인스턴스면 standaloneAsHealthy 에 따라 0 또는 null
+     */
+    private Long readLagSeconds() {
+        BadSqlGrammarException unsupported = null;
+        for (String[] query : STATUS_QUERIES) {
+            try {
+                return jdbcTemplate.query(query[0], rs -> {
+                    if (!rs.next()) {
+                        return properties.isStandaloneAsHealthy() ? 0L : null;
+                    }
+                    long seconds = rs.getLong(query[1]);
+                    return rs.wasNull() ? null : seconds;
+                });
+            } catch (BadSqlGrammarException e) {
+                unsupported = e;  // 구버전 MySQL / 다른 호환 DB → 다음 구문
+            }
+        }
+        if (properties.isStandaloneAsHealthy()) {
+            // 복제 상태 구문이 없는 대역 DB (H2 등) → 연결만 확인
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return 0L;
+        }
+        throw unsupported;
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.itda.global.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * ✅ 읽기 복제본 라우팅 (datasource.replica.enabled=true 일 때만)
+ * - primaryDataSource: spring.datasource (+ spring.datasource.hikari)
+ * - replicaDataSource: datasource.replica (+ datasource.replica.hikari)
+ * - dataSource(@Primary): LazyConnectionDataSourceProxy → ReplicaRoutingDataSource
+ *   (JPA / JdbcTemplate 모두 이 빈 사용, 쿼리 감시 프록시는 두 풀에 각각 적용)
+ * - Hibernate 커넥션은 트랜잭션마다 반납: OSIV 의 요청 범위 EntityManager 가 첫 트랜잭션의 커넥션을
+ *   요청 끝까지 쥐고 있으면 이후 쓰기 트랜잭션도 복제본 커넥션을 쓰게 되므로
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    static final PhysicalConnectionHandlingMode CONNECTION_HANDLING =
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION;
+
+    /**
+     * HibernateJpaVendorAdapter 기본값(DELAYED_ACQUISITION_AND_HOLD) 대신 트랜잭션 단위 반납
+     * → 다음 트랜잭션이 readOnly 여부에 따라 다시 라우팅됨
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaRoutingConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING, CONNECTION_HANDLING);
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaRoutingProperties replica) {
+        if (!StringUtils.hasText(replica.getUrl())) {
+            throw new IllegalStateException("datasource.replica.url 이 필요합니다");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : primary.determineUsername())
+                .password(StringUtils.hasText(replica.getPassword()) ? replica.getPassword() : primary.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               ReplicaRoutingProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReplicaRoutingProperties properties) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary,
+                replica,
+                lagMonitor::isAvailable,
+                new ReadYourWritesTracker(properties.getStickyWindowMs()),
+                properties.isRouteBackgroundReads());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
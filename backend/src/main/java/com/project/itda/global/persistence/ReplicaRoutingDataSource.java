@@ -0,0 +1,55 @@
+package com.project.itda.global.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 주 DB / 읽기 복제본 라우팅
+ * - readOnly 트랜잭션 → 복제본 (복제 지연 초과, 최근 쓰기 세션, 요청 밖 작업은 주 DB)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 없음) → 주 DB
+ * - 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final BooleanSupplier replicaAvailable;
+    private final ReadYourWritesTracker readYourWrites;
+    private final boolean routeBackgroundReads;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    BooleanSupplier replicaAvailable,
+                                    ReadYourWritesTracker readYourWrites,
+                                    boolean routeBackgroundReads) {
+        this.replicaAvailable = replicaAvailable;
+        this.readYourWrites = readYourWrites;
+        this.routeBackgroundReads = routeBackgroundReads;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.onWriteConnection();
+            }
+            return Target.PRIMARY;
+        }
+        if (!routeBackgroundReads && !readYourWrites.inRequest()) {
+            return Target.PRIMARY;
+        }
+        if (!replicaAvailable.getAsBoolean() || readYourWrites.isSticky()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+}
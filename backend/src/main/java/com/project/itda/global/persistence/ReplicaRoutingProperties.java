@@ -0,0 +1,59 @@
+package com.project.itda.global.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * - readOnly 트랜잭션 → 복제본, 그 외 → 주 DB
+ * - 복제본 풀 설정은 datasource.replica.hikari.* (spring.datasource.hikari 와 같은 항목)
+ */
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+@Getter
+@Setter
+public class ReplicaRoutingProperties {
+
+    /**
+     * 라우팅 사용 여부 (false 면 spring.datasource 단일 풀 그대로)
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    /**
+     * 비워 두면 spring.datasource 계정 사용
+     */
+    private String username;
+
+    private String password;
+
+    /**
+     * 허용 복제 지연 (초) - 초과하거나 복제가 멈추면 복제본이 회복될 때까지 주 DB 로 읽기
+     */
+    private long maxLagSeconds = 3;
+
+    /**
+     * 복제 지연 확인 주기 (ms)
+     */
+    private long lagCheckIntervalMs = 5_000;
+
+    /**
+     * 쓰기 커밋 후 같은 세션의 읽기를 주 DB 로 고정하는 시간 (ms, read-your-writes)
+     */
+    private long stickyWindowMs = 5_000;
+
+    /**
+     * 복제 상태가 없는 단독 인스턴스(로컬 대역)를 지연 0 으로 간주
+     * - 기본 false: 복제가 초기화/미설정된 운영 복제본을 사용하지 않음 (local 프로필에서만 true)
+     */
+    private boolean standaloneAsHealthy = false;
+
+    /**
+     * 요청 밖(@Async 이벤트 리스너, 스케줄러)의 readOnly 트랜잭션도 복제본으로 보낼지
+     * - 기본 false: AFTER_COMMIT 리스너가 방금 커밋한 행을 복제 지연 때문에 못 읽는 일 방지
+     */
+    private boolean routeBackgroundReads = false;
+}
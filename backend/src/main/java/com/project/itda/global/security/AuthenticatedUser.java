@@ -0,0 +1,48 @@
+package com.project.itda.global.security;
+
+import com.project.itda.domain.user.entity.User;
+import com.project.itda.domain.user.enums.UserStatus;
+import lombok.Getter;
+
+/**
+ * 인증된 사용자 스냅샷 (불변)
+ * - SessionAuthenticationFilter 가 요청 속성으로 공유 → @CurrentUser 로 주입
+ * - 엔티티가 아니므로 영속성 컨텍스트와 무관하게 캐시 가능
+ */
+@Getter
+public class AuthenticatedUser {
+
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedUser.class.getName();
+
+    private final Long userId;
+    private final String email;
+    private final String username;
+    private final String nickname;
+    private final String profileImageUrl;
+    private final UserStatus status;
+
+    private AuthenticatedUser(Long userId, String email, String username, String nickname,
+                              String profileImageUrl, UserStatus status) {
+        this.userId = userId;
+        this.email = email;
+        this.username = username;
+        this.nickname = nickname;
+        this.profileImageUrl = profileImageUrl;
+        this.status = status;
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getUserId(),
+                user.getEmail(),
+                user.getUsername(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getStatus()
+        );
+    }
+
+    public boolean canAuthenticate() {
+        return status == null || status.canLogin();
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.itda.global.security;
+
+import com.project.itda.domain.user.event.UserStatusChangedEvent;
+import com.project.itda.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 인증 사용자 로컬 캐시 (짧은 TTL)
+ * - 요청마다 하던 users PK 조회를 TTL 동안 생략
+ * - 상태 변경(정지/탈퇴) 시 커밋 후 즉시 제거, 다른 인스턴스는 TTL 로 수렴
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserCache {
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, CachedUser> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 스냅샷 조회 (만료/미존재 시 DB 조회 후 캐시)
+     */
+    public Optional<AuthenticatedUser> get(Long userId) {
+        long now = System.nanoTime();
+        CachedUser cached = cache.get(userId);
+        if (cached != null && cached.expiresAt - now > 0) {
+            return Optional.of(cached.user);
+        }
+
+        Optional<AuthenticatedUser> loaded = userRepository.findById(userId).map(AuthenticatedUser::from);
+        if (loaded.isPresent()) {
+            if (cache.size() >= MAX_ENTRIES) {
+                evictExpired(now);
+            }
+            cache.put(userId, new CachedUser(loaded.get(), now + TTL_NANOS));
+        } else {
+            cache.remove(userId);
+        }
+        return loaded;
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        evict(event.getUserId());
+        log.debug("🔄 인증 캐시 제거: userId={}, status={}", event.getUserId(), event.getStatus());
+    }
+
+    private void evictExpired(long now) {
+        cache.entrySet().removeIf(entry -> entry.getValue().expiresAt - now <= 0);
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+    }
+
+    private record CachedUser(AuthenticatedUser user, long expiresAt) {
+    }
+}
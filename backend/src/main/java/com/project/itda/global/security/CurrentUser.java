@@ -0,0 +1,17 @@
+package com.project.itda.global.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 인증된 사용자 스냅샷(AuthenticatedUser) 주입
+ * - required = true 인데 인증 정보가 없으면 401
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+
+    boolean required() default true;
+}
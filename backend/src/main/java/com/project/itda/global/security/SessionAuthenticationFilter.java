@@ -1,7 +1,6 @@
 package com.project.itda.global.security;
 
 import com.project.itda.domain.auth.dto.SessionUser;
-import com.project.itda.domain.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +15,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -24,7 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SessionAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -39,18 +37,7 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
             if (sessionUser != null) {
                 try {
                     Long userId = sessionUser.getUserId();
-
-                    userRepository.findById(userId).ifPresent(user -> {
-                        var auth = new UsernamePasswordAuthenticationToken(
-                                userId,
-                                null,
-                                List.of()
-                        );
-                        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(auth);
-                        log.info("✅ SecurityContext 설정 완료: userId={} (타입: {})",
-                                userId, userId.getClass().getSimpleName());
-                    });
+                    authenticate(request, userId);
                 } catch (ClassCastException e) {
                     log.error("❌ 세션 캐스팅 오류: 세션에 저장된 객체 타입이 SessionUser가 아닙니다.", e);
                 }
@@ -61,17 +48,7 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
                 if (userIdObj != null) {
                     try {
                         Long userId = (Long) userIdObj;
-
-                        userRepository.findById(userId).ifPresent(user -> {
-                            var auth = new UsernamePasswordAuthenticationToken(
-                                    userId,
-                                    null,
-                                    List.of()
-                            );
-                            auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                            SecurityContextHolder.getContext().setAuthentication(auth);
-                            log.info("✅ SecurityContext 설정 완료 (개별 속성): userId={}", userId);
-                        });
+                        authenticate(request, userId);
                     } catch (ClassCastException e) {
                         log.error("❌ userId 캐스팅 오류", e);
                     }
@@ -86,6 +63,25 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 캐시된 사용자 스냅샷으로 SecurityContext 설정 + 요청 속성 공유 (@CurrentUser)
+     */
+    private void authenticate(HttpServletRequest request, Long userId) {
+        authenticatedUserCache.get(userId)
+                .filter(AuthenticatedUser::canAuthenticate)
+                .ifPresent(user -> {
+                    var auth = new UsernamePasswordAuthenticationToken(
+                            userId,
+                            null,
+                            List.of()
+                    );
+                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    request.setAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE, user);
+                    log.info("✅ SecurityContext 설정 완료: userId={}", userId);
+                });
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -97,4 +93,4 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
                 || path.startsWith("/oauth2")
                 || path.startsWith("/error");
     }
-}
\ No newline at end of file
+}
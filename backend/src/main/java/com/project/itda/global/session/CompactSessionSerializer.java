@@ -0,0 +1,195 @@
+package com.project.itda.global.session;
+
+import com.project.itda.domain.auth.dto.SessionUser;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ✅ Spring Session 속성 직렬화 (압축 바이너리)
+ * - [MAGIC][VERSION][TAG][payload] 형식, 스키마 버전으로 하위 호환 유지
+ * - 세션에 주로 담기는 값(String/Long/Integer/Boolean/Enum/SessionUser)은 전용 인코딩
+ * - 그 외 타입(SecurityContext, OAuth2 요청 등)은 JDK 직렬화로 감싸서 저장
+ * - 기존 JDK 직렬화 값(0xACED 시작)도 그대로 읽음 → 배포 시 세션 유지
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = 0x1D;
+    static final byte VERSION = 1;
+
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_ENUM = 5;
+    private static final byte TAG_SESSION_USER = 6;
+    private static final byte TAG_JDK = 7;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final JdkSerializationRedisSerializer fallback;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.fallback = new JdkSerializationRedisSerializer(classLoader);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+
+            if (value instanceof String s) {
+                out.writeByte(TAG_STRING);
+                writeString(out, s);
+            } else if (value instanceof Long l) {
+                out.writeByte(TAG_LONG);
+                out.writeLong(l);
+            } else if (value instanceof Integer i) {
+                out.writeByte(TAG_INT);
+                out.writeInt(i);
+            } else if (value instanceof Boolean b) {
+                out.writeByte(TAG_BOOLEAN);
+                out.writeBoolean(b);
+            } else if (value instanceof Enum<?> e) {
+                out.writeByte(TAG_ENUM);
+                writeString(out, e.getDeclaringClass().getName());
+                writeString(out, e.name());
+            } else if (value instanceof SessionUser user) {
+                out.writeByte(TAG_SESSION_USER);
+                writeSessionUser(out, user);
+            } else {
+                out.writeByte(TAG_JDK);
+                out.write(fallback.serialize(value));
+            }
+
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("세션 속성 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            // 기존 JDK 직렬화 세션
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            in.readByte();
+            byte version = in.readByte();
+            if (version > VERSION) {
+                throw new SerializationException("지원하지 않는 세션 스키마 버전: " + version);
+            }
+
+            byte tag = in.readByte();
+            return switch (tag) {
+                case TAG_STRING -> readString(in);
+                case TAG_LONG -> in.readLong();
+                case TAG_INT -> in.readInt();
+                case TAG_BOOLEAN -> in.readBoolean();
+                case TAG_ENUM -> readEnum(in);
+                case TAG_SESSION_USER -> readSessionUser(in);
+                case TAG_JDK -> fallback.deserialize(in.readAllBytes());
+                default -> throw new SerializationException("알 수 없는 세션 속성 태그: " + tag);
+            };
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SerializationException("세션 속성 역직렬화 실패", e);
+        }
+    }
+
+    private void writeSessionUser(DataOutputStream out, SessionUser user) throws IOException {
+        out.writeBoolean(user.getUserId() != null);
+        if (user.getUserId() != null) {
+            out.writeLong(user.getUserId());
+        }
+        writeString(out, user.getEmail());
+        writeString(out, user.getUsername());
+        writeString(out, user.getNickname());
+        writeString(out, user.getPicture());
+    }
+
+    private SessionUser readSessionUser(DataInputStream in) throws IOException {
+        Long userId = in.readBoolean() ? in.readLong() : null;
+        return SessionUser.builder()
+                .userId(userId)
+                .email(readString(in))
+                .username(readString(in))
+                .nickname(readString(in))
+                .picture(readString(in))
+                .build();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnum(DataInputStream in) throws IOException, ClassNotFoundException {
+        String className = readString(in);
+        String name = readString(in);
+        Class<?> type = Class.forName(className, false, getClass().getClassLoader());
+        if (!type.isEnum()) {
+            throw new SerializationException("Enum 타입이 아닙니다: " + className);
+        }
+        return Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+
+    /**
+     * 길이(varint, 0 = null) + UTF-8 바이트
+     */
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, utf8.length + 1);
+        out.write(utf8);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length - 1];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.itda.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+public class TransactionUtil {
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 즉시 실행)
+     * - 롤백 시 실행되지 않음
+     * - 실패는 onFailure 로 전달하고 호출자(커밋 스레드)로 전파하지 않음
+     */
+    public static void afterCommit(Runnable action, Consumer<Exception> onFailure) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                onFailure.accept(e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+}
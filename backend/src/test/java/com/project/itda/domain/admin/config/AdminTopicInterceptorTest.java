@@ -0,0 +1,72 @@
+package com.project.itda.domain.admin.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdminTopicInterceptorTest {
+
+    private static final String ADMIN_TOPIC = AdminTopicInterceptor.ADMIN_TOPIC_PREFIX + "activity";
+
+    private final AdminTopicInterceptor interceptor = new AdminTopicInterceptor();
+
+    @Test
+    void rejectsSubscribeWithoutAdminSession() {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, ADMIN_TOPIC, Map.of());
+
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void rejectsSendWithoutAdminSession() {
+        Message<byte[]> message = frame(StompCommand.SEND, ADMIN_TOPIC, Map.of());
+
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/**", "/topic/*/recent-users", "/topic/adm?n/recent-meetings",
+            "/topic/{section}/recent-users", "/topic/notification/*"})
+    void rejectsPatternSubscriptions(String destination) {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, destination, Map.of());
+
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void allowsAdminSession() {
+        Map<String, Object> attributes = Map.of(AdminTopicInterceptor.ADMIN_SESSION_ATTRIBUTE, 1L);
+
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, ADMIN_TOPIC, attributes), null)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, ADMIN_TOPIC, attributes), null)).isNotNull();
+    }
+
+    @Test
+    void ignoresOtherDestinations() {
+        Message<byte[]> message = frame(StompCommand.SEND, "/topic/notification/1", Map.of());
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination, Map<String, Object> attributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionId("s1");
+        accessor.setSessionAttributes(new HashMap<>(attributes));
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
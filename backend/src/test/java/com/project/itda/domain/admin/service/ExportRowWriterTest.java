@@ -0,0 +1,82 @@
+package com.project.itda.domain.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.itda.domain.admin.enums.ExportFormat;
+import com.project.itda.domain.admin.service.ExportRowWriter.Column;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportRowWriterTest {
+
+    private record Row(Long id, String name, LocalDateTime createdAt) {
+    }
+
+    private static final List<Column<Row>> COLUMNS = List.of(
+            Column.of("id", Row::id),
+            Column.of("name", Row::name),
+            Column.of("createdAt", Row::createdAt)
+    );
+
+    private static final LocalDateTime T = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void csvStartsWithBomAndHeader() throws Exception {
+        String csv = write(ExportFormat.CSV, new Row(1L, "홍길동", T));
+
+        assertThat(csv).isEqualTo("\uFEFFid,name,createdAt\r\n1,홍길동,2024-05-01T12:30\r\n");
+    }
+
+    @Test
+    void csvQuotesSeparatorsAndLeavesNullEmpty() throws Exception {
+        String csv = write(ExportFormat.CSV, new Row(2L, "a,\"b\"\nc", null));
+
+        assertThat(csv).endsWith("2,\"a,\"\"b\"\"\nc\",\r\n");
+    }
+
+    @Test
+    void csvNeutralizesSpreadsheetFormulas() throws Exception {
+        String csv = write(ExportFormat.CSV, new Row(-3L, "=HYPERLINK(\"x\")", T));
+
+        // 숫자는 그대로, 문자열만 ' 접두
+        assertThat(csv).contains("\r\n-3,\"'=HYPERLINK(\"\"x\"\")\",");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        String ndjson = write(ExportFormat.NDJSON, new Row(1L, "a", T), new Row(2L, null, null));
+
+        assertThat(ndjson).isEqualTo(
+                "{\"id\":1,\"name\":\"a\",\"createdAt\":\"2024-05-01T12:30:00\"}\n"
+                        + "{\"id\":2,\"name\":null,\"createdAt\":null}\n");
+    }
+
+    @Test
+    void formatParsingDefaultsToCsvAndRejectsUnknown() {
+        assertThat(ExportFormat.from(null)).isEqualTo(ExportFormat.CSV);
+        assertThat(ExportFormat.from("ndjson")).isEqualTo(ExportFormat.NDJSON);
+        assertThatThrownBy(() -> ExportFormat.from("xlsx")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String write(ExportFormat format, Row... rows) throws Exception {
+        StringWriter out = new StringWriter();
+        ExportRowWriter<Row> writer = new ExportRowWriter<>(format, COLUMNS, out, objectMapper);
+        writer.writeHeader();
+        for (Row row : rows) {
+            writer.write(row);
+        }
+        writer.flush();
+        return out.toString();
+    }
+}
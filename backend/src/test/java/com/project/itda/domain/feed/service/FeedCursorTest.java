@@ -0,0 +1,56 @@
+package com.project.itda.domain.feed.service;
+
+import com.project.itda.domain.feed.dto.response.FeedEntryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void roundTripsThroughOpaqueString() {
+        FeedCursor cursor = FeedCursor.after(entry("MEETING_JOINED:7:3", T));
+
+        FeedCursor parsed = FeedCursor.parse(cursor.encode());
+
+        assertThat(parsed).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorStartsFromNewest() {
+        assertThat(FeedCursor.parse(null)).isEqualTo(FeedCursor.FIRST);
+        assertThat(FeedCursor.parse("")).isEqualTo(FeedCursor.FIRST);
+        assertThat(FeedCursor.FIRST.isBefore(entry("a", T))).isTrue();
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> FeedCursor.parse("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pagesThroughEqualTimestampsWithoutGapsOrRepeats() {
+        List<FeedEntryResponse> all = new ArrayList<>(List.of(
+                entry("b", T), entry("a", T), entry("c", T),
+                entry("z", T.minusSeconds(1)), entry("y", T.plusSeconds(1))));
+        all.sort(FeedCursor.ORDER);
+        assertThat(all).extracting(FeedEntryResponse::getId).containsExactly("y", "c", "b", "a", "z");
+
+        FeedCursor cursor = FeedCursor.after(all.get(2));   // "b"
+        List<String> rest = all.stream().filter(cursor::isBefore).map(FeedEntryResponse::getId).toList();
+
+        assertThat(rest).containsExactly("a", "z");
+    }
+
+    private static FeedEntryResponse entry(String id, LocalDateTime occurredAt) {
+        return FeedEntryResponse.builder().id(id).actorId(1L).occurredAt(occurredAt).build();
+    }
+}
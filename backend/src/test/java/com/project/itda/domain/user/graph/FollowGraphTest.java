@@ -0,0 +1,66 @@
+package com.project.itda.domain.user.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowGraphTest {
+
+    @Test
+    void buildsSortedDistinctAdjacency() {
+        FollowGraph graph = FollowGraph.builder()
+                .add(1, 30).add(1, 10).add(1, 20).add(1, 10)
+                .add(2, 1)
+                .build();
+
+        assertThat(graph.following(1)).containsExactly(10, 20, 30);
+        assertThat(graph.followers(10)).containsExactly(1);
+        assertThat(graph.followingCount(1)).isEqualTo(3);
+        assertThat(graph.followerCount(1)).isEqualTo(1);
+        assertThat(graph.edgeCount()).isEqualTo(4);
+    }
+
+    @Test
+    void appliesFollowAndUnfollow() {
+        FollowGraph graph = new FollowGraph();
+
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 1);
+        graph.addEdge(1, 2);
+
+        assertThat(graph.follows(1, 2)).isTrue();
+        assertThat(graph.isMutual(1, 2)).isTrue();
+        assertThat(graph.followingCount(1)).isEqualTo(1);
+
+        graph.removeEdge(2, 1);
+        graph.removeEdge(2, 1);
+
+        assertThat(graph.isMutual(1, 2)).isFalse();
+        assertThat(graph.followers(1)).isEmpty();
+        assertThat(graph.userCount()).isEqualTo(2);
+    }
+
+    @Test
+    void intersectsFollowingWithCandidates() {
+        FollowGraph.Builder builder = FollowGraph.builder();
+        for (long id = 2; id <= 2000; id += 2) {
+            builder.add(1, id);
+        }
+        FollowGraph graph = builder.build();
+
+        // 병합 경로 (크기 비슷)
+        long[] evensAndOdds = new long[1000];
+        for (int i = 0; i < evensAndOdds.length; i++) {
+            evensAndOdds[i] = i + 1;
+        }
+        assertThat(graph.intersectFollowing(1, evensAndOdds)).hasSize(500).startsWith(2, 4, 6);
+
+        // 이진 탐색 경로 (후보가 훨씬 적음)
+        assertThat(graph.intersectFollowing(1, new long[]{3, 4, 1998, 5000})).containsExactly(4, 1998);
+
+        assertThat(graph.followedAmong(1, List.of(4L, 5L, 6L))).containsExactlyInAnyOrder(4L, 6L);
+        assertThat(graph.intersectFollowing(99, new long[]{2, 4})).isEmpty();
+    }
+}
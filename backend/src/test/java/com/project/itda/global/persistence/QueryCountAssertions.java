@@ -0,0 +1,82 @@
+package com.project.itda.global.persistence;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 수 검증 하네스
+ * <pre>
+ * QueryCountAssertions.assertQueries(() -> service.getFollowerList(userId))
+ *         .selects(2)
+ *         .noStatementRepeatedMoreThan(1);
+ * </pre>
+ * DataSource 는 DataSourceProxyConfig 의 프록시(스프링 컨텍스트)나 테스트에서 직접 감싼 프록시를 사용
+ */
+public final class QueryCountAssertions {
+
+    private final QueryCount count;
+
+    private QueryCountAssertions(QueryCount count) {
+        this.count = count;
+    }
+
+    public static QueryCountAssertions assertQueries(Runnable action) {
+        QueryCountContext.start();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            QueryCountContext.end();
+            throw e;
+        }
+        return new QueryCountAssertions(QueryCountContext.end());
+    }
+
+    public QueryCountAssertions total(long expected) {
+        assertThat(count.getTotal()).as("전체 쿼리 수 - %s", count).isEqualTo(expected);
+        return this;
+    }
+
+    public QueryCountAssertions totalAtMost(long max) {
+        assertThat(count.getTotal()).as("전체 쿼리 수 - %s", count).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public QueryCountAssertions selects(long expected) {
+        assertThat(count.getSelect()).as("SELECT 수 - %s", count).isEqualTo(expected);
+        return this;
+    }
+
+    public QueryCountAssertions inserts(long expected) {
+        assertThat(count.getInsert()).as("INSERT 수 - %s", count).isEqualTo(expected);
+        return this;
+    }
+
+    public QueryCountAssertions updates(long expected) {
+        assertThat(count.getUpdate()).as("UPDATE 수 - %s", count).isEqualTo(expected);
+        return this;
+    }
+
+    public QueryCountAssertions deletes(long expected) {
+        assertThat(count.getDelete()).as("DELETE 수 - %s", count).isEqualTo(expected);
+        return this;
+    }
+
+    /**
+     * N+1 검사: 같은 SQL 이 max 회를 넘게 실행되지 않아야 함
+     */
+    public QueryCountAssertions noStatementRepeatedMoreThan(int max) {
+        List<QueryCount.StatementStats> repeated = count.repeatedStatements(max + 1);
+        assertThat(repeated)
+                .as("반복 실행된 SQL:\n%s", repeated.stream()
+                        .map(s -> s.getCount() + "x " + s.getSql())
+                        .collect(Collectors.joining("\n")))
+                .isEmpty();
+        return this;
+    }
+
+    public QueryCount count() {
+        return count;
+    }
+}
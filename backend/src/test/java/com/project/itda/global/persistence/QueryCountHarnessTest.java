@@ -0,0 +1,84 @@
+package com.project.itda.global.persistence;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿼리 카운트 하네스 / N+1 감지 동작 검증 (H2 인메모리, 스프링 컨텍스트 없이)
+ */
+class QueryCountHarnessTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        QueryGuardProperties properties = new QueryGuardProperties();
+        properties.setRepeatThreshold(3);
+
+        DataSource raw = new DriverManagerDataSource("jdbc:h2:mem:query-guard;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource proxy = ProxyDataSourceBuilder.create(raw)
+                .listener(new QueryGuardListener(properties))
+                .build();
+        jdbcTemplate = new JdbcTemplate(proxy);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS follows");
+        jdbcTemplate.execute("CREATE TABLE follows (follower_id BIGINT, following_id BIGINT)");
+        for (long i = 1; i <= 5; i++) {
+            jdbcTemplate.update("INSERT INTO follows VALUES (?, ?)", i, 100L);
+        }
+    }
+
+    @Test
+    void countsStatementsByKind() {
+        QueryCountAssertions.assertQueries(() -> {
+                    jdbcTemplate.queryForList("SELECT follower_id FROM follows WHERE following_id = ?", Long.class, 100L);
+                    jdbcTemplate.update("UPDATE follows SET following_id = ? WHERE follower_id = ?", 200L, 1L);
+                    jdbcTemplate.update("DELETE FROM follows WHERE follower_id = ?", 2L);
+                })
+                .total(3)
+                .selects(1)
+                .updates(1)
+                .deletes(1)
+                .inserts(0);
+    }
+
+    @Test
+    void detectsPerRowRepeatedStatement() {
+        QueryCount count = QueryCountAssertions.assertQueries(this::followBackPerRow).count();
+
+        List<QueryCount.StatementStats> repeated = count.repeatedStatements(3);
+        assertThat(repeated).hasSize(1);
+        assertThat(repeated.get(0).getCount()).isEqualTo(5);
+        assertThat(repeated.get(0).getCallSite()).startsWith("QueryCountHarnessTest.followBackPerRow");
+
+        assertThatThrownBy(() -> QueryCountAssertions.assertQueries(this::followBackPerRow)
+                .noStatementRepeatedMoreThan(1))
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void ignoresQueriesOutsideScope() {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM follows", Long.class);
+
+        QueryCountAssertions.assertQueries(() -> { }).total(0);
+    }
+
+    private void followBackPerRow() {
+        List<Long> followers = jdbcTemplate.queryForList(
+                "SELECT follower_id FROM follows WHERE following_id = ?", Long.class, 100L);
+        for (Long followerId : followers) {
+            jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM follows WHERE follower_id = ? AND following_id = ?",
+                    Long.class, 100L, followerId);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.itda.global.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB / 복제본 라우팅 검증 (H2 인메모리 두 개를 주 DB / 복제본 대역으로 사용, 스프링 컨텍스트 없이)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = node("routing-primary", "primary");
+    private final DataSource replica = node("routing-replica", "replica");
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private final MockHttpSession session = new MockHttpSession();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        route(false);
+        enterRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void writesAndNonTransactionalQueriesGoToPrimary() {
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void sessionReadsItsOwnWritesFromPrimary() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET hits = hits + 1"));
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+        // 다른 세션은 그대로 복제본
+        RequestContextHolder.resetRequestAttributes();
+        MockHttpServletRequest other = new MockHttpServletRequest();
+        other.setSession(new MockHttpSession());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(other));
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinSession() {
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET hits = hits + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaAvailable.set(false);
+
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void backgroundReadsStayOnPrimaryUnlessEnabled() {
+        RequestContextHolder.resetRequestAttributes();
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+        route(true);
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void standaloneStandInCountsAsHealthyOnlyWhenAllowed() {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, new SimpleMeterRegistry());
+        assertThat(monitor.isAvailable()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.isAvailable()).isFalse();
+
+        properties.setStandaloneAsHealthy(true);
+        monitor.check();
+        assertThat(monitor.isAvailable()).isTrue();
+    }
+
+    private void route(boolean routeBackgroundReads) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replica, replicaAvailable::get, new ReadYourWritesTracker(5_000), routeBackgroundReads);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    private void enterRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String database, String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20), hits INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
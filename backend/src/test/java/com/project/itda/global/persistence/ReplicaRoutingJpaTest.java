@@ -0,0 +1,116 @@
+package com.project.itda.global.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA + OSIV 환경 라우팅 검증
+ * - 요청 범위 EntityManager 를 바인딩한 상태(OpenEntityManagerInViewInterceptor 와 동일)에서
+ *   readOnly 트랜잭션 뒤의 쓰기 트랜잭션이 주 DB 로 가는지 확인
+ */
+class ReplicaRoutingJpaTest {
+
+    private final JdbcTemplate primary = probe("routing-jpa-primary", "primary");
+    private final JdbcTemplate replica = probe("routing-jpa-replica", "replica");
+
+    private EntityManagerFactory emf;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary.getDataSource(), replica.getDataSource(), () -> true, new ReadYourWritesTracker(0), false);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new LazyConnectionDataSourceProxy(routing));
+        factory.setPackagesToScan(RoutingProbe.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect",
+                AvailableSettings.CONNECTION_HANDLING, ReplicaRoutingConfig.CONNECTION_HANDLING));
+        factory.afterPropertiesSet();
+        emf = factory.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(emf);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(new MockHttpSession());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(emf.createEntityManager()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.unbindResource(emf);
+        holder.getEntityManager().close();
+        RequestContextHolder.resetRequestAttributes();
+        emf.close();
+    }
+
+    @Test
+    void writeAfterReadInSameRequestGoesToPrimary() {
+        // 리포지토리 조회처럼 readOnly 트랜잭션 먼저
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+
+        readWrite.executeWithoutResult(status -> {
+            assertThat(currentNode()).isEqualTo("primary");
+            entityManager().find(RoutingProbe.class, 1L).hit();
+        });
+
+        assertThat(hits(primary)).isEqualTo(1);
+        assertThat(hits(replica)).isZero();
+
+        // 다시 읽기 → 복제본
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return (String) entityManager()
+                .createNativeQuery("SELECT node FROM routing_probe WHERE id = 1")
+                .getSingleResult();
+    }
+
+    private EntityManager entityManager() {
+        return EntityManagerFactoryUtils.getTransactionalEntityManager(emf);
+    }
+
+    private static int hits(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT hits FROM routing_probe WHERE id = 1", Integer.class);
+    }
+
+    private static JdbcTemplate probe(String database, String node) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS routing_probe");
+        jdbc.execute("CREATE TABLE routing_probe (id BIGINT PRIMARY KEY, node VARCHAR(20), hits INT NOT NULL)");
+        jdbc.update("INSERT INTO routing_probe VALUES (1, ?, 0)", node);
+        return jdbc;
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.itda.global.persistence;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 라우팅 검증용 엔티티 (주 DB / 복제본에 각각 node 값이 다른 한 행)
+ */
+@Entity
+@Table(name = "routing_probe")
+public class RoutingProbe {
+
+    @Id
+    private Long id;
+
+    private String node;
+
+    private int hits;
+
+    protected RoutingProbe() {
+    }
+
+    public void hit() {
+        hits++;
+    }
+}
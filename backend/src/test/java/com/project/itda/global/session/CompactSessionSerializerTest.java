@@ -0,0 +1,99 @@
+package com.project.itda.global.session;
+
+import com.project.itda.domain.admin.enums.AdminRole;
+import com.project.itda.domain.auth.dto.SessionUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CompactSessionSerializer 호환성 + 기존 JDK 직렬화 대비 크기 비교
+ */
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer compact = new CompactSessionSerializer(getClass().getClassLoader());
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer(getClass().getClassLoader());
+
+    @Test
+    void roundTripsSessionAttributes() {
+        for (Object value : sessionAttributes().values()) {
+            Object restored = compact.deserialize(compact.serialize(value));
+            if (value instanceof SessionUser user) {
+                SessionUser restoredUser = (SessionUser) restored;
+                assertThat(restoredUser.getUserId()).isEqualTo(user.getUserId());
+                assertThat(restoredUser.getEmail()).isEqualTo(user.getEmail());
+                assertThat(restoredUser.getUsername()).isEqualTo(user.getUsername());
+                assertThat(restoredUser.getNickname()).isEqualTo(user.getNickname());
+                assertThat(restoredUser.getPicture()).isEqualTo(user.getPicture());
+            } else {
+                assertThat(restored).isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    void fallsBackToJdkForOtherTypes() {
+        SecurityContextImpl context = new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+
+        Object restored = compact.deserialize(compact.serialize(context));
+
+        assertThat(restored).isInstanceOf(SecurityContextImpl.class);
+        assertThat(((SecurityContextImpl) restored).getAuthentication().getPrincipal()).isEqualTo(1L);
+    }
+
+    @Test
+    void readsLegacyJdkSerializedValues() {
+        SessionUser user = sessionUser();
+
+        Object restored = compact.deserialize(jdk.serialize(user));
+
+        assertThat(restored).isInstanceOf(SessionUser.class);
+        assertThat(((SessionUser) restored).getUserId()).isEqualTo(user.getUserId());
+    }
+
+    @Test
+    void producesSmallerPayloadThanJdkSerialization() {
+        Map<String, Object> attributes = sessionAttributes();
+
+        int compactBytes = attributes.values().stream().mapToInt(value -> compact.serialize(value).length).sum();
+        int jdkBytes = attributes.values().stream().mapToInt(value -> jdk.serialize(value).length).sum();
+
+        assertThat(compactBytes).isLessThan(jdkBytes);
+    }
+
+    /**
+     * 일반 로그인 후 세션 구성 (AuthController 기준 + Spring Session 메타데이터)
+     */
+    private Map<String, Object> sessionAttributes() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("creationTime", 1_700_000_000_000L);
+        attributes.put("lastAccessedTime", 1_700_000_123_000L);
+        attributes.put("maxInactiveInterval", 1800);
+        attributes.put("sessionAttr:userId", 42L);
+        attributes.put("sessionAttr:email", "user42@it-da.cloud");
+        attributes.put("sessionAttr:username", "홍길동");
+        attributes.put("sessionAttr:nickname", "길동이");
+        attributes.put("sessionAttr:user", sessionUser());
+        attributes.put("sessionAttr:adminRole", AdminRole.MODERATOR);
+        attributes.put("sessionAttr:verified", Boolean.TRUE);
+        return attributes;
+    }
+
+    private SessionUser sessionUser() {
+        return SessionUser.builder()
+                .userId(42L)
+                .email("user42@it-da.cloud")
+                .username("홍길동")
+                .nickname("길동이")
+                .picture("https://api.it-da.cloud/uploads/profile/42.png")
+                .build();
+    }
+}